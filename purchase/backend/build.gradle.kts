@@ -7,8 +7,9 @@ plugins {
 group = "com.example"
 version = "1.0.0"
 
+// 17 by default; -PjavaVersion=21 builds for the virtual-thread runtime (application-virtual.properties)
 java {
-	sourceCompatibility = JavaVersion.VERSION_17
+	sourceCompatibility = JavaVersion.toVersion(project.findProperty("javaVersion") ?: "17")
 }
 
 configurations {
@@ -21,6 +22,23 @@ repositories {
 	mavenCentral()
 }
 
+// JMH benchmarks live in src/jmh/java and see the main classes (and their packages)
+sourceSets {
+	create("jmh") {
+		compileClasspath += sourceSets["main"].output
+		runtimeClasspath += sourceSets["main"].output
+	}
+}
+
+configurations {
+	named("jmhImplementation") {
+		extendsFrom(configurations.implementation.get())
+	}
+	named("jmhRuntimeOnly") {
+		extendsFrom(configurations.runtimeOnly.get())
+	}
+}
+
 dependencies {
 	// ============================================
 	// Spring Boot Starters
@@ -29,11 +47,36 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
 
+	// ============================================
+	// Caching (bounded in-process getById cache)
+	// ============================================
+	implementation("org.springframework.boot:spring-boot-starter-cache")
+	implementation("com.github.ben-manes.caffeine:caffeine")
+
+	// ============================================
+	// Metrics (Actuator + Prometheus scrape endpoint)
+	// ============================================
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+	implementation("org.hibernate.orm:hibernate-micrometer")
+
 	// ============================================
 	// H2 Database (In-Memory Database)
 	// ============================================
 	implementation("com.h2database:h2")
 
+	// ============================================
+	// Reactive reads (R2DBC over the same H2 database)
+	// ============================================
+	implementation("org.springframework:spring-r2dbc")
+	implementation("io.r2dbc:r2dbc-h2")
+	implementation("io.r2dbc:r2dbc-pool")
+
+	// ============================================
+	// Full-text search (embedded Lucene index over names and notes)
+	// ============================================
+	implementation("org.apache.lucene:lucene-core:9.9.1")
+
 	// ============================================
 	// Lombok (Optional - Reduces Boilerplate Code)
 	// ============================================
@@ -54,6 +97,12 @@ dependencies {
 	// Testing
 	// ============================================
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
+
+	// ============================================
+	// Benchmarks (JMH, src/jmh/java)
+	// ============================================
+	"jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+	"jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 }
 
 tasks.withType<Test> {
@@ -69,6 +118,74 @@ tasks.withType<JavaCompile> {
 	options.encoding = "UTF-8"
 }
 
+// Index vs. table-scan query benchmark on embedded H2 (./gradlew queryIndexBenchmark -Prows=1000000)
+tasks.register<JavaExec>("queryIndexBenchmark") {
+	group = "benchmark"
+	description = "Compares repository query shapes with and without the entity indexes"
+	classpath = sourceSets["test"].runtimeClasspath
+	mainClass.set("com.example.purchase.benchmark.QueryIndexBenchmark")
+	args = listOf(project.findProperty("rows")?.toString() ?: "1000000")
+	jvmArgs = listOf("-Xmx2g")
+}
+
+// Request-thread cost of System.out tracing vs. structured async logging (./gradlew loggingBenchmark -Prequests=20000 -Pthreads=16)
+tasks.register<JavaExec>("loggingBenchmark") {
+	group = "benchmark"
+	description = "Compares println tracing with synchronous and asynchronous Logback JSON logging"
+	classpath = sourceSets["test"].runtimeClasspath
+	mainClass.set("com.example.purchase.benchmark.LoggingBenchmark")
+	args = listOf(
+		project.findProperty("requests")?.toString() ?: "20000",
+		project.findProperty("threads")?.toString() ?: "16"
+	)
+}
+
+// PR -> negotiation -> PO workflow load test against a running app; -Prate=0 runs closed loop
+// ./gradlew loadTest [-PbaseUrl=http://localhost:8080] [-Pconcurrency=32] [-Prate=50] [-Pduration=60] [-Preads=2] [-PrejectPercent=10]
+tasks.register<JavaExec>("loadTest") {
+	group = "benchmark"
+	description = "Replays the purchase workflow over HTTP and reports per-step latency percentiles and error rates"
+	classpath = sourceSets["test"].runtimeClasspath
+	mainClass.set("com.example.purchase.benchmark.WorkflowLoadTest")
+	args = listOf(
+		project.findProperty("baseUrl")?.toString() ?: "http://localhost:8080",
+		project.findProperty("concurrency")?.toString() ?: "32",
+		project.findProperty("rate")?.toString() ?: "0",
+		project.findProperty("duration")?.toString() ?: "60",
+		project.findProperty("reads")?.toString() ?: "2",
+		project.findProperty("rejectPercent")?.toString() ?: "10"
+	)
+}
+
+// Platform vs. virtual request threads on the list and workflow endpoints (virtual needs Java 21+)
+// ./gradlew threadModelBenchmark [-Pconcurrency=400] [-Pduration=30]
+tasks.register<JavaExec>("threadModelBenchmark") {
+	group = "benchmark"
+	description = "Compares platform and virtual request threads at high concurrency"
+	classpath = sourceSets["test"].runtimeClasspath
+	mainClass.set("com.example.purchase.benchmark.ThreadModelBenchmark")
+	args = listOf(
+		project.findProperty("concurrency")?.toString() ?: "400",
+		project.findProperty("duration")?.toString() ?: "30"
+	)
+	// Surface pinning in the JDBC path on stdout as well as through JFR
+	jvmArgs = listOf("-Djdk.tracePinnedThreads=short")
+}
+
+// JMH suite; results as JSON for regression tracking
+// ./gradlew jmh [-Pjmh.includes=Mapping] [-Pjmh.args="-p rows=1000 -f 1"]
+tasks.register<JavaExec>("jmh") {
+	group = "benchmark"
+	description = "Runs the JMH benchmarks and writes build/reports/jmh/results.json"
+	classpath = sourceSets["jmh"].runtimeClasspath
+	mainClass.set("org.openjdk.jmh.Main")
+	val resultsFile = layout.buildDirectory.file("reports/jmh/results.json").get().asFile
+	args = listOf(project.findProperty("jmh.includes")?.toString() ?: ".*",
+		"-rf", "json", "-rff", resultsFile.absolutePath) +
+		(project.findProperty("jmh.args")?.toString()?.split(" ")?.filter { it.isNotBlank() } ?: emptyList())
+	doFirst { resultsFile.parentFile.mkdirs() }
+}
+
 // Custom JAR name
 tasks.named<org.springframework.boot.gradle.tasks.bundling.BootJar>("bootJar") {
 	archiveFileName.set("purchase-management-${project.version}.jar")
@@ -0,0 +1,107 @@
+package com.example.purchase.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Summing and converting large sets of order amounts: boxed Double major units (the old entity fields)
+// against primitive long minor units and the Money type. The summary printed on setup shows the
+// drift the double sums pick up over the same amounts.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MoneyAggregationBenchmark {
+
+    private static final double RATE = 83.17;
+
+    @Param({"1000000"})
+    private int size;
+
+    private List<Double> boxedMajor;
+    private long[] minor;
+    private List<Money> money;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7);
+        boxedMajor = new ArrayList<>(size);
+        minor = new long[size];
+        money = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // Amounts with paise, 10.00 to 1,000,000.00
+            long paise = 1_000L + random.nextInt(100_000_000);
+            minor[i] = paise;
+            boxedMajor.add(Money.toMajor(paise));
+            money.add(Money.ofMinor(paise));
+        }
+        System.out.printf("%nsum of %d amounts: double=%s exact=%s%n", size,
+                new BigDecimal(sumBoxedDouble()).toPlainString(), Money.ofMinor(sumLongMinor()));
+    }
+
+    // Before: SUM over boxed Double fields
+    @Benchmark
+    public double sumBoxedDouble() {
+        double total = 0.0;
+        for (Double amount : boxedMajor) {
+            total += amount;
+        }
+        return total;
+    }
+
+    // After: exact sum over primitive minor units
+    @Benchmark
+    public long sumLongMinor() {
+        long total = 0L;
+        for (long amount : minor) {
+            total = Math.addExact(total, amount);
+        }
+        return total;
+    }
+
+    // After, through the Money type (one allocation per step)
+    @Benchmark
+    public Money sumMoney() {
+        Money total = Money.ZERO;
+        for (Money amount : money) {
+            total = total.plus(amount);
+        }
+        return total;
+    }
+
+    // Before: INR to USD conversion of every amount, rounded to the cent through doubles
+    @Benchmark
+    public double convertBoxedDouble() {
+        double total = 0.0;
+        for (Double amount : boxedMajor) {
+            total += Math.round(amount / RATE * 100.0) / 100.0;
+        }
+        return total;
+    }
+
+    // After: the same conversion on minor units
+    @Benchmark
+    public long convertLongMinor() {
+        long total = 0L;
+        for (long amount : minor) {
+            total += Money.divide(amount, RATE);
+        }
+        return total;
+    }
+}
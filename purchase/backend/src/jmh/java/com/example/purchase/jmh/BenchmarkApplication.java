@@ -0,0 +1,110 @@
+package com.example.purchase.jmh;
+
+import com.example.purchase.PurchaseApplication;
+import com.example.purchase.common.BulkInsertTemplate;
+import com.example.purchase.common.BulkResult;
+import com.example.purchase.negotiation.NegotiationDTO;
+import com.example.purchase.negotiation.NegotiationService;
+import com.example.purchase.purchaseorder.PurchaseOrderDTO;
+import com.example.purchase.purchaseorder.PurchaseOrderService;
+import com.example.purchase.purchaserequest.PurchaseRequestDTO;
+import com.example.purchase.purchaserequest.PurchaseRequestService;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+// Boots the real application (no web server) on a private embedded H2 database seeded with
+// `rows` purchase requests, negotiations and purchase orders through the bulk service paths
+public final class BenchmarkApplication {
+
+    public static final String[] STATUSES = {"PENDING", "COMPLETED", "REJECTED"};
+    public static final int ROWS_PER_VENDOR = 50;
+    // Event ids at or above this are free for PRs created during the measurement
+    public static final int FIRST_FREE_EVENT_ID = 100_000_000;
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(int rows) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(PurchaseApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                // Command-line arguments, so they win over application.properties (SQL echo, DEBUG logging)
+                .run("--spring.datasource.url=jdbc:h2:mem:jmh-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework.web=WARN",
+                        "--logging.level.org.hibernate=WARN",
+                        "--logging.level.com.example.purchase=WARN");
+        seed(context, rows);
+        return context;
+    }
+
+    public static int vendors(int rows) {
+        return Math.max(1, rows / ROWS_PER_VENDOR);
+    }
+
+    public static PurchaseRequestDTO purchaseRequest(int eventid, int vendorid) {
+        PurchaseRequestDTO dto = new PurchaseRequestDTO();
+        dto.setEventid(eventid);
+        dto.setEventname("Event " + eventid);
+        dto.setVendorid(vendorid);
+        dto.setVendorname("Vendor " + vendorid);
+        dto.setCdsid("user" + eventid % 200);
+        dto.setRequestdate(new Date());
+        dto.setAllocatedamount(10_000.0 + eventid % 90_000);
+        dto.setPrstatus("PENDING");
+        return dto;
+    }
+
+    private static void seed(ConfigurableApplicationContext context, int rows) {
+        PurchaseRequestService purchaseRequests = context.getBean(PurchaseRequestService.class);
+        NegotiationService negotiations = context.getBean(NegotiationService.class);
+        PurchaseOrderService purchaseOrders = context.getBean(PurchaseOrderService.class);
+        int vendors = vendors(rows);
+
+        inBatches(rows, i -> purchaseRequest(i, i % vendors), purchaseRequests::createPurchaseRequests);
+        inBatches(rows, i -> {
+            NegotiationDTO dto = new NegotiationDTO();
+            dto.setEventid(i);
+            dto.setVendorid(i % vendors);
+            dto.setCdsid("user" + i % 200);
+            dto.setNegotiationdate(new Date());
+            dto.setInitialquoteamount(10_000.0 + i % 90_000);
+            dto.setFinalamount(9_000.0 + i % 90_000);
+            dto.setNegotiationstatus("Pending");
+            return dto;
+        }, negotiations::createNegotiations);
+        inBatches(rows, i -> {
+            PurchaseOrderDTO dto = new PurchaseOrderDTO();
+            dto.setEventid(i);
+            dto.setVendorid(i % vendors);
+            dto.setCdsid("user" + i % 200);
+            dto.setOrderdate(new Date());
+            dto.setOrderamountINR(10_000.0 + i % 90_000);
+            dto.setPO_status(STATUSES[i % STATUSES.length]);
+            return dto;
+        }, purchaseOrders::createPurchaseOrders);
+    }
+
+    private static <D> void inBatches(int rows, Function<Integer, D> row, Function<List<D>, BulkResult> insert) {
+        for (int start = 1; start <= rows; start += BulkInsertTemplate.MAX_ROWS) {
+            List<D> batch = new ArrayList<>();
+            for (int i = start; i < Math.min(start + BulkInsertTemplate.MAX_ROWS, rows + 1); i++) {
+                batch.add(row.apply(i));
+            }
+            BulkResult result = insert.apply(batch);
+            if (result.getFailed() > 0) {
+                throw new IllegalStateException("Seeding failed for " + result.getFailed() + " rows");
+            }
+        }
+    }
+}
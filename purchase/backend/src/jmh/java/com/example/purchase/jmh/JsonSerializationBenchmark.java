@@ -0,0 +1,63 @@
+package com.example.purchase.jmh;
+
+import com.example.purchase.purchaseorder.PurchaseOrderDTO;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+// Jackson serialization of PurchaseOrderDTO lists as the list endpoints produce them
+// (same settings as spring.jackson.* in application.properties)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<PurchaseOrderDTO> orders;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new Jackson2ObjectMapperBuilder()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .timeZone(TimeZone.getTimeZone("UTC"))
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build();
+        orders = new ArrayList<>(size);
+        Date now = new Date();
+        for (int i = 1; i <= size; i++) {
+            orders.add(new PurchaseOrderDTO(i, 1_000 + i, "Event " + i, i % 50, "Vendor " + i % 50,
+                    "user" + i % 200, now, 8_300_000L + i * 100L, 100_000L + Math.round(i * 100 / 83.0),
+                    BenchmarkApplication.STATUSES[i % BenchmarkApplication.STATUSES.length], i, i));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(orders);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.purchase.jmh;
+
+import com.example.purchase.purchaseorder.PurchaseOrderDTO;
+import com.example.purchase.purchaseorder.PurchaseOrderRepository;
+import com.example.purchase.purchaseorder.PurchaseOrderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Big list reads in a read-write vs. a read-only transaction. Read-write loads keep a dirty-checking
+// snapshot per entity and flush (walking every managed entity) at commit; read-only sessions skip both.
+// Time per call is the CPU side; run with -prof gc (./gradlew jmh -Pjmh.includes=ReadOnly
+// -Pjmh.args="-prof gc") for the heap side, gc.alloc.rate.norm bytes per call.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ReadOnlyTransactionBenchmark {
+
+    @Param({"10000", "50000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private PurchaseOrderRepository purchaseOrders;
+    private PurchaseOrderService purchaseOrderService;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start(rows);
+        purchaseOrders = context.getBean(PurchaseOrderRepository.class);
+        purchaseOrderService = context.getBean(PurchaseOrderService.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // Managed entities: snapshots and the flush-time dirty check scale with the list
+    @Benchmark
+    public int entityListReadWrite() {
+        return readWrite.execute(status -> purchaseOrders.findAll().size());
+    }
+
+    @Benchmark
+    public int entityListReadOnly() {
+        return readOnly.execute(status -> purchaseOrders.findAll().size());
+    }
+
+    // DTO projections (what the list endpoints return): no snapshots either way, only the flush differs
+    @Benchmark
+    public List<PurchaseOrderDTO> dtoListReadWrite() {
+        return readWrite.execute(status -> purchaseOrders.findAllDTOs());
+    }
+
+    // GET /api/purchase-orders as served, through the service's read-only transaction
+    @Benchmark
+    public List<PurchaseOrderDTO> dtoListService() {
+        return purchaseOrderService.getAllPurchaseOrders();
+    }
+}
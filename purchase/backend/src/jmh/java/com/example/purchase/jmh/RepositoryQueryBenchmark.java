@@ -0,0 +1,119 @@
+package com.example.purchase.jmh;
+
+import com.example.purchase.negotiation.NegotiationDTO;
+import com.example.purchase.negotiation.NegotiationRepository;
+import com.example.purchase.purchaseorder.PurchaseOrderDTO;
+import com.example.purchase.purchaseorder.PurchaseOrderRepository;
+import com.example.purchase.purchaserequest.PurchaseRequestDTO;
+import com.example.purchase.purchaserequest.PurchaseRequestRepository;
+import com.example.purchase.purchaserequest.Status;
+import com.example.purchase.vendorspend.VendorSpendRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Repository queries behind the list, page, lookup and spend endpoints, at several table sizes.
+// Keys are randomized per call so H2 cannot answer from a cached result.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RepositoryQueryBenchmark {
+
+    private static final PageRequest PAGE = PageRequest.of(0, 51);
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private PurchaseOrderRepository purchaseOrders;
+    private PurchaseRequestRepository purchaseRequests;
+    private NegotiationRepository negotiations;
+    private VendorSpendRepository vendorSpend;
+    private int vendors;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start(rows);
+        purchaseOrders = context.getBean(PurchaseOrderRepository.class);
+        purchaseRequests = context.getBean(PurchaseRequestRepository.class);
+        negotiations = context.getBean(NegotiationRepository.class);
+        vendorSpend = context.getBean(VendorSpendRepository.class);
+        vendors = BenchmarkApplication.vendors(rows);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<PurchaseOrderDTO> purchaseOrderById() {
+        return purchaseOrders.findDTOById(1 + ThreadLocalRandom.current().nextInt(rows));
+    }
+
+    @Benchmark
+    public List<PurchaseOrderDTO> purchaseOrdersByVendor() {
+        return purchaseOrders.findByVendorid(ThreadLocalRandom.current().nextInt(vendors));
+    }
+
+    @Benchmark
+    public List<PurchaseOrderDTO> purchaseOrdersKeysetPage() {
+        return purchaseOrders.findPage(ThreadLocalRandom.current().nextInt(rows), PAGE);
+    }
+
+    @Benchmark
+    public long purchaseOrdersCountByStatus() {
+        String status = BenchmarkApplication.STATUSES[ThreadLocalRandom.current().nextInt(3)];
+        return purchaseOrders.countByStatus(status);
+    }
+
+    // Full SUM over purchase_order vs. the maintained vendor_spend aggregate
+    @Benchmark
+    public Long vendorTotalScan() {
+        return purchaseOrders.getTotalOrderAmountByVendor(ThreadLocalRandom.current().nextInt(vendors));
+    }
+
+    @Benchmark
+    public Long vendorTotalAggregate() {
+        return vendorSpend.getTotalINRByVendor(ThreadLocalRandom.current().nextInt(vendors));
+    }
+
+    @Benchmark
+    public List<PurchaseRequestDTO> purchaseRequestsByVendor() {
+        return purchaseRequests.findByVendorid(ThreadLocalRandom.current().nextInt(vendors));
+    }
+
+    @Benchmark
+    public List<PurchaseRequestDTO> purchaseRequestsPendingPage() {
+        return purchaseRequests.findPageByPrstatus(Status.PENDING, ThreadLocalRandom.current().nextInt(rows), PAGE);
+    }
+
+    @Benchmark
+    public List<NegotiationDTO> negotiationsByVendor() {
+        return negotiations.findByVendorid(ThreadLocalRandom.current().nextInt(vendors));
+    }
+
+    @Benchmark
+    public List<NegotiationDTO> negotiationsWithSavingsPage() {
+        return negotiations.findPageWithSavings(ThreadLocalRandom.current().nextInt(rows), PAGE);
+    }
+}
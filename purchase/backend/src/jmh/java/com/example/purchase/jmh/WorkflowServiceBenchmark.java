@@ -0,0 +1,106 @@
+package com.example.purchase.jmh;
+
+import com.example.purchase.negotiation.NegotiationDTO;
+import com.example.purchase.negotiation.NegotiationService;
+import com.example.purchase.purchaserequest.PurchaseRequestDTO;
+import com.example.purchase.purchaserequest.PurchaseRequestService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+// Full service calls of the PR -> negotiation -> PO workflow, through the Spring proxies
+// (transactions, retries, caches, vendor spend) on top of a table of `rows` existing records.
+// Each invocation works on fresh rows prepared outside the measured call.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class WorkflowServiceBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Application {
+
+        @Param({"1000", "10000", "100000"})
+        public int rows;
+
+        ConfigurableApplicationContext context;
+        PurchaseRequestService purchaseRequests;
+        NegotiationService negotiations;
+        int vendors;
+        int nextEventId = BenchmarkApplication.FIRST_FREE_EVENT_ID;
+
+        @Setup
+        public void setUp() {
+            context = BenchmarkApplication.start(rows);
+            purchaseRequests = context.getBean(PurchaseRequestService.class);
+            negotiations = context.getBean(NegotiationService.class);
+            vendors = BenchmarkApplication.vendors(rows);
+        }
+
+        @TearDown
+        public void tearDown() {
+            context.close();
+        }
+
+        PurchaseRequestDTO newPurchaseRequest() {
+            int eventid = nextEventId++;
+            return BenchmarkApplication.purchaseRequest(eventid, eventid % vendors);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class PendingPurchaseRequest {
+        Integer prid;
+
+        @Setup(Level.Invocation)
+        public void create(Application app) {
+            prid = app.purchaseRequests.createPurchaseRequest(app.newPurchaseRequest()).getPrid();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class PendingNegotiation {
+        Integer negotiationid;
+        NegotiationDTO completion;
+
+        @Setup(Level.Invocation)
+        public void create(Application app) {
+            Integer prid = app.purchaseRequests.createPurchaseRequest(app.newPurchaseRequest()).getPrid();
+            negotiationid = app.negotiations.createNegotiationFromPR(prid).getNegotiationid();
+            completion = new NegotiationDTO();
+            completion.setFinalamount(9_500.0);
+            completion.setNegotiationstatus("Completed");
+        }
+    }
+
+    @Benchmark
+    public PurchaseRequestDTO createPurchaseRequest(Application app) {
+        return app.purchaseRequests.createPurchaseRequest(app.newPurchaseRequest());
+    }
+
+    @Benchmark
+    public NegotiationDTO createNegotiationFromPR(Application app, PendingPurchaseRequest pending) {
+        return app.negotiations.createNegotiationFromPR(pending.prid);
+    }
+
+    // Completing the negotiation queues the PR approval and purchase order creation on the outbox;
+    // CascadeDispatcher applies them off the measured call
+    @Benchmark
+    public NegotiationDTO completeNegotiationWithAutoPO(Application app, PendingNegotiation pending) {
+        return app.negotiations.updateNegotiation(pending.negotiationid, pending.completion);
+    }
+}
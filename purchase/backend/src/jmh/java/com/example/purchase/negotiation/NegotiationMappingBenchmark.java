@@ -0,0 +1,65 @@
+package com.example.purchase.negotiation;
+
+import com.example.purchase.common.Money;
+import com.example.purchase.purchaserequest.PurchaseRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// Entity <-> DTO mapping in NegotiationService
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class NegotiationMappingBenchmark {
+
+    private final NegotiationService service = new NegotiationService();
+    private Negotiation entity;
+    private NegotiationDTO dto;
+
+    @Setup
+    public void setUp() {
+        PurchaseRequest pr = new PurchaseRequest();
+        pr.setPrid(7);
+        entity = new Negotiation();
+        entity.setNegotiationid(11);
+        entity.setEventid(1001);
+        entity.setEventname("Annual Summit");
+        entity.setVendorid(17);
+        entity.setVendorname("Acme Supplies");
+        entity.setCdsid("jdoe");
+        entity.setNegotiationdate(new Date());
+        entity.setInitialquoteamount(Money.ofMajor(83_000.0));
+        entity.setFinalamount(Money.ofMajor(79_500.0));
+        entity.setNegotiationstatus("Pending");
+        entity.setNotes("Second round");
+        entity.setPurchaseRequest(pr);
+        // No prid: the mapper would otherwise load the PR through the repository
+        dto = service.convertToDTO(entity);
+        dto.setPrid(null);
+    }
+
+    @Benchmark
+    public NegotiationDTO convertToDTO() {
+        return service.convertToDTO(entity);
+    }
+
+    @Benchmark
+    public Negotiation mapDTOToEntity() {
+        Negotiation negotiation = new Negotiation();
+        service.mapDTOToEntity(dto, negotiation);
+        return negotiation;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.purchase.purchaseorder;
+
+import com.example.purchase.common.Money;
+import com.example.purchase.negotiation.Negotiation;
+import com.example.purchase.purchaserequest.PurchaseRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// Entity <-> DTO mapping in PurchaseOrderService (no Spring context; the mappers only touch the objects)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PurchaseOrderMappingBenchmark {
+
+    private final PurchaseOrderService service = new PurchaseOrderService();
+    private PurchaseOrder entity;
+    private PurchaseOrderDTO dto;
+
+    @Setup
+    public void setUp() {
+        PurchaseRequest pr = new PurchaseRequest();
+        pr.setPrid(7);
+        Negotiation negotiation = new Negotiation();
+        negotiation.setNegotiationid(11);
+        entity = new PurchaseOrder();
+        entity.setPO_id(42);
+        entity.setEventid(1001);
+        entity.setEventname("Annual Summit");
+        entity.setVendorid(17);
+        entity.setVendorname("Acme Supplies");
+        entity.setCdsid("jdoe");
+        entity.setOrderdate(new Date());
+        entity.setOrderamountINR(Money.ofMajor(83_000.0));
+        entity.setOrderamountdollar(Money.ofMajor(1_000.0));
+        entity.setPO_status("PENDING");
+        entity.setpurchaserequest(pr);
+        entity.setnegotiation(negotiation);
+        // No prid / negotiationid: the mapper would otherwise load them through the repositories
+        dto = service.convertToDTO(entity);
+        dto.setPrid(null);
+        dto.setNegotiationid(null);
+    }
+
+    @Benchmark
+    public PurchaseOrderDTO convertToDTO() {
+        return service.convertToDTO(entity);
+    }
+
+    @Benchmark
+    public PurchaseOrder mapDTOToEntity() {
+        PurchaseOrder po = new PurchaseOrder();
+        service.mapDTOToEntity(dto, po);
+        return po;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.purchase.purchaserequest;
+
+import com.example.purchase.common.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// Entity <-> DTO mapping in PurchaseRequestService, including the Status enum round trip
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PurchaseRequestMappingBenchmark {
+
+    private final PurchaseRequestService service = new PurchaseRequestService();
+    private PurchaseRequest entity;
+    private PurchaseRequestDTO dto;
+
+    @Setup
+    public void setUp() {
+        entity = new PurchaseRequest();
+        entity.setPrid(7);
+        entity.setEventid(1001);
+        entity.setEventname("Annual Summit");
+        entity.setVendorid(17);
+        entity.setVendorname("Acme Supplies");
+        entity.setCdsid("jdoe");
+        entity.setRequestdate(new Date());
+        entity.setAllocatedamount(Money.ofMajor(83_000.0));
+        entity.setPrstatus(Status.PENDING);
+        dto = service.convertToDTO(entity);
+    }
+
+    @Benchmark
+    public PurchaseRequestDTO convertToDTO() {
+        return service.convertToDTO(entity);
+    }
+
+    @Benchmark
+    public PurchaseRequest mapDTOToEntity() {
+        PurchaseRequest pr = new PurchaseRequest();
+        service.mapDTOToEntity(dto, pr);
+        return pr;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.purchase.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/cache")
+@Tag(name = "Cache", description = "getById cache statistics")
+public class CacheStatsController {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get size, hit/miss and eviction counts per cache")
+    public ResponseEntity<Map<String, Map<String, Object>>> getStats() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (!(cache instanceof CaffeineCache caffeineCache)) {
+                continue;
+            }
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+            CacheStats stats = nativeCache.stats();
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("size", nativeCache.estimatedSize());
+            entry.put("hits", stats.hitCount());
+            entry.put("misses", stats.missCount());
+            entry.put("hitRate", stats.hitRate());
+            entry.put("evictions", stats.evictionCount());
+            result.put(name, entry);
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    @DeleteMapping
+    @Operation(summary = "Clear all getById caches")
+    public ResponseEntity<Void> clear() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        return ResponseEntity.noContent().build();
+    }
+}
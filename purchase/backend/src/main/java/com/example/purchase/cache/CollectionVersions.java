@@ -0,0 +1,41 @@
+package com.example.purchase.cache;
+
+import com.example.purchase.config.CacheConfig;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Monotonic per-collection change counters behind ETags and the serialized-response cache.
+// The epoch keeps tags from one run (and its in-memory database) from matching the next.
+@Component
+public class CollectionVersions {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final Map<String, AtomicLong> versions = Map.of(
+            CacheConfig.PURCHASE_ORDERS, new AtomicLong(),
+            CacheConfig.PURCHASE_REQUESTS, new AtomicLong(),
+            CacheConfig.NEGOTIATIONS, new AtomicLong());
+
+    public long current(String collection) {
+        return counter(collection).get();
+    }
+
+    public void bump(String collection) {
+        counter(collection).incrementAndGet();
+    }
+
+    // Strong validator for every representation of the collection at the given version
+    public String etag(String collection, long version) {
+        return "\"" + collection + "-" + epoch + "-" + version + "\"";
+    }
+
+    private AtomicLong counter(String collection) {
+        AtomicLong counter = versions.get(collection);
+        if (counter == null) {
+            throw new IllegalArgumentException("Unknown collection: " + collection);
+        }
+        return counter;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.purchase.cache;
+
+import com.example.purchase.config.CacheConfig;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Map;
+
+// Conditional GET for the three collections. ETags are derived from the collection version, so a
+// matching If-None-Match is answered 304 before the controller runs (no query, no Jackson), and
+// an unchanged collection is served from SerializedResponseCache.
+@Component
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private static final Map<String, String> COLLECTIONS = Map.of(
+            "/api/purchase-orders", CacheConfig.PURCHASE_ORDERS,
+            "/api/purchase-requests", CacheConfig.PURCHASE_REQUESTS,
+            "/api/negotiations", CacheConfig.NEGOTIATIONS);
+
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    @Autowired
+    private SerializedResponseCache responseCache;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws Exception {
+        String collection = collectionOf(request);
+        if (!"GET".equals(request.getMethod()) || collection == null) {
+            return true;
+        }
+        // Read the version before the data: a concurrent write can only make the body newer than its tag
+        long version = collectionVersions.current(collection);
+        String etag = collectionVersions.etag(collection, version);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return false;
+        }
+
+        String key = cacheKey(request);
+        SerializedResponseCache.Entry cached = responseCache.get(key, version);
+        if (cached != null) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setContentType(cached.getContentType());
+            response.setContentLength(cached.getBody().length);
+            response.getOutputStream().write(cached.getBody());
+            return false;
+        }
+
+        request.setAttribute(SerializedResponseCache.KEY_ATTRIBUTE, key);
+        request.setAttribute(SerializedResponseCache.VERSION_ATTRIBUTE, version);
+        request.setAttribute(SerializedResponseCache.ETAG_ATTRIBUTE, etag);
+        return true;
+    }
+
+    static String collectionOf(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Map.Entry<String, String> entry : COLLECTIONS.entrySet()) {
+            if (path.equals(entry.getKey()) || path.startsWith(entry.getKey() + "/")) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static String cacheKey(HttpServletRequest request) {
+        String query = request.getQueryString();
+        return query == null ? request.getRequestURI() : request.getRequestURI() + "?" + query;
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.purchase.cache;
+
+import com.example.purchase.config.CacheConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+// Evicts cached getById DTOs and bumps the collection version (ETags, serialized lists).
+// Both happen immediately and again after commit, so a concurrent reader that reloads the
+// old rows before our commit cannot leave them cached under the new version.
+@Component
+public class EntityCacheInvalidator {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    public void evictPurchaseOrder(Integer id) {
+        evict(CacheConfig.PURCHASE_ORDERS, id);
+    }
+
+    public void evictPurchaseRequest(Integer id) {
+        evict(CacheConfig.PURCHASE_REQUESTS, id);
+    }
+
+    public void evictNegotiation(Integer id) {
+        evict(CacheConfig.NEGOTIATIONS, id);
+    }
+
+    public void evictPurchaseOrders(Collection<Integer> ids) {
+        List<Integer> copy = List.copyOf(ids);
+        run(() -> {
+            copy.forEach(id -> evictNow(CacheConfig.PURCHASE_ORDERS, id));
+            collectionVersions.bump(CacheConfig.PURCHASE_ORDERS);
+        });
+    }
+
+    public void evictPurchaseRequests(Collection<Integer> ids) {
+        List<Integer> copy = List.copyOf(ids);
+        run(() -> {
+            copy.forEach(id -> evictNow(CacheConfig.PURCHASE_REQUESTS, id));
+            collectionVersions.bump(CacheConfig.PURCHASE_REQUESTS);
+        });
+    }
+
+    // Rows were inserted: nothing cached by id to evict, but lists are stale
+    public void collectionChanged(String cacheName) {
+        run(() -> collectionVersions.bump(cacheName));
+    }
+
+    // For set-based writes whose affected ids are not known without another query
+    public void clear(String cacheName) {
+        run(() -> {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+            collectionVersions.bump(cacheName);
+        });
+    }
+
+    private void evict(String cacheName, Integer id) {
+        if (id != null) {
+            run(() -> {
+                evictNow(cacheName, id);
+                collectionVersions.bump(cacheName);
+            });
+        }
+    }
+
+    private void evictNow(String cacheName, Integer id) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(id);
+        }
+    }
+
+    private static void run(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.purchase.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+// Buffers collection GET responses so a 200 gets its ETag and its bytes land in SerializedResponseCache
+@Component
+public class ResponseCaptureFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private SerializedResponseCache responseCache;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Streamed exports must not be buffered
+        return !"GET".equals(request.getMethod()) || ConditionalGetInterceptor.collectionOf(request) == null
+                || request.getRequestURI().endsWith("/export");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, wrapper);
+            String key = (String) request.getAttribute(SerializedResponseCache.KEY_ATTRIBUTE);
+            if (key != null && wrapper.getStatus() == HttpServletResponse.SC_OK) {
+                wrapper.setHeader(HttpHeaders.ETAG, (String) request.getAttribute(SerializedResponseCache.ETAG_ATTRIBUTE));
+                String contentType = wrapper.getContentType();
+                if (contentType != null && contentType.contains("json")) {
+                    responseCache.put(key, (Long) request.getAttribute(SerializedResponseCache.VERSION_ATTRIBUTE),
+                            contentType, wrapper.getContentAsByteArray());
+                }
+            }
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+}
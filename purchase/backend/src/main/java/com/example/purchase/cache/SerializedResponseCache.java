@@ -0,0 +1,54 @@
+package com.example.purchase.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Already-serialized JSON bodies per URL, valid only while their collection version is current
+@Component
+public class SerializedResponseCache {
+
+    // Request attributes handed from ConditionalGetInterceptor to ResponseCaptureFilter
+    static final String KEY_ATTRIBUTE = SerializedResponseCache.class.getName() + ".key";
+    static final String VERSION_ATTRIBUTE = SerializedResponseCache.class.getName() + ".version";
+    static final String ETAG_ATTRIBUTE = SerializedResponseCache.class.getName() + ".etag";
+
+    private final Cache<String, Entry> entries;
+
+    public SerializedResponseCache(@Value("${response-cache.max-bytes:33554432}") long maxBytes) {
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, Entry entry) -> entry.body.length + key.length())
+                .build();
+    }
+
+    public Entry get(String key, long version) {
+        Entry entry = entries.getIfPresent(key);
+        return entry != null && entry.version == version ? entry : null;
+    }
+
+    public void put(String key, long version, String contentType, byte[] body) {
+        entries.put(key, new Entry(version, contentType, body));
+    }
+
+    public static final class Entry {
+        private final long version;
+        private final String contentType;
+        private final byte[] body;
+
+        private Entry(long version, String contentType, byte[] body) {
+            this.version = version;
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.purchase.changefeed;
+
+// One committed status change, as pushed on /api/changes. fromStatus is absent for "created",
+// toStatus for "deleted"; version is the row version after the change (absent for "deleted").
+public class ChangeEvent {
+
+    public static final String PURCHASE_REQUEST = "purchaseRequest";
+    public static final String NEGOTIATION = "negotiation";
+    public static final String PURCHASE_ORDER = "purchaseOrder";
+
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String DELETED = "deleted";
+
+    private String id;
+    private final String type;
+    private final Integer entityId;
+    private final String change;
+    private final String fromStatus;
+    private final String toStatus;
+    private final Long version;
+
+    public ChangeEvent(String type, Integer entityId, String change, String fromStatus, String toStatus, Long version) {
+        this.type = type;
+        this.entityId = entityId;
+        this.change = change;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.version = version;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    // Assigned by ChangeFeed when the event is published (after commit)
+    void setId(String id) {
+        this.id = id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Integer getEntityId() {
+        return entityId;
+    }
+
+    public String getChange() {
+        return change;
+    }
+
+    public String getFromStatus() {
+        return fromStatus;
+    }
+
+    public String getToStatus() {
+        return toStatus;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,292 @@
+package com.example.purchase.changefeed;
+
+import com.example.purchase.common.IdStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Committed status changes fanned out to SSE subscribers (/api/changes).
+//
+// Events are buffered per transaction and published only after commit, so rolled-back and retried
+// attempts never reach clients. Each published event is serialized once into a shared ring of the
+// last change-feed.replay-size frames; a subscriber is just a cursor into that ring, so per-client
+// memory is constant and replay from Last-Event-ID is a cursor rewind. A client that falls further
+// behind than the ring (slow reader, or reconnecting too late) gets a "reset" event telling it to
+// refetch, and continues from the head. Writes run on a small sender pool, one drain per subscriber
+// at a time.
+@Component
+public class ChangeFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeed.class);
+
+    // Event ids are "<epoch>-<sequence>"; a Last-Event-ID from a previous run (and database) resets
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Value("${change-feed.replay-size:10000}")
+    private int replaySize;
+
+    @Value("${change-feed.max-subscribers:500}")
+    private int maxSubscribers;
+
+    @Value("${change-feed.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${change-feed.sender-threads:4}")
+    private int senderThreads;
+
+    private final Object publishLock = new Object();
+    // Sequence the next published event gets; sequences start at 1
+    private final AtomicLong head = new AtomicLong(1);
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private AtomicReferenceArray<Frame> ring;
+    private ExecutorService sender;
+    private Counter published;
+    private Counter resets;
+
+    @PostConstruct
+    void init() {
+        ring = new AtomicReferenceArray<>(replaySize);
+        AtomicInteger threadCount = new AtomicInteger();
+        sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "change-feed-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        published = Counter.builder("purchase.changefeed.events")
+                .description("Status change events published after commit")
+                .register(registry);
+        resets = Counter.builder("purchase.changefeed.resets")
+                .description("Subscribers told to refetch because their position left the replay window")
+                .register(registry);
+        Gauge.builder("purchase.changefeed.subscribers", subscribers, Set::size)
+                .description("Open change feed connections")
+                .register(registry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        sender.shutdownNow();
+    }
+
+    // Queue an event for publication when the surrounding transaction commits
+    public void record(ChangeEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(List.of(event));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<ChangeEvent> pending = (List<ChangeEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<ChangeEvent> events = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, events);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ChangeFeed.this);
+                    if (status == STATUS_COMMITTED) {
+                        publish(events);
+                    }
+                }
+            });
+            pending = events;
+        }
+        pending.add(event);
+    }
+
+    // Set-based UPDATEs bypass the Hibernate events: diff the row state read back after the UPDATE
+    // against the statuses read before it
+    public void recordBulkTransitions(String type, Map<Integer, String> statusBefore, List<IdStatus> after) {
+        for (IdStatus row : after) {
+            String from = statusBefore.get(row.getId());
+            if (!Objects.equals(from, row.getStatus())) {
+                record(new ChangeEvent(type, row.getId(), ChangeEvent.UPDATED, from, row.getStatus(), row.getVersion()));
+            }
+        }
+    }
+
+    private void publish(List<ChangeEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        synchronized (publishLock) {
+            for (ChangeEvent event : events) {
+                long sequence = head.get();
+                event.setId(eventId(sequence));
+                ring.set(slot(sequence), new Frame(sequence, event.getType(), SseEmitter.event()
+                        .id(event.getId())
+                        .name("change")
+                        .data(toJson(event), MediaType.APPLICATION_JSON)
+                        .build()));
+                head.incrementAndGet();
+            }
+        }
+        published.increment(events.size());
+        subscribers.forEach(this::schedule);
+    }
+
+    // Open a subscription; null when the subscriber limit is reached. Without lastEventId the
+    // stream starts at the head; with one it replays everything after it that is still in the ring.
+    public SseEmitter subscribe(String lastEventId, Set<String> types) {
+        if (subscribers.size() >= maxSubscribers) {
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, types);
+        if (lastEventId == null || lastEventId.isBlank()) {
+            subscriber.cursor = head.get();
+        } else {
+            Long after = parseSequence(lastEventId);
+            subscriber.cursor = after != null && after < head.get() ? after + 1 : -1;
+        }
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        schedule(subscriber);
+        return emitter;
+    }
+
+    // Comment lines keep idle connections (and proxies) alive and surface dead clients
+    @Scheduled(fixedDelayString = "${change-feed.heartbeat-ms:15000}")
+    void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatDue = true;
+            schedule(subscriber);
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    // Only one drain per subscriber runs at a time (the scheduled flag), so the cursor needs no lock
+    private void drain(Subscriber subscriber) {
+        try {
+            while (true) {
+                if (subscriber.heartbeatDue) {
+                    subscriber.heartbeatDue = false;
+                    subscriber.emitter.send(SseEmitter.event().comment("keep-alive").build());
+                }
+                long end = head.get();
+                while (subscriber.cursor < end) {
+                    Frame frame = subscriber.cursor < 0 ? null : ring.get(slot(subscriber.cursor));
+                    if (frame == null || frame.sequence != subscriber.cursor) {
+                        // Requested position is gone (overwritten, unknown epoch, or never existed)
+                        resets.increment();
+                        subscriber.cursor = end;
+                        subscriber.emitter.send(SseEmitter.event().id(eventId(end - 1)).name("reset")
+                                .data("{\"reason\":\"replay window exceeded\"}", MediaType.APPLICATION_JSON).build());
+                        break;
+                    }
+                    subscriber.cursor++;
+                    if (subscriber.types == null || subscriber.types.contains(frame.type)) {
+                        subscriber.emitter.send(frame.data);
+                    }
+                }
+                subscriber.scheduled.set(false);
+                if ((head.get() == subscriber.cursor && !subscriber.heartbeatDue)
+                        || !subscriber.scheduled.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away (or the emitter already completed)
+            subscribers.remove(subscriber);
+            subscriber.scheduled.set(false);
+            log.debug("changeFeed.subscriberClosed reason={}", e.getMessage());
+        }
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % replaySize);
+    }
+
+    private String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    private Long parseSequence(String eventId) {
+        String prefix = epoch + "-";
+        if (!eventId.startsWith(prefix)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(eventId.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String toJson(ChangeEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize change event", e);
+        }
+    }
+
+    // Serialized once, shared by every subscriber
+    private static final class Frame {
+        private final long sequence;
+        private final String type;
+        private final Set<ResponseBodyEmitter.DataWithMediaType> data;
+
+        private Frame(long sequence, String type, Set<ResponseBodyEmitter.DataWithMediaType> data) {
+            this.sequence = sequence;
+            this.type = type;
+            this.data = data;
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Set<String> types;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean heartbeatDue = true;
+        // Next sequence to send; -1 forces a reset
+        private long cursor;
+
+        private Subscriber(SseEmitter emitter, Set<String> types) {
+            this.emitter = emitter;
+            this.types = types;
+        }
+    }
+}
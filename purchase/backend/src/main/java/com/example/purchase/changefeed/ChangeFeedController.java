@@ -0,0 +1,53 @@
+package com.example.purchase.changefeed;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/changes")
+@Tag(name = "Change Feed", description = "Server-Sent Events for committed status changes")
+public class ChangeFeedController {
+
+    private static final Set<String> TYPES = Set.of(
+            ChangeEvent.PURCHASE_REQUEST, ChangeEvent.NEGOTIATION, ChangeEvent.PURCHASE_ORDER);
+
+    @Autowired
+    private ChangeFeed changeFeed;
+
+    // EventSource resends the last seen id in the Last-Event-ID header when it reconnects;
+    // lastEventId covers the first connection of a client that kept its position elsewhere
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Subscribe to status changes (\"change\" events; \"reset\" means refetch)")
+    public ResponseEntity<SseEmitter> subscribe(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(required = false) @Parameter(description = "Resume after this event id") String lastEventId,
+            @RequestParam(required = false)
+            @Parameter(description = "Comma-separated types (purchaseRequest, negotiation, purchaseOrder); default all")
+            String types) {
+        Set<String> typeFilter = null;
+        if (types != null && !types.isBlank()) {
+            typeFilter = Arrays.stream(types.split(",")).map(String::trim).collect(Collectors.toSet());
+            if (!TYPES.containsAll(typeFilter)) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+        SseEmitter emitter = changeFeed.subscribe(lastEventIdHeader != null ? lastEventIdHeader : lastEventId, typeFilter);
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
+        }
+        // Keep reverse proxies from buffering the stream
+        return ResponseEntity.ok().header("X-Accel-Buffering", "no").body(emitter);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.purchase.changefeed;
+
+import com.example.purchase.negotiation.Negotiation;
+import com.example.purchase.purchaseorder.PurchaseOrder;
+import com.example.purchase.purchaserequest.PurchaseRequest;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+
+// Feeds ChangeFeed from Hibernate's entity events, so every entity write path (single updates,
+// cascades such as cascadeRejection and updateNegotiation, the auto-created PO, bulk inserts,
+// deletes) is covered without per-call publishing. Set-based bulk UPDATEs bypass these events and
+// record their changes explicitly.
+@Component
+public class StatusChangeListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    // Feed type and status attribute per tracked entity
+    private static final Map<Class<?>, String[]> TRACKED = Map.of(
+            PurchaseRequest.class, new String[] {ChangeEvent.PURCHASE_REQUEST, "prstatus"},
+            Negotiation.class, new String[] {ChangeEvent.NEGOTIATION, "negotiationstatus"},
+            PurchaseOrder.class, new String[] {ChangeEvent.PURCHASE_ORDER, "PO_status"});
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ChangeFeed changeFeed;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry listeners = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        listeners.appendListeners(EventType.POST_INSERT, this);
+        listeners.appendListeners(EventType.POST_UPDATE, this);
+        listeners.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        String[] tracked = TRACKED.get(event.getPersister().getMappedClass());
+        if (tracked != null) {
+            EntityPersister persister = event.getPersister();
+            changeFeed.record(new ChangeEvent(tracked[0], (Integer) event.getId(), ChangeEvent.CREATED, null,
+                    status(persister, event.getState(), tracked[1]), version(persister, event.getState())));
+        }
+    }
+
+    // Only status transitions are published; other edits also bump the version but are not pushed
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        String[] tracked = TRACKED.get(event.getPersister().getMappedClass());
+        if (tracked == null) {
+            return;
+        }
+        EntityPersister persister = event.getPersister();
+        String to = status(persister, event.getState(), tracked[1]);
+        String from = event.getOldState() != null ? status(persister, event.getOldState(), tracked[1]) : null;
+        if (event.getOldState() == null || !Objects.equals(from, to)) {
+            changeFeed.record(new ChangeEvent(tracked[0], (Integer) event.getId(), ChangeEvent.UPDATED, from, to,
+                    version(persister, event.getState())));
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        String[] tracked = TRACKED.get(event.getPersister().getMappedClass());
+        if (tracked != null) {
+            changeFeed.record(new ChangeEvent(tracked[0], (Integer) event.getId(), ChangeEvent.DELETED,
+                    status(event.getPersister(), event.getDeletedState(), tracked[1]), null, null));
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private static String status(EntityPersister persister, Object[] state, String attribute) {
+        if (state == null) {
+            return null;
+        }
+        String[] names = persister.getPropertyNames();
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(attribute)) {
+                return state[i] != null ? state[i].toString() : null;
+            }
+        }
+        return null;
+    }
+
+    private static Long version(EntityPersister persister, Object[] state) {
+        return persister.isVersioned() ? (Long) state[persister.getVersionProperty()] : null;
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.purchase.common;
+
+import com.example.purchase.exception.DuplicateResourceException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// Inserts rows in chunked transactions so Hibernate can send JDBC batches (hibernate.jdbc.batch_size).
+// Rows that fail validation are reported individually; if a chunk fails at flush (e.g. a constraint
+// race), that chunk is replayed one row per transaction so only the offending rows are rejected.
+@Component
+public class BulkInsertTemplate {
+
+    public static final int CHUNK_SIZE = 500;
+    public static final int MAX_ROWS = 10_000;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // toEntity validates and maps one row; it throws RuntimeException to reject that row
+    public <D, E> BulkResult insert(List<D> rows, Function<D, E> toEntity, Function<E, Integer> idOf) {
+        return insert(rows, toEntity, idOf, persisted -> { });
+    }
+
+    // afterFlush sees each chunk's persisted entities inside the chunk transaction (e.g. to maintain aggregates)
+    public <D, E> BulkResult insert(List<D> rows, Function<D, E> toEntity, Function<E, Integer> idOf,
+            Consumer<List<E>> afterFlush) {
+        if (rows == null || rows.isEmpty()) {
+            throw new IllegalArgumentException("Bulk request must contain at least one row");
+        }
+        if (rows.size() > MAX_ROWS) {
+            throw new IllegalArgumentException("Bulk request exceeds " + MAX_ROWS + " rows");
+        }
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        BulkResult result = new BulkResult(rows.size());
+        for (int start = 0; start < rows.size(); start += CHUNK_SIZE) {
+            List<D> chunk = rows.subList(start, Math.min(start + CHUNK_SIZE, rows.size()));
+            int offset = start;
+            try {
+                result.addAll(tx.execute(status -> insertChunk(chunk, offset, toEntity, idOf, afterFlush)));
+            } catch (RuntimeException chunkFailure) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    D row = chunk.get(i);
+                    int index = offset + i;
+                    try {
+                        result.addAll(tx.execute(status -> insertChunk(List.of(row), index, toEntity, idOf, afterFlush)));
+                    } catch (RuntimeException rowFailure) {
+                        result.add(BulkItemResult.failed(index, statusOf(rowFailure), messageOf(rowFailure)));
+                    }
+                }
+            }
+        }
+        result.sortByIndex();
+        return result;
+    }
+
+    private <D, E> List<BulkItemResult> insertChunk(List<D> chunk, int offset, Function<D, E> toEntity,
+            Function<E, Integer> idOf, Consumer<List<E>> afterFlush) {
+        // Validation queries must not trigger a flush of the pending batch
+        entityManager.setFlushMode(FlushModeType.COMMIT);
+
+        List<BulkItemResult> results = new ArrayList<>(chunk.size());
+        List<E> persisted = new ArrayList<>(chunk.size());
+        List<Integer> persistedIndexes = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            try {
+                E entity = toEntity.apply(chunk.get(i));
+                entityManager.persist(entity);
+                persisted.add(entity);
+                persistedIndexes.add(offset + i);
+            } catch (RuntimeException e) {
+                results.add(BulkItemResult.failed(offset + i, statusOf(e), messageOf(e)));
+            }
+        }
+
+        entityManager.flush();
+        afterFlush.accept(persisted);
+        for (int i = 0; i < persisted.size(); i++) {
+            results.add(BulkItemResult.created(persistedIndexes.get(i), idOf.apply(persisted.get(i))));
+        }
+        entityManager.clear();
+        return results;
+    }
+
+    // Duplicates found by validation or by a unique constraint at flush are conflicts; anything else is a bad row
+    private static int statusOf(RuntimeException e) {
+        return e instanceof DuplicateResourceException || e instanceof DataIntegrityViolationException
+                ? HttpStatus.CONFLICT.value() : HttpStatus.BAD_REQUEST.value();
+    }
+
+    private static String messageOf(RuntimeException e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage() != null ? root.getMessage() : e.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.purchase.common;
+
+// Outcome of one row in a bulk request; index is the row's position in the request body. Bulk creates
+// also give each row the status a single create would have returned (201, 400, or 409 for a conflict)
+public class BulkItemResult {
+    private int index;
+    private Integer id;
+    private String error;
+    private Integer status;
+
+    public BulkItemResult() {
+    }
+
+    public BulkItemResult(int index, Integer id, String error) {
+        this.index = index;
+        this.id = id;
+        this.error = error;
+    }
+
+    public static BulkItemResult created(int index, Integer id) {
+        BulkItemResult result = new BulkItemResult(index, id, null);
+        result.status = 201;
+        return result;
+    }
+
+    public static BulkItemResult failed(int index, int status, String error) {
+        BulkItemResult result = new BulkItemResult(index, null, error);
+        result.status = status;
+        return result;
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public Integer getStatus() {
+        return status;
+    }
+
+    public void setStatus(Integer status) {
+        this.status = status;
+    }
+}
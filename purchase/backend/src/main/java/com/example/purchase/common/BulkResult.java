@@ -0,0 +1,85 @@
+package com.example.purchase.common;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// Summary of a bulk request: counts plus one result per submitted row, in request order
+public class BulkResult {
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private List<BulkItemResult> results = new ArrayList<>();
+
+    public BulkResult() {
+    }
+
+    public BulkResult(int requested) {
+        this.requested = requested;
+    }
+
+    public void add(BulkItemResult item) {
+        results.add(item);
+        if (item.isSuccess()) {
+            succeeded++;
+        } else {
+            failed++;
+        }
+    }
+
+    public void addAll(List<BulkItemResult> items) {
+        items.forEach(this::add);
+    }
+
+    public void sortByIndex() {
+        results.sort(Comparator.comparingInt(BulkItemResult::getIndex));
+    }
+
+    // Response status for a bulk create: 200 when any row was created (per-row statuses tell the rest),
+    // otherwise 409 if a row conflicted with existing data (e.g. a duplicate event ID), else 400
+    public HttpStatus responseStatus() {
+        if (succeeded > 0) {
+            return HttpStatus.OK;
+        }
+        for (BulkItemResult item : results) {
+            if (item.getStatus() != null && item.getStatus() == HttpStatus.CONFLICT.value()) {
+                return HttpStatus.CONFLICT;
+            }
+        }
+        return HttpStatus.BAD_REQUEST;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public void setRequested(int requested) {
+        this.requested = requested;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<BulkItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BulkItemResult> results) {
+        this.results = results;
+    }
+}
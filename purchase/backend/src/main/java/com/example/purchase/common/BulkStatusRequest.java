@@ -0,0 +1,83 @@
+package com.example.purchase.common;
+
+import java.util.List;
+
+// Selects the rows for a bulk status transition: explicit ids, a filter, or both (AND-ed)
+public class BulkStatusRequest {
+
+    // Upper bound for rows touched by one bulk transition
+    public static final int MAX_ROWS = 10_000;
+
+    private List<Integer> ids;
+    private Integer vendorid;
+    private Integer eventid;
+    private String cdsid;
+    private String status;
+
+    public BulkStatusRequest() {
+    }
+
+    public BulkStatusRequest(List<Integer> ids, Integer vendorid, Integer eventid, String cdsid, String status) {
+        this.ids = ids;
+        this.vendorid = vendorid;
+        this.eventid = eventid;
+        this.cdsid = cdsid;
+        this.status = status;
+    }
+
+    // Guard against an empty body transitioning the whole table
+    public void validate() {
+        boolean hasIds = ids != null && !ids.isEmpty();
+        boolean hasFilter = vendorid != null || eventid != null || cdsid != null || status != null;
+        if (!hasIds && !hasFilter) {
+            throw new IllegalArgumentException("Provide ids and/or a filter (vendorid, eventid, cdsid, status)");
+        }
+        if (hasIds && ids.size() > MAX_ROWS) {
+            throw new IllegalArgumentException("Bulk request exceeds " + MAX_ROWS + " ids");
+        }
+    }
+
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    public List<Integer> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Integer> ids) {
+        this.ids = ids;
+    }
+
+    public Integer getVendorid() {
+        return vendorid;
+    }
+
+    public void setVendorid(Integer vendorid) {
+        this.vendorid = vendorid;
+    }
+
+    public Integer getEventid() {
+        return eventid;
+    }
+
+    public void setEventid(Integer eventid) {
+        this.eventid = eventid;
+    }
+
+    public String getCdsid() {
+        return cdsid;
+    }
+
+    public void setCdsid(String cdsid) {
+        this.cdsid = cdsid;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.purchase.common;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// Shared bookkeeping for set-based bulk status transitions
+public final class BulkTransitions {
+
+    // Ids per IN (...) list; keeps statements and bind-parameter counts bounded
+    public static final int IN_CLAUSE_SIZE = 1000;
+
+    private BulkTransitions() {
+    }
+
+    // Build per-id results and collect the ids whose status actually changes.
+    // Missing ids fail; rows already in the target status succeed without being touched again.
+    public static BulkResult plan(BulkStatusRequest request, List<IdStatus> matched, String targetStatus,
+            List<Integer> changedIds) {
+        Map<Integer, String> statusById = statusById(matched);
+        List<Integer> ids = request.hasIds() ? request.getIds() : new ArrayList<>(statusById.keySet());
+        if (!request.hasIds()) {
+            ids.sort(Integer::compare);
+        }
+        BulkResult result = new BulkResult(ids.size());
+        Set<Integer> queued = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Integer id = ids.get(i);
+            if (!statusById.containsKey(id)) {
+                result.add(new BulkItemResult(i, id, "Not found or does not match filter: " + id));
+                continue;
+            }
+            if (!targetStatus.equals(statusById.get(id)) && queued.add(id)) {
+                changedIds.add(id);
+            }
+            result.add(new BulkItemResult(i, id, null));
+        }
+        return result;
+    }
+
+    public static Map<Integer, String> statusById(List<IdStatus> rows) {
+        Map<Integer, String> statusById = new HashMap<>();
+        for (IdStatus row : rows) {
+            statusById.put(row.getId(), row.getStatus());
+        }
+        return statusById;
+    }
+
+    // Run an action over consecutive slices of at most IN_CLAUSE_SIZE ids
+    public static void inSlices(List<Integer> ids, Consumer<List<Integer>> action) {
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_SIZE) {
+            action.accept(ids.subList(from, Math.min(from + IN_CLAUSE_SIZE, ids.size())));
+        }
+    }
+}
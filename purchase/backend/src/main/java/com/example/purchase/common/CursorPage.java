@@ -0,0 +1,113 @@
+package com.example.purchase.common;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+// One page of a keyset (id > lastId ORDER BY id) listing plus an opaque cursor for the next page
+public class CursorPage<T> {
+
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 500;
+
+    private static final String CURSOR_PREFIX = "id:";
+
+    private List<T> items;
+    private String nextCursor;
+    private int size;
+    private Long total;
+
+    public CursorPage() {
+    }
+
+    public CursorPage(List<T> items, String nextCursor, int size, Long total) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.size = size;
+        this.total = total;
+    }
+
+    // Build a page from size + 1 fetched rows; the extra row only signals that another page exists
+    public static <E, D> CursorPage<D> of(List<E> rows, int size, Function<E, D> mapper,
+            Function<D, Integer> idOf, Long total) {
+        int pageSize = clampSize(size);
+        boolean hasMore = rows.size() > pageSize;
+        List<D> items = new ArrayList<>(Math.min(rows.size(), pageSize));
+        for (int i = 0; i < rows.size() && i < pageSize; i++) {
+            items.add(mapper.apply(rows.get(i)));
+        }
+        String next = hasMore && !items.isEmpty() ? encodeCursor(idOf.apply(items.get(items.size() - 1))) : null;
+        return new CursorPage<>(items, next, pageSize, total);
+    }
+
+    // Clamp requested page size into [1, MAX_SIZE]
+    public static int clampSize(int size) {
+        if (size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    // LIMIT for a keyset query: one row more than the page so we know whether a next page exists
+    public static Pageable limit(int size) {
+        return PageRequest.of(0, clampSize(size) + 1);
+    }
+
+    public static String encodeCursor(Integer lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Decode cursor to the last seen id; a missing cursor starts from the beginning
+    public static Integer decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(CURSOR_PREFIX)) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return Integer.valueOf(raw.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public void setTotal(Long total) {
+        this.total = total;
+    }
+}
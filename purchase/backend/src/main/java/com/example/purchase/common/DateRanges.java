@@ -0,0 +1,32 @@
+package com.example.purchase.common;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+// Half-open date bounds ([start, end)) so date filters stay index-friendly instead of wrapping the column in YEAR()
+public final class DateRanges {
+
+    private DateRanges() {
+    }
+
+    // First instant of the year, in the JVM zone the dates are stored in
+    public static Date startOfYear(int year) {
+        return Date.from(LocalDate.of(year, 1, 1).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    // First instant of the following year (exclusive upper bound)
+    public static Date startOfNextYear(int year) {
+        return startOfYear(year + 1);
+    }
+
+    // TIMESTAMP columns read outside Hibernate (R2DBC) come back as LocalDateTime in the same JVM zone
+    public static Date toDate(LocalDateTime value) {
+        return value == null ? null : Date.from(value.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    public static LocalDateTime toLocalDateTime(Date value) {
+        return LocalDateTime.ofInstant(value.toInstant(), ZoneId.systemDefault());
+    }
+}
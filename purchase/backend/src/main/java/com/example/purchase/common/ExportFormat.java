@@ -0,0 +1,34 @@
+package com.example.purchase.common;
+
+import org.springframework.http.MediaType;
+
+// Supported row-streaming export formats
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(String mediaType, String extension) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ExportFormat from(String value) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value) || format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported export format: " + value + " (use ndjson or csv)");
+    }
+}
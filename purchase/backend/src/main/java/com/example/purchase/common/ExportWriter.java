@@ -0,0 +1,92 @@
+package com.example.purchase.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.function.Function;
+
+// Writes DTO rows one at a time as NDJSON or CSV so exports never hold the full result in memory
+public class ExportWriter<T> {
+
+    private static final byte[] NEWLINE = "\n".getBytes(StandardCharsets.UTF_8);
+
+    // Rows between output flushes
+    public static final int BATCH_SIZE = 500;
+
+    private final OutputStream out;
+    private final ExportFormat format;
+    private final ObjectWriter jsonWriter;
+    private final Function<T, Object[]> csvRow;
+    private long rowCount;
+
+    public ExportWriter(OutputStream out, ExportFormat format, ObjectMapper objectMapper,
+            String[] csvHeaders, Function<T, Object[]> csvRow) {
+        this.out = new BufferedOutputStream(out, 64 * 1024);
+        this.format = format;
+        this.jsonWriter = objectMapper.writer();
+        this.csvRow = csvRow;
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(csvHeaders);
+        }
+    }
+
+    public void write(T row) {
+        try {
+            if (format == ExportFormat.NDJSON) {
+                out.write(jsonWriter.writeValueAsBytes(row));
+                out.write(NEWLINE);
+            } else {
+                writeCsvLine(csvRow.apply(row));
+            }
+            rowCount++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void flush() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    private void writeCsvLine(Object[] values) {
+        StringBuilder line = new StringBuilder(128);
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(csvValue(values[i]));
+        }
+        line.append('\n');
+        try {
+            out.write(line.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Quote values containing separators, quotes or line breaks (RFC 4180)
+    private static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof Date date ? date.toInstant().toString() : value.toString();
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
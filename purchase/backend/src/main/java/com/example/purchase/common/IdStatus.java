@@ -0,0 +1,31 @@
+package com.example.purchase.common;
+
+// (id, status) pair selected by bulk transitions to decide which rows actually change;
+// version is only selected when the row state is read back for the change feed
+public class IdStatus {
+    private final Integer id;
+    private final String status;
+    private final Long version;
+
+    public IdStatus(Integer id, String status) {
+        this(id, status, null);
+    }
+
+    public IdStatus(Integer id, String status, Long version) {
+        this.id = id;
+        this.status = status;
+        this.version = version;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+}
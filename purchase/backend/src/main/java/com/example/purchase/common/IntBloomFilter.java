@@ -0,0 +1,60 @@
+package com.example.purchase.common;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Thread-safe Bloom filter over int keys: "false" means definitely absent, "true" means possibly present
+public class IntBloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    public IntBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.max(1, (bits + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(int key) {
+        long hash = mix(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = words.get(index);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(index, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(int key) {
+        long hash = mix(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // MurmurHash3 64-bit finalizer
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.purchase.common;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+// An exact amount in minor units (paise for INR, cents for USD), as stored in the *_MINOR BIGINT
+// columns. Sums and differences are exact long arithmetic; only currency conversion rounds, to the
+// nearest minor unit. The API keeps exchanging major-unit numbers (e.g. 1234.56), converted at the
+// DTO boundary with the null-safe helpers below.
+public final class Money implements Comparable<Money> {
+
+    // Minor units per major unit: two decimals for both INR and USD
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0L);
+
+    private final long minor;
+
+    private Money(long minor) {
+        this.minor = minor;
+    }
+
+    public static Money ofMinor(long minor) {
+        return minor == 0L ? ZERO : new Money(minor);
+    }
+
+    // Rounded half-up to the minor unit from the shortest decimal form of the double, so 0.1 is 10
+    // paise and 1.005 is 101 (not 100, as Math.round(1.005 * 100) would give)
+    public static Money ofMajor(double major) {
+        if (Double.isNaN(major) || Double.isInfinite(major)) {
+            throw new IllegalArgumentException("Amount must be a finite number: " + major);
+        }
+        try {
+            return ofMinor(BigDecimal.valueOf(major).setScale(SCALE, RoundingMode.HALF_UP)
+                    .unscaledValue().longValueExact());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount out of range: " + major);
+        }
+    }
+
+    // Null-safe bridges between nullable columns/DTO fields and Money
+
+    public static Money fromMinor(Long minor) {
+        return minor == null ? null : ofMinor(minor);
+    }
+
+    public static Money fromMajor(Double major) {
+        return major == null ? null : ofMajor(major);
+    }
+
+    public static Long minorOf(Money money) {
+        return money == null ? null : money.minor;
+    }
+
+    public static Double majorOf(Money money) {
+        return money == null ? null : money.toMajor();
+    }
+
+    public static Double majorOf(Long minor) {
+        return minor == null ? null : toMajor(minor);
+    }
+
+    // Primitive helpers for aggregation and conversion loops, which stay on long
+
+    public static double toMajor(long minor) {
+        return minor / 100.0;
+    }
+
+    // Amount divided by a rate (e.g. INR to USD), rounded to the nearest minor unit
+    public static long divide(long minor, double rate) {
+        return Math.round(minor / rate);
+    }
+
+    // Amount multiplied by a rate (e.g. USD to INR), rounded to the nearest minor unit
+    public static long multiply(long minor, double rate) {
+        return Math.round(minor * rate);
+    }
+
+    public long getMinor() {
+        return minor;
+    }
+
+    @JsonValue
+    public double toMajor() {
+        return toMajor(minor);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minor, SCALE);
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minor, other.minor));
+    }
+
+    public Money minus(Money other) {
+        return ofMinor(Math.subtractExact(minor, other.minor));
+    }
+
+    public Money dividedBy(double rate) {
+        return ofMinor(divide(minor, rate));
+    }
+
+    public Money times(double rate) {
+        return ofMinor(multiply(minor, rate));
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minor, other.minor);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Money && ((Money) other).minor == minor;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minor);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
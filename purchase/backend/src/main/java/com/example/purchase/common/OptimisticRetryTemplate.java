@@ -0,0 +1,88 @@
+package com.example.purchase.common;
+
+import com.example.purchase.exception.ConcurrentUpdateException;
+import jakarta.persistence.OptimisticLockException;
+import org.hibernate.StaleStateException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+// Runs a read-modify-write in its own transaction and replays it when a concurrent writer won:
+// a @Version mismatch, or a unique constraint that guards against duplicate auto-created rows.
+// Each attempt re-reads current state, so the loser re-evaluates instead of overwriting. No row
+// locks are taken, so writes to different rows never wait on each other.
+@Component
+public class OptimisticRetryTemplate {
+
+    // Unique constraints (and the vendor_spend key) whose violation means "someone else created it first"
+    private static final String[] RETRYABLE_CONSTRAINTS = {
+            "UK_PURCHASE_ORDER_NEGOTIATIONID", "UK_PURCHASE_ORDER_PRID", "VENDOR_SPEND("
+    };
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${optimistic-retry.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${optimistic-retry.backoff-ms:20}")
+    private long backoffMs;
+
+    public <T> T execute(Supplier<T> action) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return tx.execute(status -> action.get());
+            } catch (RuntimeException e) {
+                if (!isConflict(e)) {
+                    throw e;
+                }
+                if (attempt >= maxAttempts) {
+                    throw new ConcurrentUpdateException(
+                            "Resource was modified concurrently; gave up after " + attempt + " attempts", e);
+                }
+                sleep(attempt);
+            }
+        }
+    }
+
+    private static boolean isConflict(RuntimeException e) {
+        // H2 reports two writers touching the same row as a lock timeout rather than a version mismatch
+        if (e instanceof OptimisticLockingFailureException || e instanceof PessimisticLockingFailureException) {
+            return true;
+        }
+        for (Throwable t = e; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof OptimisticLockException || t instanceof StaleStateException) {
+                return true;
+            }
+        }
+        if (e instanceof DataIntegrityViolationException) {
+            String message = String.valueOf(NestedExceptionUtils.getMostSpecificCause(e).getMessage()).toUpperCase();
+            for (String constraint : RETRYABLE_CONSTRAINTS) {
+                if (message.contains(constraint)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Jittered linear backoff so colliding writers do not retry in lockstep
+    private void sleep(int attempt) {
+        try {
+            Thread.sleep(backoffMs * attempt + ThreadLocalRandom.current().nextLong(backoffMs + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrentUpdateException("Interrupted while retrying a concurrent update", e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.purchase.common;
+
+import java.util.Date;
+import java.util.function.Function;
+
+// How SearchTemplate maps a SearchRequest onto one entity: the DTO select, the entity's id, status,
+// date and amount attributes, and the DTO accessors that feed the keyset cursor. eventid, vendorid,
+// cdsid, eventname and vendorname have the same attribute names on every entity.
+public class SearchFields<D> {
+
+    private final Class<?> repository;
+    private final Class<D> dtoType;
+    private final String dtoSelect;
+    private final String entity;
+    private final String alias;
+    private final String id;
+    private final String status;
+    private final String date;
+    private final String amount;
+    private final Function<String, Object> statusValue;
+    private final Function<D, Integer> idOf;
+    private final Function<D, Date> dateOf;
+    private final Function<D, Double> amountOf;
+
+    public SearchFields(Class<?> repository, Class<D> dtoType, String dtoSelect, String entity, String alias,
+            String id, String status, String date, String amount, Function<String, Object> statusValue,
+            Function<D, Integer> idOf, Function<D, Date> dateOf, Function<D, Double> amountOf) {
+        this.repository = repository;
+        this.dtoType = dtoType;
+        this.dtoSelect = dtoSelect;
+        this.entity = entity;
+        this.alias = alias;
+        this.id = id;
+        this.status = status;
+        this.date = date;
+        this.amount = amount;
+        this.statusValue = statusValue;
+        this.idOf = idOf;
+        this.dateOf = dateOf;
+        this.amountOf = amountOf;
+    }
+
+    // Qualified attribute path, e.g. po.PO_status
+    String path(String attribute) {
+        return alias + "." + attribute;
+    }
+
+    // Attribute behind a sort key
+    String sortAttribute(String sort) {
+        switch (sort) {
+            case SearchRequest.SORT_DATE:
+                return date;
+            case SearchRequest.SORT_AMOUNT:
+                return amount;
+            default:
+                return id;
+        }
+    }
+
+    // Sort key value of a result row, as it goes into the cursor
+    Object sortValue(String sort, D row) {
+        switch (sort) {
+            case SearchRequest.SORT_DATE:
+                return dateOf.apply(row);
+            case SearchRequest.SORT_AMOUNT:
+                return amountOf.apply(row);
+            default:
+                return idOf.apply(row);
+        }
+    }
+
+    Class<?> getRepository() {
+        return repository;
+    }
+
+    Class<D> getDtoType() {
+        return dtoType;
+    }
+
+    String getDtoSelect() {
+        return dtoSelect;
+    }
+
+    String getEntity() {
+        return entity;
+    }
+
+    String getAlias() {
+        return alias;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    String getStatus() {
+        return status;
+    }
+
+    String getDate() {
+        return date;
+    }
+
+    String getAmount() {
+        return amount;
+    }
+
+    Object statusValue(String value) {
+        return statusValue.apply(value);
+    }
+
+    Integer idOf(D row) {
+        return idOf.apply(row);
+    }
+}
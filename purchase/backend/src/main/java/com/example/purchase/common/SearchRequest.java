@@ -0,0 +1,201 @@
+package com.example.purchase.common;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+// Query parameters of the /search endpoints. Every criterion is optional and they are AND-ed;
+// date and amount refer to each entity's own date and amount column.
+public class SearchRequest {
+
+    public static final String SORT_ID = "id";
+    public static final String SORT_DATE = "date";
+    public static final String SORT_AMOUNT = "amount";
+
+    @Parameter(description = "Status")
+    private String status;
+
+    @Parameter(description = "Vendor ID")
+    private Integer vendorid;
+
+    @Parameter(description = "Event ID")
+    private Integer eventid;
+
+    @Parameter(description = "CDSID")
+    private String cdsid;
+
+    @Parameter(description = "Event name contains (case-insensitive)")
+    private String eventname;
+
+    @Parameter(description = "Vendor name contains (case-insensitive)")
+    private String vendorname;
+
+    @Parameter(description = "From date, inclusive (yyyy-MM-dd)")
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate from;
+
+    @Parameter(description = "To date, inclusive (yyyy-MM-dd)")
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate to;
+
+    @Parameter(description = "Minimum amount, inclusive")
+    private Double minAmount;
+
+    @Parameter(description = "Maximum amount, inclusive")
+    private Double maxAmount;
+
+    @Parameter(description = "Sort key (id, date, amount)")
+    private String sort = SORT_ID;
+
+    @Parameter(description = "Sort direction (asc, desc)")
+    private String direction = "asc";
+
+    @Parameter(description = "Page size (max 500)")
+    private int size = CursorPage.DEFAULT_SIZE;
+
+    @Parameter(description = "Cursor returned by the previous page")
+    private String cursor;
+
+    @Parameter(description = "Include total row count")
+    private boolean withTotal;
+
+    public void validate() {
+        if (!SORT_ID.equals(sort) && !SORT_DATE.equals(sort) && !SORT_AMOUNT.equals(sort)) {
+            throw new IllegalArgumentException("sort must be one of id, date, amount");
+        }
+        if (!"asc".equals(direction) && !"desc".equals(direction)) {
+            throw new IllegalArgumentException("direction must be asc or desc");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        if (minAmount != null && maxAmount != null && minAmount > maxAmount) {
+            throw new IllegalArgumentException("minAmount must not be greater than maxAmount");
+        }
+    }
+
+    public boolean isDescending() {
+        return "desc".equals(direction);
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Integer getVendorid() {
+        return vendorid;
+    }
+
+    public void setVendorid(Integer vendorid) {
+        this.vendorid = vendorid;
+    }
+
+    public Integer getEventid() {
+        return eventid;
+    }
+
+    public void setEventid(Integer eventid) {
+        this.eventid = eventid;
+    }
+
+    public String getCdsid() {
+        return cdsid;
+    }
+
+    public void setCdsid(String cdsid) {
+        this.cdsid = cdsid;
+    }
+
+    public String getEventname() {
+        return eventname;
+    }
+
+    public void setEventname(String eventname) {
+        this.eventname = eventname;
+    }
+
+    public String getVendorname() {
+        return vendorname;
+    }
+
+    public void setVendorname(String vendorname) {
+        this.vendorname = vendorname;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public Double getMinAmount() {
+        return minAmount;
+    }
+
+    public void setMinAmount(Double minAmount) {
+        this.minAmount = minAmount;
+    }
+
+    public Double getMaxAmount() {
+        return maxAmount;
+    }
+
+    public void setMaxAmount(Double maxAmount) {
+        this.maxAmount = maxAmount;
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public void setSort(String sort) {
+        this.sort = sort;
+    }
+
+    public String getDirection() {
+        return direction;
+    }
+
+    public void setDirection(String direction) {
+        this.direction = direction;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public boolean isWithTotal() {
+        return withTotal;
+    }
+
+    public void setWithTotal(boolean withTotal) {
+        this.withTotal = withTotal;
+    }
+}
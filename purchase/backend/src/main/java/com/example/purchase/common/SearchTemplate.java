@@ -0,0 +1,200 @@
+package com.example.purchase.common;
+
+import com.example.purchase.metrics.RepositoryTimer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Composable search: one DTO query per request with only the criteria that were given, sorted and
+// keyset-paginated in the database. Equality, date and amount predicates hit the per-entity indexes
+// (status, vendor/status, eventid, cdsid/date, date, amount); the name "contains" filters are
+// evaluated on the rows those predicates select.
+//
+// Pages are keyset pages on (sort key, id), so deep pages cost the same as the first one. Rows with
+// no value for the sort key (e.g. a PR without requestdate) sort last in either direction.
+@Component
+public class SearchTemplate {
+
+    private static final String CURSOR_PREFIX = "k:";
+    private static final String NULL_VALUE = "-";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private RepositoryTimer repositoryTimer;
+
+    public <D> CursorPage<D> search(SearchFields<D> fields, SearchRequest request) {
+        request.validate();
+        return repositoryTimer.record(fields.getRepository(), "search", () -> query(fields, request));
+    }
+
+    private <D> CursorPage<D> query(SearchFields<D> fields, SearchRequest request) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        List<String> criteria = criteria(fields, request, params);
+
+        Map<String, Object> pageParams = new LinkedHashMap<>(params);
+        List<String> pageCriteria = new ArrayList<>(criteria);
+        String keyset = keyset(fields, request, pageParams);
+        if (keyset != null) {
+            pageCriteria.add(keyset);
+        }
+
+        String sortPath = fields.path(fields.sortAttribute(request.getSort()));
+        String idPath = fields.path(fields.getId());
+        String direction = request.isDescending() ? " DESC" : " ASC";
+        String orderBy = sortPath.equals(idPath)
+                ? " ORDER BY " + idPath + direction
+                : " ORDER BY " + sortPath + direction + " NULLS LAST, " + idPath + direction;
+
+        TypedQuery<D> query = entityManager.createQuery(
+                fields.getDtoSelect() + where(pageCriteria) + orderBy, fields.getDtoType());
+        pageParams.forEach(query::setParameter);
+        int pageSize = CursorPage.clampSize(request.getSize());
+        query.setMaxResults(pageSize + 1);
+        List<D> rows = query.getResultList();
+
+        Long total = null;
+        if (request.isWithTotal()) {
+            TypedQuery<Long> count = entityManager.createQuery("SELECT COUNT(" + fields.getAlias() + ") FROM "
+                    + fields.getEntity() + " " + fields.getAlias() + where(criteria), Long.class);
+            params.forEach(count::setParameter);
+            total = count.getSingleResult();
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<D> items = hasMore ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+        String next = hasMore ? encodeCursor(fields, request, items.get(items.size() - 1)) : null;
+        return new CursorPage<>(items, next, pageSize, total);
+    }
+
+    // Filter predicates for the criteria that are set
+    private static List<String> criteria(SearchFields<?> fields, SearchRequest request, Map<String, Object> params) {
+        List<String> criteria = new ArrayList<>();
+        if (request.getStatus() != null && !request.getStatus().isBlank()) {
+            criteria.add(fields.path(fields.getStatus()) + " = :status");
+            params.put("status", fields.statusValue(request.getStatus()));
+        }
+        if (request.getVendorid() != null) {
+            criteria.add(fields.path("vendorid") + " = :vendorid");
+            params.put("vendorid", request.getVendorid());
+        }
+        if (request.getEventid() != null) {
+            criteria.add(fields.path("eventid") + " = :eventid");
+            params.put("eventid", request.getEventid());
+        }
+        if (request.getCdsid() != null && !request.getCdsid().isBlank()) {
+            criteria.add(fields.path("cdsid") + " = :cdsid");
+            params.put("cdsid", request.getCdsid());
+        }
+        if (request.getEventname() != null && !request.getEventname().isBlank()) {
+            criteria.add("LOWER(" + fields.path("eventname") + ") LIKE :eventname ESCAPE '!'");
+            params.put("eventname", containsPattern(request.getEventname()));
+        }
+        if (request.getVendorname() != null && !request.getVendorname().isBlank()) {
+            criteria.add("LOWER(" + fields.path("vendorname") + ") LIKE :vendorname ESCAPE '!'");
+            params.put("vendorname", containsPattern(request.getVendorname()));
+        }
+        if (request.getFrom() != null) {
+            criteria.add(fields.path(fields.getDate()) + " >= :fromDate");
+            params.put("fromDate", startOfDay(request.getFrom()));
+        }
+        if (request.getTo() != null) {
+            // Half-open upper bound: everything before the start of the day after "to"
+            criteria.add(fields.path(fields.getDate()) + " < :toDate");
+            params.put("toDate", startOfDay(request.getTo().plusDays(1)));
+        }
+        // Amount bounds arrive in major units; the columns hold minor units
+        if (request.getMinAmount() != null) {
+            criteria.add(fields.path(fields.getAmount()) + " >= :minAmount");
+            params.put("minAmount", Money.ofMajor(request.getMinAmount()).getMinor());
+        }
+        if (request.getMaxAmount() != null) {
+            criteria.add(fields.path(fields.getAmount()) + " <= :maxAmount");
+            params.put("maxAmount", Money.ofMajor(request.getMaxAmount()).getMinor());
+        }
+        return criteria;
+    }
+
+    // Position after the cursor row in (sort key, id) order, nulls last; null on the first page
+    private static String keyset(SearchFields<?> fields, SearchRequest request, Map<String, Object> params) {
+        if (request.getCursor() == null || request.getCursor().isBlank()) {
+            return null;
+        }
+        String[] cursor = decodeCursor(request);
+        String idPath = fields.path(fields.getId());
+        String after = request.isDescending() ? " < " : " > ";
+        params.put("cursorId", Integer.valueOf(cursor[1]));
+        if (SearchRequest.SORT_ID.equals(request.getSort())) {
+            return idPath + after + ":cursorId";
+        }
+        String sortPath = fields.path(fields.sortAttribute(request.getSort()));
+        if (NULL_VALUE.equals(cursor[0])) {
+            return "(" + sortPath + " IS NULL AND " + idPath + after + ":cursorId)";
+        }
+        long value = Long.parseLong(cursor[0]);
+        params.put("cursorValue", SearchRequest.SORT_DATE.equals(request.getSort()) ? (Object) new Date(value) : (Object) value);
+        return "(" + sortPath + after + ":cursorValue OR (" + sortPath + " = :cursorValue AND " + idPath + after
+                + ":cursorId) OR " + sortPath + " IS NULL)";
+    }
+
+    private static String where(List<String> criteria) {
+        return criteria.isEmpty() ? "" : " WHERE " + String.join(" AND ", criteria);
+    }
+
+    // Lower-cased "%value%" with LIKE wildcards in the value escaped
+    private static String containsPattern(String value) {
+        String escaped = value.trim().toLowerCase()
+                .replace("!", "!!").replace("%", "!%").replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+
+    private static Date startOfDay(LocalDate day) {
+        return DateRanges.toDate(day.atStartOfDay());
+    }
+
+    // Opaque cursor bound to the sort it was issued for: k:<sort>:<direction>:<value>:<id>, with dates as
+    // epoch millis and amounts as minor units
+    private static <D> String encodeCursor(SearchFields<D> fields, SearchRequest request, D last) {
+        Object value = fields.sortValue(request.getSort(), last);
+        String encoded = value == null ? NULL_VALUE
+                : value instanceof Date ? Long.toString(((Date) value).getTime())
+                : value instanceof Double ? Long.toString(Money.ofMajor((Double) value).getMinor())
+                : value.toString();
+        String raw = CURSOR_PREFIX + request.getSort() + ":" + request.getDirection() + ":" + encoded + ":"
+                + fields.idOf(last);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // [value, id] of a cursor issued for the same sort and direction
+    private static String[] decodeCursor(SearchRequest request) {
+        String prefix = CURSOR_PREFIX + request.getSort() + ":" + request.getDirection() + ":";
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(request.getCursor()), StandardCharsets.UTF_8);
+            int idSeparator = raw.lastIndexOf(':');
+            if (!raw.startsWith(prefix) || idSeparator < prefix.length()) {
+                throw new IllegalArgumentException("Invalid cursor: " + request.getCursor());
+            }
+            String[] cursor = {raw.substring(prefix.length(), idSeparator), raw.substring(idSeparator + 1)};
+            Integer.valueOf(cursor[1]);
+            if (!NULL_VALUE.equals(cursor[0]) && !SearchRequest.SORT_ID.equals(request.getSort())) {
+                Long.parseLong(cursor[0]);
+            }
+            return cursor;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor (or one issued for a different sort): "
+                    + request.getCursor());
+        }
+    }
+}
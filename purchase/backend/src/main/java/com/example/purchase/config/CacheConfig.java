@@ -0,0 +1,28 @@
+package com.example.purchase.config;
+
+import com.example.purchase.cache.ConditionalGetInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// Caffeine caches are created from spring.cache.* properties
+@Configuration
+@EnableCaching
+public class CacheConfig implements WebMvcConfigurer {
+
+    public static final String PURCHASE_ORDERS = "purchaseOrders";
+    public static final String PURCHASE_REQUESTS = "purchaseRequests";
+    public static final String NEGOTIATIONS = "negotiations";
+
+    @Autowired
+    private ConditionalGetInterceptor conditionalGetInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(conditionalGetInterceptor)
+                .addPathPatterns("/api/purchase-orders/**", "/api/purchase-requests/**", "/api/negotiations/**")
+                .excludePathPatterns("/api/*/export");
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.purchase.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// JDBC pools split by transaction type. The application DataSource routes read-only transactions to
+// the read pool and all other work to the write pool (spring.datasource.*). Without read-datasource.url
+// both keys resolve to the write pool, so reads and writes share one database until a replica (or a
+// separately sized pool) is configured.
+@Configuration
+public class DataSourceConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(DataSourceConfig.class);
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource writeDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(ReadWriteRoutingDataSource.WRITE);
+        return dataSource;
+    }
+
+    // Read pool: read-datasource.url/username/password, pool settings under read-datasource.hikari.*
+    @Bean
+    @ConditionalOnProperty("read-datasource.url")
+    @ConfigurationProperties("read-datasource.hikari")
+    public HikariDataSource readDataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(ReadWriteRoutingDataSource.READ);
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(environment.getProperty("read-datasource.url"));
+        dataSource.setUsername(environment.getProperty("read-datasource.username", properties.determineUsername()));
+        dataSource.setPassword(environment.getProperty("read-datasource.password", properties.determinePassword()));
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writeDataSource") HikariDataSource writeDataSource,
+            @Qualifier("readDataSource") ObjectProvider<HikariDataSource> readDataSource) {
+        DataSource read = readDataSource.getIfAvailable(() -> writeDataSource);
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource();
+        routing.setTargetDataSources(Map.of(ReadWriteRoutingDataSource.WRITE, writeDataSource,
+                ReadWriteRoutingDataSource.READ, read));
+        routing.setDefaultTargetDataSource(writeDataSource);
+        routing.afterPropertiesSet();
+        log.info("Read-only transactions use the {} pool", read == writeDataSource ? "write" : "read");
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
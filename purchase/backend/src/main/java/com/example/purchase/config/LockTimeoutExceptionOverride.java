@@ -0,0 +1,21 @@
+package com.example.purchase.config;
+
+import com.zaxxer.hikari.SQLExceptionOverride;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+
+// H2 surfaces a same-row write conflict as a lock timeout (HYT00); the connection is still healthy,
+// so keep it in the pool and let the transaction roll back and be retried
+public class LockTimeoutExceptionOverride implements SQLExceptionOverride {
+
+    private static final String LOCK_TIMEOUT_STATE = "HYT00";
+
+    @java.lang.Override
+    public SQLExceptionOverride.Override adjudicate(SQLException e) {
+        if (e instanceof SQLTimeoutException && LOCK_TIMEOUT_STATE.equals(e.getSQLState())) {
+            return SQLExceptionOverride.Override.DO_NOT_EVICT;
+        }
+        return SQLExceptionOverride.Override.CONTINUE_EVICT;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.purchase.config;
+
+import com.example.purchase.metrics.JdbcStatementCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    // Plug the per-request statement counter into Hibernate
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer(JdbcStatementCounter statementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+}
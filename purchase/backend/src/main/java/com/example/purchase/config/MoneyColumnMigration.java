@@ -0,0 +1,77 @@
+package com.example.purchase.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// One-off migration of the money columns from DOUBLE major units to BIGINT minor units (paise/cents).
+// Runs once the schema update has added the *_MINOR columns: each legacy column still present is
+// copied over rounded half-up to the minor unit, then dropped along with its index, and the index is
+// recreated on the new column. The vendor spend aggregate is not copied; its buckets are cleared and
+// rebuilt exactly from the orders by VendorSpendService.seedIfEmpty. A database without the legacy
+// columns (including a fresh one) is left untouched.
+@Component
+public class MoneyColumnMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(MoneyColumnMigration.class);
+
+    // table, legacy column, minor-unit column, index on the column (or null)
+    private static final String[][] COLUMNS = {
+            {"PURCHASE_ORDER", "ORDERAMOUNTINR", "ORDERAMOUNTINR_MINOR", "idx_po_orderamountinr"},
+            {"PURCHASE_ORDER", "ORDERAMOUNTDOLLAR", "ORDERAMOUNTDOLLAR_MINOR", null},
+            {"NEGOTIATIONS", "INITIALQUOTEAMOUNT", "INITIALQUOTEAMOUNT_MINOR", null},
+            {"NEGOTIATIONS", "FINALAMOUNT", "FINALAMOUNT_MINOR", "idx_negotiation_finalamount"},
+            {"PURCHASE_REQUEST", "ALLOCATEDAMOUNT", "ALLOCATEDAMOUNT_MINOR", "idx_pr_allocatedamount"}
+    };
+
+    // Injected so the migration runs after Hibernate has updated the schema
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void migrate() {
+        for (String[] column : COLUMNS) {
+            if (exists(column[0], column[1])) {
+                migrateColumn(column[0], column[1], column[2], column[3]);
+            }
+        }
+        // The schema update cannot add the NOT NULL totals to a populated table (it logs a DDL warning);
+        // they are added here once the old buckets are gone
+        if (exists("VENDOR_SPEND", "TOTAL_INR")) {
+            jdbcTemplate.update("DELETE FROM VENDOR_SPEND");
+            jdbcTemplate.execute("ALTER TABLE VENDOR_SPEND DROP COLUMN TOTAL_INR, TOTAL_USD");
+            jdbcTemplate.execute("ALTER TABLE VENDOR_SPEND ADD COLUMN IF NOT EXISTS TOTAL_INR_MINOR BIGINT NOT NULL");
+            jdbcTemplate.execute("ALTER TABLE VENDOR_SPEND ADD COLUMN IF NOT EXISTS TOTAL_USD_MINOR BIGINT NOT NULL");
+            log.info("Money migration: vendor_spend cleared for an exact rebuild");
+        }
+    }
+
+    // Safe to re-run after a partial migration: only rows not yet copied are updated
+    private void migrateColumn(String table, String legacy, String minor, String index) {
+        jdbcTemplate.execute("ALTER TABLE " + table + " ADD COLUMN IF NOT EXISTS " + minor + " BIGINT");
+        // Through a short decimal first, like Money.ofMajor, so 1.005 becomes 101 rather than 100
+        int copied = jdbcTemplate.update("UPDATE " + table + " SET " + minor + " = CAST(ROUND(CAST(" + legacy
+                + " AS DECIMAL(24, 6)) * 100) AS BIGINT) WHERE " + minor + " IS NULL AND " + legacy + " IS NOT NULL");
+        if (index != null) {
+            jdbcTemplate.execute("DROP INDEX IF EXISTS " + index);
+        }
+        jdbcTemplate.execute("ALTER TABLE " + table + " DROP COLUMN " + legacy);
+        if (index != null) {
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS " + index + " ON " + table + " (" + minor + ")");
+        }
+        log.info("Money migration: {}.{} -> {} ({} rows)", table, legacy, minor, copied);
+    }
+
+    private boolean exists(String table, String column) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS "
+                + "WHERE TABLE_SCHEMA = SCHEMA() AND TABLE_NAME = ? AND COLUMN_NAME = ?", Integer.class, table, column);
+        return count != null && count > 0;
+    }
+}
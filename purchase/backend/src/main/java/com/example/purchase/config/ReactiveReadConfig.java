@@ -0,0 +1,50 @@
+package com.example.purchase.config;
+
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+// R2DBC client for the reactive read endpoints (/api/reactive/**), opened on the same H2 database as
+// the JDBC DataSource. The pool is deliberately not a bean: a ConnectionFactory bean would make Boot
+// back off the JDBC DataSource (and R2dbcAutoConfiguration is excluded in application.properties).
+@Configuration
+public class ReactiveReadConfig implements DisposableBean {
+
+    private static final String H2_PREFIX = "jdbc:h2:";
+
+    @Value("${reactive-read.pool.max-size:8}")
+    private int maxSize;
+
+    private ConnectionPool pool;
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(DataSourceProperties dataSource) {
+        String url = dataSource.determineUrl();
+        if (url == null || !url.startsWith(H2_PREFIX)) {
+            throw new IllegalStateException("Reactive reads support H2 only, datasource url: " + url);
+        }
+        H2ConnectionConfiguration h2 = H2ConnectionConfiguration.builder()
+                .url(url.substring(H2_PREFIX.length()))
+                .username(dataSource.determineUsername())
+                .password(dataSource.determinePassword())
+                .build();
+        pool = new ConnectionPool(ConnectionPoolConfiguration.builder(new H2ConnectionFactory(h2))
+                .maxSize(maxSize)
+                .build());
+        return DatabaseClient.create(pool);
+    }
+
+    @Override
+    public void destroy() {
+        if (pool != null) {
+            pool.dispose();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.purchase.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Picks the pool for a new physical connection: read-only transactions (@Transactional(readOnly = true))
+// get the read pool, everything else the write pool. The flag is only set once the transaction has
+// begun, so this must sit behind a LazyConnectionDataSourceProxy, which defers fetching the connection
+// to the first statement.
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String WRITE = "write";
+    public static final String READ = "read";
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? READ : WRITE;
+    }
+}
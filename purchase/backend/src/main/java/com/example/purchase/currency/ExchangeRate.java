@@ -0,0 +1,66 @@
+package com.example.purchase.currency;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.util.Date;
+
+// USD to INR rate in force from effectiveFrom until the next rate's effectiveFrom (exclusive)
+@Entity
+@Table(name = "exchange_rate", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_exchange_rate_effective_from", columnNames = "EFFECTIVE_FROM")
+})
+public class ExchangeRate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "exchange_rate_seq")
+    @SequenceGenerator(name = "exchange_rate_seq", sequenceName = "exchange_rate_seq", allocationSize = 1)
+    @Column(name = "ID")
+    private Long id;
+
+    @Column(name = "EFFECTIVE_FROM", nullable = false)
+    private LocalDate effectiveFrom;
+
+    @Column(name = "USD_TO_INR", nullable = false)
+    private Double usdToInr;
+
+    @Column(name = "UPDATED_AT", nullable = false)
+    private Date updatedAt;
+
+    public ExchangeRate() {
+    }
+
+    public ExchangeRate(LocalDate effectiveFrom, Double usdToInr, Date updatedAt) {
+        this.effectiveFrom = effectiveFrom;
+        this.usdToInr = usdToInr;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDate getEffectiveFrom() {
+        return effectiveFrom;
+    }
+
+    public void setEffectiveFrom(LocalDate effectiveFrom) {
+        this.effectiveFrom = effectiveFrom;
+    }
+
+    public Double getUsdToInr() {
+        return usdToInr;
+    }
+
+    public void setUsdToInr(Double usdToInr) {
+        this.usdToInr = usdToInr;
+    }
+
+    public Date getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Date updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.purchase.currency;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/exchange-rates")
+@Tag(name = "Exchange Rates", description = "Dated USD/INR rates used for purchase order amounts")
+public class ExchangeRateController {
+
+    @Autowired
+    private ExchangeRates exchangeRates;
+
+    @GetMapping
+    @Operation(summary = "Get all rates, oldest first")
+    public ResponseEntity<List<ExchangeRate>> getRates() {
+        return ResponseEntity.ok(exchangeRates.getRates());
+    }
+
+    @GetMapping("/usd-inr")
+    @Operation(summary = "Get the USD to INR rate in force on a date (today by default)")
+    public ResponseEntity<Map<String, Object>> getRate(
+            @Parameter(description = "Date (yyyy-MM-dd)") @RequestParam(required = false)
+            @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date) {
+        LocalDate day = date != null ? date : LocalDate.now();
+        double rate = exchangeRates.usdToInr(Date.from(day.atStartOfDay(ZoneId.systemDefault()).toInstant()));
+        return ResponseEntity.ok(Map.of("date", day.toString(), "usdToInr", rate));
+    }
+
+    @PostMapping
+    @Operation(summary = "Add or correct a rate and re-price the purchase orders dated in its period")
+    public ResponseEntity<RepricingReport> setRate(@RequestBody ExchangeRateRequest request) {
+        return ResponseEntity.ok(exchangeRates.setRate(request.getEffectiveFrom(), request.getUsdToInr()));
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.purchase.currency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ExchangeRateRepository extends JpaRepository<ExchangeRate, Long> {
+
+    Optional<ExchangeRate> findByEffectiveFrom(LocalDate effectiveFrom);
+
+    List<ExchangeRate> findAllByOrderByEffectiveFromAsc();
+}
@@ -0,0 +1,30 @@
+package com.example.purchase.currency;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+
+// Body of POST /api/exchange-rates: add a rate or correct the one starting on effectiveFrom
+public class ExchangeRateRequest {
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate effectiveFrom;
+
+    private Double usdToInr;
+
+    public LocalDate getEffectiveFrom() {
+        return effectiveFrom;
+    }
+
+    public void setEffectiveFrom(LocalDate effectiveFrom) {
+        this.effectiveFrom = effectiveFrom;
+    }
+
+    public Double getUsdToInr() {
+        return usdToInr;
+    }
+
+    public void setUsdToInr(Double usdToInr) {
+        this.usdToInr = usdToInr;
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.purchase.currency;
+
+import jakarta.annotation.PostConstruct;
+import com.example.purchase.common.Money;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+// Dated USD/INR rates used by every amount conversion: the rate for a date is the one with the
+// latest effectiveFrom on or before it (dates before the first rate use the first rate; undated
+// orders use today's). Lookups read an immutable sorted snapshot and binary-search it, so they take
+// no lock and no database round trip; writes replace the whole snapshot.
+//
+// Correcting or adding a rate re-prices the purchase orders dated within that rate's period.
+@Component
+public class ExchangeRates {
+
+    private static final Logger log = LoggerFactory.getLogger(ExchangeRates.class);
+
+    // Effective date of the rate seeded into an empty table
+    private static final LocalDate SEED_DATE = LocalDate.of(1970, 1, 1);
+
+    @Value("${currency.usd-to-inr.default:83.0}")
+    private double defaultUsdToInr;
+
+    @Autowired
+    private ExchangeRateRepository exchangeRateRepository;
+
+    @Autowired
+    private RepricingJob repricingJob;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private volatile Snapshot snapshot;
+
+    @PostConstruct
+    void init() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            if (exchangeRateRepository.count() == 0) {
+                exchangeRateRepository.save(new ExchangeRate(SEED_DATE, defaultUsdToInr, new Date()));
+            }
+        });
+        reload();
+    }
+
+    // Pick up rates written by other instances
+    @Scheduled(fixedDelayString = "${currency.reload-ms:60000}", initialDelayString = "${currency.reload-ms:60000}")
+    public void reload() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        List<ExchangeRate> rates = tx.execute(status -> exchangeRateRepository.findAllByOrderByEffectiveFromAsc());
+        snapshot = new Snapshot(rates);
+    }
+
+    // Rate in force on the given date (today when null)
+    public double usdToInr(Date on) {
+        return snapshot.rateAt(on != null ? on.getTime() : System.currentTimeMillis());
+    }
+
+    public Money toUsd(Money inr, Date on) {
+        return inr.dividedBy(usdToInr(on));
+    }
+
+    public Money toInr(Money usd, Date on) {
+        return usd.times(usdToInr(on));
+    }
+
+    public List<ExchangeRate> getRates() {
+        return List.copyOf(snapshot.rates);
+    }
+
+    // Add a rate or correct an existing one, then re-price the orders its period covers
+    public synchronized RepricingReport setRate(LocalDate effectiveFrom, Double usdToInr) {
+        if (effectiveFrom == null) {
+            throw new IllegalArgumentException("effectiveFrom is required");
+        }
+        if (usdToInr == null || !(usdToInr > 0) || usdToInr.isInfinite()) {
+            throw new IllegalArgumentException("usdToInr must be a positive number");
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            ExchangeRate rate = exchangeRateRepository.findByEffectiveFrom(effectiveFrom)
+                    .orElseGet(() -> new ExchangeRate(effectiveFrom, usdToInr, null));
+            rate.setUsdToInr(usdToInr);
+            rate.setUpdatedAt(new Date());
+            exchangeRateRepository.save(rate);
+        });
+        // New conversions use the new rate before re-pricing starts, so no order is priced behind it
+        reload();
+
+        Snapshot current = snapshot;
+        int index = current.indexOf(effectiveFrom);
+        boolean first = index == 0;
+        LocalDate effectiveTo = index + 1 < current.rates.size()
+                ? current.rates.get(index + 1).getEffectiveFrom() : null;
+        log.info("exchangeRate.set effectiveFrom={} effectiveTo={} usdToInr={}", effectiveFrom, effectiveTo, usdToInr);
+        return repricingJob.reprice(effectiveFrom, effectiveTo, first, usdToInr);
+    }
+
+    // Rates sorted by effectiveFrom with their start instants, for binary search
+    private static final class Snapshot {
+        private final List<ExchangeRate> rates;
+        private final long[] starts;
+        private final double[] values;
+
+        private Snapshot(List<ExchangeRate> rates) {
+            this.rates = List.copyOf(rates);
+            this.starts = new long[rates.size()];
+            this.values = new double[rates.size()];
+            for (int i = 0; i < rates.size(); i++) {
+                starts[i] = startOf(rates.get(i).getEffectiveFrom());
+                values[i] = rates.get(i).getUsdToInr();
+            }
+        }
+
+        private double rateAt(long time) {
+            if (values.length == 0) {
+                throw new IllegalStateException("No exchange rates loaded");
+            }
+            int index = Arrays.binarySearch(starts, time);
+            if (index < 0) {
+                // Insertion point - 1: the last rate starting before the time
+                index = Math.max(-index - 2, 0);
+            }
+            return values[index];
+        }
+
+        private int indexOf(LocalDate effectiveFrom) {
+            return Arrays.binarySearch(starts, startOf(effectiveFrom));
+        }
+    }
+
+    private static long startOf(LocalDate day) {
+        return day.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
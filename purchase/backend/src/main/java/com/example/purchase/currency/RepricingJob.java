@@ -0,0 +1,85 @@
+package com.example.purchase.currency;
+
+import com.example.purchase.cache.EntityCacheInvalidator;
+import com.example.purchase.common.DateRanges;
+import com.example.purchase.purchaseorder.PurchaseOrderRepository;
+import com.example.purchase.vendorspend.VendorSpendService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+
+// Recomputes orderamountdollar from orderamountINR (rounded to the cent) for the purchase orders
+// dated within one rate's period. Orders are walked in id order and each chunk is one short transaction with a set-based
+// UPDATE, so a correction over millions of orders never holds locks for long; rows already at the
+// new amount are not touched. Vendor spend USD totals and cached orders follow each chunk.
+@Component
+public class RepricingJob {
+
+    private static final Logger log = LoggerFactory.getLogger(RepricingJob.class);
+
+    // Open ends of a period, outside any real order date
+    private static final Date MIN_DATE = DateRanges.startOfYear(1900);
+    private static final Date MAX_DATE = DateRanges.startOfYear(9999);
+
+    @Value("${currency.reprice-chunk-size:5000}")
+    private int chunkSize;
+
+    @Autowired
+    private PurchaseOrderRepository purchaseOrderRepository;
+
+    @Autowired
+    private VendorSpendService vendorSpendService;
+
+    @Autowired
+    private EntityCacheInvalidator cacheInvalidator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Orders dated in [effectiveFrom, effectiveTo); openStart also covers everything before effectiveFrom
+    public RepricingReport reprice(LocalDate effectiveFrom, LocalDate effectiveTo, boolean openStart, double usdToInr) {
+        long start = System.currentTimeMillis();
+        Date from = openStart ? MIN_DATE : DateRanges.toDate(effectiveFrom.atStartOfDay());
+        Date to = effectiveTo != null ? DateRanges.toDate(effectiveTo.atStartOfDay()) : MAX_DATE;
+        // Undated orders are priced at today's rate
+        Date now = new Date();
+        boolean undated = !now.before(from) && now.before(to);
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        long repriced = 0;
+        int chunks = 0;
+        int lastId = 0;
+        while (true) {
+            int after = lastId;
+            List<Integer> ids = tx.execute(status -> purchaseOrderRepository.findIdsPricedBetween(
+                    after, from, to, undated, PageRequest.of(0, chunkSize)));
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            Integer updated = tx.execute(status -> {
+                int rows = vendorSpendService.recordAmountChange(ids,
+                        () -> purchaseOrderRepository.repriceDollarAmounts(ids, usdToInr));
+                if (rows > 0) {
+                    cacheInvalidator.evictPurchaseOrders(ids);
+                }
+                return rows;
+            });
+            repriced += updated != null ? updated : 0;
+            chunks++;
+            lastId = ids.get(ids.size() - 1);
+        }
+        long tookMs = System.currentTimeMillis() - start;
+        log.info("purchaseOrder.repriced effectiveFrom={} effectiveTo={} usdToInr={} repriced={} chunks={} tookMs={}",
+                effectiveFrom, effectiveTo, usdToInr, repriced, chunks, tookMs);
+        return new RepricingReport(effectiveFrom, effectiveTo, usdToInr, repriced, chunks, tookMs);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.purchase.currency;
+
+import java.time.LocalDate;
+
+// Outcome of re-pricing the purchase orders dated within one rate's period
+public class RepricingReport {
+    private LocalDate effectiveFrom;
+    // Exclusive end of the period; null while the rate is the latest one
+    private LocalDate effectiveTo;
+    private double usdToInr;
+    private long repriced;
+    private int chunks;
+    private long tookMs;
+
+    public RepricingReport(LocalDate effectiveFrom, LocalDate effectiveTo, double usdToInr, long repriced, int chunks,
+            long tookMs) {
+        this.effectiveFrom = effectiveFrom;
+        this.effectiveTo = effectiveTo;
+        this.usdToInr = usdToInr;
+        this.repriced = repriced;
+        this.chunks = chunks;
+        this.tookMs = tookMs;
+    }
+
+    public LocalDate getEffectiveFrom() {
+        return effectiveFrom;
+    }
+
+    public LocalDate getEffectiveTo() {
+        return effectiveTo;
+    }
+
+    public double getUsdToInr() {
+        return usdToInr;
+    }
+
+    public long getRepriced() {
+        return repriced;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public long getTookMs() {
+        return tookMs;
+    }
+}
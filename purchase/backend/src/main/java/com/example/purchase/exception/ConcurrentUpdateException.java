@@ -0,0 +1,9 @@
+package com.example.purchase.exception;
+
+// Thrown when optimistic-lock retries are exhausted; mapped to 409 Conflict
+public class ConcurrentUpdateException extends RuntimeException {
+
+    public ConcurrentUpdateException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
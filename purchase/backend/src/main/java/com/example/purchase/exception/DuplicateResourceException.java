@@ -0,0 +1,9 @@
+package com.example.purchase.exception;
+
+// Thrown when a create/update would violate a uniqueness rule; mapped to 409 Conflict
+public class DuplicateResourceException extends RuntimeException {
+
+    public DuplicateResourceException(String message) {
+        super(message);
+    }
+}
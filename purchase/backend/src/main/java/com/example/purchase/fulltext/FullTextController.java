@@ -0,0 +1,67 @@
+package com.example.purchase.fulltext;
+
+import com.example.purchase.changefeed.ChangeEvent;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/search")
+@Tag(name = "Full-Text Search", description = "Ranked search over event names, vendor names and notes")
+public class FullTextController {
+
+    private static final Set<String> TYPES = Set.of(
+            ChangeEvent.PURCHASE_REQUEST, ChangeEvent.NEGOTIATION, ChangeEvent.PURCHASE_ORDER);
+
+    @Autowired
+    private FullTextIndex fullTextIndex;
+
+    @GetMapping
+    @Operation(summary = "Search purchase requests, negotiations and purchase orders by words or word prefixes")
+    public ResponseEntity<List<FullTextHit>> search(
+            @Parameter(description = "Search text") @RequestParam String q,
+            @Parameter(description = "Comma-separated types (purchaseRequest, negotiation, purchaseOrder)")
+            @RequestParam(required = false) String types,
+            @Parameter(description = "Maximum hits (max 100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Also match misspelled words") @RequestParam(defaultValue = "true") boolean fuzzy) {
+        if (q.isBlank()) {
+            throw new IllegalArgumentException("q must not be blank");
+        }
+        return ResponseEntity.ok(fullTextIndex.search(q, parseTypes(types), size, fuzzy));
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Number of indexed documents")
+    public ResponseEntity<Map<String, Long>> getStats() {
+        return ResponseEntity.ok(Map.of("documents", fullTextIndex.documentCount()));
+    }
+
+    @PostMapping("/rebuild")
+    @Operation(summary = "Rebuild the full-text index from the database")
+    public ResponseEntity<FullTextRebuildReport> rebuild() {
+        return ResponseEntity.ok(fullTextIndex.rebuild());
+    }
+
+    private static Set<String> parseTypes(String types) {
+        if (types == null || types.isBlank()) {
+            return null;
+        }
+        Set<String> parsed = new LinkedHashSet<>();
+        for (String type : types.split(",")) {
+            String trimmed = type.trim();
+            if (!TYPES.contains(trimmed)) {
+                throw new IllegalArgumentException("Unknown type: " + trimmed);
+            }
+            parsed.add(trimmed);
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.purchase.fulltext;
+
+// One ranked match returned by /api/search
+public class FullTextHit {
+    private String type;
+    private Integer id;
+    private float score;
+    private String eventname;
+    private String vendorname;
+    private String notes;
+
+    public FullTextHit(String type, Integer id, float score, String eventname, String vendorname, String notes) {
+        this.type = type;
+        this.id = id;
+        this.score = score;
+        this.eventname = eventname;
+        this.vendorname = vendorname;
+        this.notes = notes;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public float getScore() {
+        return score;
+    }
+
+    public String getEventname() {
+        return eventname;
+    }
+
+    public String getVendorname() {
+        return vendorname;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+}
@@ -0,0 +1,378 @@
+package com.example.purchase.fulltext;
+
+import com.example.purchase.changefeed.ChangeEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Embedded Lucene index over eventname/vendorname of purchase requests, negotiations and purchase
+// orders plus negotiation notes. Queries match every word of the input as an exact term, a prefix
+// or (from three letters on) a fuzzy term, ranked by BM25 with exact > prefix > fuzzy.
+//
+// The index lives in memory next to the in-memory database: it is built on startup and kept current
+// by FullTextIndexListener after each commit. Readers are refreshed every full-text.refresh-ms, so a
+// committed change is searchable within that delay. POST /api/search/rebuild builds a fresh index
+// from the database and swaps it in; changes committed while it runs are re-read before the swap.
+@Component
+public class FullTextIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(FullTextIndex.class);
+
+    static final String[] TEXT_FIELDS = {"eventname", "vendorname", "notes"};
+    private static final String KEY = "key";
+    private static final String TYPE = "type";
+    private static final String ID = "id";
+
+    // Rows read per query while rebuilding
+    private static final int REBUILD_BATCH = 10_000;
+    public static final int MAX_RESULTS = 100;
+
+    // JPQL per indexed entity: id, eventname, vendorname, notes
+    private static final Map<String, String> SOURCES = Map.of(
+            ChangeEvent.PURCHASE_REQUEST, "SELECT pr.prid, pr.eventname, pr.vendorname, NULL FROM PurchaseRequest pr "
+                    + "WHERE pr.prid > :lastId ORDER BY pr.prid",
+            ChangeEvent.NEGOTIATION, "SELECT n.negotiationid, n.eventname, n.vendorname, n.notes FROM Negotiation n "
+                    + "WHERE n.negotiationid > :lastId ORDER BY n.negotiationid",
+            ChangeEvent.PURCHASE_ORDER, "SELECT po.PO_id, po.eventname, po.vendorname, NULL FROM PurchaseOrder po "
+                    + "WHERE po.PO_id > :lastId ORDER BY po.PO_id");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Object rebuildLock = new Object();
+    private volatile Generation current;
+    // Keys written by FullTextIndexListener while a rebuild runs; null when none is running
+    private volatile Set<String> changedDuringRebuild;
+    private Timer queryTimer;
+
+    @PostConstruct
+    void init() {
+        current = new Generation(analyzer);
+        queryTimer = Timer.builder("purchase.fulltext.query")
+                .description("Full-text index queries")
+                .register(registry);
+    }
+
+    @PreDestroy
+    void close() {
+        current.close();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    // Add or replace one entity's document
+    public void index(String type, Integer id, String eventname, String vendorname, String notes) {
+        String key = key(type, id);
+        Set<String> changed = changedDuringRebuild;
+        if (changed != null) {
+            changed.add(key);
+        }
+        try {
+            current.writer.updateDocument(new Term(KEY, key), document(key, type, id, eventname, vendorname, notes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(String type, Integer id) {
+        String key = key(type, id);
+        Set<String> changed = changedDuringRebuild;
+        if (changed != null) {
+            changed.add(key);
+        }
+        try {
+            current.writer.deleteDocuments(new Term(KEY, key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Near-real-time: make recent writes visible to searches
+    @Scheduled(fixedDelayString = "${full-text.refresh-ms:200}")
+    void refresh() {
+        try {
+            current.searchers.maybeRefresh();
+        } catch (IOException e) {
+            log.warn("fullText.refreshFailed reason={}", e.getMessage());
+        }
+    }
+
+    // Best matches for every word of the text; types limits the entity types (null = all)
+    public List<FullTextHit> search(String text, Set<String> types, int size, boolean fuzzy) {
+        List<String> words = analyze(text);
+        if (words.isEmpty()) {
+            return List.of();
+        }
+        Query query = query(words, types, fuzzy);
+        int limit = Math.max(1, Math.min(size, MAX_RESULTS));
+        return queryTimer.record(() -> {
+            SearcherManager searchers = current.searchers;
+            IndexSearcher searcher = null;
+            try {
+                searcher = searchers.acquire();
+                TopDocs top = searcher.search(query, limit);
+                StoredFields stored = searcher.storedFields();
+                List<FullTextHit> hits = new ArrayList<>(top.scoreDocs.length);
+                for (ScoreDoc scoreDoc : top.scoreDocs) {
+                    Document doc = stored.document(scoreDoc.doc);
+                    hits.add(new FullTextHit(doc.get(TYPE), doc.getField(ID).numericValue().intValue(),
+                            scoreDoc.score, doc.get("eventname"), doc.get("vendorname"), doc.get("notes")));
+                }
+                return hits;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                release(searchers, searcher);
+            }
+        });
+    }
+
+    // Build a complete index from the database in a new generation, then swap it in
+    public FullTextRebuildReport rebuild() {
+        synchronized (rebuildLock) {
+            long start = System.currentTimeMillis();
+            Set<String> changed = ConcurrentHashMap.newKeySet();
+            changedDuringRebuild = changed;
+            Generation next = new Generation(analyzer);
+            long documents = 0;
+            try {
+                for (Map.Entry<String, String> source : SOURCES.entrySet()) {
+                    documents += load(next, source.getKey(), source.getValue());
+                }
+                next.searchers.maybeRefreshBlocking();
+                Generation previous = current;
+                current = next;
+                changedDuringRebuild = null;
+                previous.close();
+                // Live writes that landed in the old generation during the load: re-read them
+                reindex(changed);
+                next.searchers.maybeRefreshBlocking();
+            } catch (IOException | RuntimeException e) {
+                changedDuringRebuild = null;
+                if (current != next) {
+                    next.close();
+                }
+                throw e instanceof IOException ? new UncheckedIOException((IOException) e) : (RuntimeException) e;
+            }
+            long tookMs = System.currentTimeMillis() - start;
+            log.info("fullText.rebuilt documents={} tookMs={} replayed={}", documents, tookMs, changed.size());
+            return new FullTextRebuildReport(documents, changed.size(), tookMs);
+        }
+    }
+
+    public long documentCount() {
+        SearcherManager searchers = current.searchers;
+        IndexSearcher searcher = null;
+        try {
+            searcher = searchers.acquire();
+            return searcher.getIndexReader().numDocs();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searchers, searcher);
+        }
+    }
+
+    // Keyset-batched read of one entity table into the given generation
+    private long load(Generation target, String type, String jpql) throws IOException {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        long count = 0;
+        int lastId = 0;
+        while (true) {
+            int after = lastId;
+            List<?> rows = tx.execute(status -> entityManager.createQuery(jpql)
+                    .setParameter("lastId", after)
+                    .setMaxResults(REBUILD_BATCH)
+                    .getResultList());
+            if (rows == null || rows.isEmpty()) {
+                return count;
+            }
+            for (Object row : rows) {
+                Object[] cols = (Object[]) row;
+                Integer id = (Integer) cols[0];
+                String key = key(type, id);
+                target.writer.addDocument(document(key, type, id, (String) cols[1], (String) cols[2], (String) cols[3]));
+                lastId = id;
+            }
+            count += rows.size();
+            entityManager.clear();
+        }
+    }
+
+    // Re-read the given keys from the database and index (or delete) them
+    private void reindex(Set<String> keys) {
+        for (String key : keys) {
+            int separator = key.indexOf(':');
+            String type = key.substring(0, separator);
+            Integer id = Integer.valueOf(key.substring(separator + 1));
+            String jpql = SOURCES.get(type).replace("> :lastId ORDER BY", "= :lastId ORDER BY");
+            TransactionTemplate tx = new TransactionTemplate(transactionManager);
+            tx.setReadOnly(true);
+            List<?> rows = tx.execute(status -> entityManager.createQuery(jpql).setParameter("lastId", id).getResultList());
+            if (rows == null || rows.isEmpty()) {
+                delete(type, id);
+            } else {
+                Object[] cols = (Object[]) rows.get(0);
+                index(type, id, (String) cols[1], (String) cols[2], (String) cols[3]);
+            }
+        }
+    }
+
+    // All words must match; each word as exact term, prefix or fuzzy term in any text field
+    private static Query query(List<String> words, Set<String> types, boolean fuzzy) {
+        BooleanQuery.Builder all = new BooleanQuery.Builder();
+        for (String word : words) {
+            BooleanQuery.Builder any = new BooleanQuery.Builder();
+            for (String field : TEXT_FIELDS) {
+                Term term = new Term(field, word);
+                any.add(new BoostQuery(new TermQuery(term), 4f), BooleanClause.Occur.SHOULD);
+                any.add(new BoostQuery(new PrefixQuery(term), 2f), BooleanClause.Occur.SHOULD);
+                if (fuzzy && word.length() >= 3) {
+                    // One edit up to five letters, two beyond; the first letter must match
+                    any.add(new FuzzyQuery(term, word.length() <= 5 ? 1 : 2, 1), BooleanClause.Occur.SHOULD);
+                }
+            }
+            all.add(any.build(), BooleanClause.Occur.MUST);
+        }
+        if (types != null && !types.isEmpty()) {
+            List<BytesRef> typeTerms = types.stream().map(BytesRef::new).toList();
+            all.add(new TermInSetQuery(TYPE, typeTerms), BooleanClause.Occur.FILTER);
+        }
+        return all.build();
+    }
+
+    // Lower-cased tokens, split the same way the documents were
+    private List<String> analyze(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        try (TokenStream tokens = analyzer.tokenStream("eventname", text)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken()) {
+                words.add(term.toString());
+            }
+            tokens.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return words;
+    }
+
+    private static Document document(String key, String type, Integer id, String eventname, String vendorname,
+            String notes) {
+        Document doc = new Document();
+        doc.add(new StringField(KEY, key, Field.Store.NO));
+        doc.add(new StringField(TYPE, type, Field.Store.YES));
+        doc.add(new StoredField(ID, id));
+        if (eventname != null) {
+            doc.add(new TextField("eventname", eventname, Field.Store.YES));
+        }
+        if (vendorname != null) {
+            doc.add(new TextField("vendorname", vendorname, Field.Store.YES));
+        }
+        if (notes != null) {
+            doc.add(new TextField("notes", notes, Field.Store.YES));
+        }
+        return doc;
+    }
+
+    private static String key(String type, Integer id) {
+        return type + ":" + id;
+    }
+
+    private static void release(SearcherManager searchers, IndexSearcher searcher) {
+        if (searcher != null) {
+            try {
+                searchers.release(searcher);
+            } catch (IOException e) {
+                log.debug("fullText.releaseFailed reason={}", e.getMessage());
+            }
+        }
+    }
+
+    // One in-memory index with its writer and near-real-time searchers
+    private static final class Generation {
+        private final IndexWriter writer;
+        private final SearcherManager searchers;
+
+        private Generation(Analyzer analyzer) {
+            try {
+                writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(analyzer)
+                        .setOpenMode(IndexWriterConfig.OpenMode.CREATE)
+                        .setRAMBufferSizeMB(64));
+                searchers = new SearcherManager(writer, null);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void close() {
+            try {
+                searchers.close();
+                writer.close();
+            } catch (IOException e) {
+                log.debug("fullText.closeFailed reason={}", e.getMessage());
+            }
+        }
+    }
+}
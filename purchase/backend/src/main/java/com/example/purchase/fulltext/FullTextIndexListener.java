@@ -0,0 +1,137 @@
+package com.example.purchase.fulltext;
+
+import com.example.purchase.changefeed.ChangeEvent;
+import com.example.purchase.negotiation.Negotiation;
+import com.example.purchase.purchaseorder.PurchaseOrder;
+import com.example.purchase.purchaserequest.PurchaseRequest;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+
+// Keeps FullTextIndex in step with every entity write path (service updates, cascades, bulk inserts,
+// deletes) from Hibernate's post-commit events, so rolled-back writes never reach the index.
+// Set-based bulk UPDATEs only change statuses and need no re-indexing.
+@Component
+public class FullTextIndexListener
+        implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(FullTextIndexListener.class);
+
+    private static final Map<Class<?>, String> INDEXED = Map.of(
+            PurchaseRequest.class, ChangeEvent.PURCHASE_REQUEST,
+            Negotiation.class, ChangeEvent.NEGOTIATION,
+            PurchaseOrder.class, ChangeEvent.PURCHASE_ORDER);
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private FullTextIndex fullTextIndex;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry listeners = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        listeners.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        listeners.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        listeners.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        String type = INDEXED.get(event.getPersister().getMappedClass());
+        if (type != null) {
+            index(type, (Integer) event.getId(), event.getPersister(), event.getState());
+        }
+    }
+
+    // Status and amount edits leave the indexed text unchanged and are skipped
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        String type = INDEXED.get(event.getPersister().getMappedClass());
+        if (type == null) {
+            return;
+        }
+        EntityPersister persister = event.getPersister();
+        Object[] oldState = event.getOldState();
+        if (oldState != null) {
+            boolean changed = false;
+            for (String field : FullTextIndex.TEXT_FIELDS) {
+                if (!Objects.equals(text(persister, oldState, field), text(persister, event.getState(), field))) {
+                    changed = true;
+                    break;
+                }
+            }
+            if (!changed) {
+                return;
+            }
+        }
+        index(type, (Integer) event.getId(), persister, event.getState());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        String type = INDEXED.get(event.getPersister().getMappedClass());
+        if (type == null) {
+            return;
+        }
+        try {
+            fullTextIndex.delete(type, (Integer) event.getId());
+        } catch (RuntimeException e) {
+            log.warn("fullText.deleteFailed type={} id={} reason={}", type, event.getId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return INDEXED.containsKey(persister.getMappedClass());
+    }
+
+    // The transaction has committed: a failure here is logged and repaired by the next rebuild
+    private void index(String type, Integer id, EntityPersister persister, Object[] state) {
+        try {
+            fullTextIndex.index(type, id, text(persister, state, "eventname"), text(persister, state, "vendorname"),
+                    text(persister, state, "notes"));
+        } catch (RuntimeException e) {
+            log.warn("fullText.indexFailed type={} id={} reason={}", type, id, e.getMessage());
+        }
+    }
+
+    private static String text(EntityPersister persister, Object[] state, String attribute) {
+        String[] names = persister.getPropertyNames();
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(attribute)) {
+                return state[i] != null ? state[i].toString() : null;
+            }
+        }
+        return null;
+    }
+}
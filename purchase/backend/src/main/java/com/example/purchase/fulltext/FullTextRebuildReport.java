@@ -0,0 +1,26 @@
+package com.example.purchase.fulltext;
+
+// Outcome of POST /api/search/rebuild
+public class FullTextRebuildReport {
+    private long documents;
+    private int replayed;
+    private long tookMs;
+
+    public FullTextRebuildReport(long documents, int replayed, long tookMs) {
+        this.documents = documents;
+        this.replayed = replayed;
+        this.tookMs = tookMs;
+    }
+
+    public long getDocuments() {
+        return documents;
+    }
+
+    public int getReplayed() {
+        return replayed;
+    }
+
+    public long getTookMs() {
+        return tookMs;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.purchase.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Workflow counters. Increments are deferred to commit, so a rolled-back or retried
+// transaction (OptimisticRetryTemplate) is never counted twice.
+@Component
+public class BusinessMetrics {
+
+    private final Counter purchaseRequestsCreated;
+    private final Counter negotiationsCompleted;
+    private final Counter purchaseOrdersAutoCreated;
+
+    public BusinessMetrics(MeterRegistry registry) {
+        this.purchaseRequestsCreated = Counter.builder("purchase.requests.created")
+                .description("Purchase requests created (single and bulk)")
+                .register(registry);
+        this.negotiationsCompleted = Counter.builder("purchase.negotiations.completed")
+                .description("Negotiations moved to Completed")
+                .register(registry);
+        this.purchaseOrdersAutoCreated = Counter.builder("purchase.orders.auto.created")
+                .description("Purchase orders created automatically by a completed negotiation")
+                .register(registry);
+    }
+
+    public void purchaseRequestsCreated(int count) {
+        afterCommit(purchaseRequestsCreated, count);
+    }
+
+    public void negotiationCompleted() {
+        afterCommit(negotiationsCompleted, 1);
+    }
+
+    public void purchaseOrderAutoCreated() {
+        afterCommit(purchaseOrdersAutoCreated, 1);
+    }
+
+    private void afterCommit(Counter counter, int count) {
+        if (count <= 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            counter.increment(count);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                counter.increment(count);
+            }
+        });
+    }
+}
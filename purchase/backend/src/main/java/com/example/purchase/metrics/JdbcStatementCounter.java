@@ -0,0 +1,32 @@
+package com.example.purchase.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+// Hibernate hands every SQL string it prepares to this inspector; counting them on the request
+// thread gives statements-per-request (N+1 patterns show up as a fat tail)
+@Component
+public class JdbcStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    public void start() {
+        COUNT.set(new int[1]);
+    }
+
+    // Statements prepared since start(); stops counting on this thread
+    public int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.purchase.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+// Times hand-written (EntityManager) repository methods under the same meter and tag keys that
+// Spring Boot uses for Spring Data repositories, so every query shows up in one place
+@Component
+public class RepositoryTimer {
+
+    public static final String METRIC_NAME = "spring.data.repository.invocations";
+
+    private final MeterRegistry registry;
+
+    public RepositoryTimer(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public <T> T record(Class<?> repository, String method, Supplier<T> query) {
+        Timer.Sample sample = Timer.start(registry);
+        String state = "SUCCESS";
+        String exception = "None";
+        try {
+            return query.get();
+        } catch (RuntimeException e) {
+            state = "ERROR";
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("Duration of repository invocations")
+                    .tag("repository", repository.getSimpleName())
+                    .tag("method", method)
+                    .tag("state", state)
+                    .tag("exception", exception)
+                    .register(registry));
+        }
+    }
+}
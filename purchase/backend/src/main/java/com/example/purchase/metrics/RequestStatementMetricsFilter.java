@@ -0,0 +1,52 @@
+package com.example.purchase.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// Records how many SQL statements each API request prepared, tagged like http.server.requests
+// (method + URI template, so ids do not explode the tag cardinality). Streamed export bodies run on
+// the task executor after this filter returns and are not counted.
+@Component
+public class RequestStatementMetricsFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private JdbcStatementCounter statementCounter;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        statementCounter.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int statements = statementCounter.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("purchase.http.jdbc.statements")
+                    .description("SQL statements prepared per API request")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                    .publishPercentileHistogram()
+                    .register(registry)
+                    .record(statements);
+        }
+    }
+}
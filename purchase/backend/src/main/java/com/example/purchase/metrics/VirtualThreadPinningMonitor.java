@@ -0,0 +1,120 @@
+package com.example.purchase.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Reports carrier-thread pinning while requests run on virtual threads (spring.threads.virtual.enabled
+// on Java 21+). A virtual thread that blocks inside a synchronized block or a native frame keeps its
+// carrier; with JDBC underneath that means H2 / Hikari / Hibernate monitors held across I/O. Pins longer
+// than the threshold are streamed from JFR (jdk.VirtualThreadPinned), timed as
+// purchase.virtualthreads.pinned{layer} and logged once per distinct pinning frame.
+@Component
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    // Frame prefixes that name the layer holding the carrier; the first match from the top wins
+    private static final String[][] LAYERS = {
+            {"org.h2.", "h2"},
+            {"com.zaxxer.hikari.", "hikari"},
+            {"org.hibernate.", "hibernate"},
+            {"com.example.purchase.", "application"}
+    };
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Value("${virtual-threads.pinned-threshold:5ms}")
+    private Duration threshold;
+
+    private final Set<String> reportedFrames = ConcurrentHashMap.newKeySet();
+    private volatile RecordingStream stream;
+
+    @Override
+    public void start() {
+        if (!Threading.VIRTUAL.isActive(environment)) {
+            if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+                log.warn("virtualThreads.unavailable javaVersion={} (requires 21+), using platform threads",
+                        Runtime.version().feature());
+            }
+            return;
+        }
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::record);
+        recording.startAsync();
+        stream = recording;
+        log.info("virtualThreads.enabled pinnedThreshold={}", threshold);
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void record(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+        String layer = "other";
+        String site = frames.isEmpty() ? "unknown" : frameName(frames.get(0));
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            String match = layerOf(type);
+            if (match != null) {
+                layer = match;
+                site = frameName(frame);
+                break;
+            }
+        }
+        Timer.builder("purchase.virtualthreads.pinned")
+                .description("Virtual threads pinned to their carrier longer than the threshold")
+                .tag("layer", layer)
+                .register(registry)
+                .record(event.getDuration());
+        if (reportedFrames.add(site)) {
+            log.warn("virtualThread.pinned layer={} durationMs={} frame={} thread={}", layer,
+                    event.getDuration().toMillis(), site, event.getThread() != null ? event.getThread().getJavaName() : "");
+        }
+    }
+
+    private static String layerOf(String type) {
+        for (String[] layer : LAYERS) {
+            if (type.startsWith(layer[0])) {
+                return layer[1];
+            }
+        }
+        return null;
+    }
+
+    private static String frameName(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.purchase.negotiation;
 
+import com.example.purchase.common.Money;
 import com.example.purchase.purchaserequest.PurchaseRequest;
 import com.example.purchase.purchaseorder.PurchaseOrder;
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -7,11 +8,19 @@ import jakarta.persistence.*;
 import java.util.Date;
 
 @Entity
-@Table(name = "negotiations")
+@Table(name = "negotiations", indexes = {
+        @Index(name = "idx_negotiation_vendor_status", columnList = "vendorid, negotiationstatus"),
+        @Index(name = "idx_negotiation_eventid", columnList = "eventid"),
+        @Index(name = "idx_negotiation_cdsid_date", columnList = "CDSID, negotiationdate"),
+        @Index(name = "idx_negotiation_status", columnList = "negotiationstatus"),
+        @Index(name = "idx_negotiation_date", columnList = "negotiationdate"),
+        @Index(name = "idx_negotiation_finalamount", columnList = "finalamount_minor")
+})
 public class Negotiation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "negotiation_seq")
+    @SequenceGenerator(name = "negotiation_seq", sequenceName = "negotiation_seq", allocationSize = 50)
     private Integer negotiationid;
 
     private Integer eventid; // foreign key from event table
@@ -30,8 +39,11 @@ public class Negotiation {
     private String cdsid; // who is conducting negotiation
 
     private Date negotiationdate;
-    private Double initialquoteamount;
-    private Double finalamount;
+    // Amounts in minor units (paise); see Money
+    @Column(name = "initialquoteamount_minor")
+    private Long initialquoteamount;
+    @Column(name = "finalamount_minor")
+    private Long finalamount;
     private String negotiationstatus; // Pending, Completed, Cancelled
     private String notes;
 
@@ -43,12 +55,17 @@ public class Negotiation {
     @JsonIgnore
     private PurchaseOrder purchaseOrder;
 
+    // Optimistic lock: concurrent writers of the same row conflict at flush instead of overwriting
+    @Version
+    @Column(name = "VERSION")
+    private Long version;
+
     public Negotiation() {
     }
 
     public Negotiation(Integer negotiationid, Integer eventid, String eventname, Integer vendorid,
-            String vendorname,  String cdsid, Date negotiationdate, Double initialquoteamount,
-            Double finalamount, String negotiationstatus, String notes,
+            String vendorname,  String cdsid, Date negotiationdate, Money initialquoteamount,
+            Money finalamount, String negotiationstatus, String notes,
             PurchaseRequest purchaseRequest, PurchaseOrder purchaseOrder) {
         this.negotiationid = negotiationid;
         this.eventid = eventid;
@@ -58,8 +75,8 @@ public class Negotiation {
         
         this.cdsid = cdsid;
         this.negotiationdate = negotiationdate;
-        this.initialquoteamount = initialquoteamount;
-        this.finalamount = finalamount;
+        this.initialquoteamount = Money.minorOf(initialquoteamount);
+        this.finalamount = Money.minorOf(finalamount);
         this.negotiationstatus = negotiationstatus;
         this.notes = notes;
         this.purchaseRequest = purchaseRequest;
@@ -124,20 +141,20 @@ public class Negotiation {
         this.negotiationdate = negotiationdate;
     }
 
-    public Double getInitialquoteamount() {
-        return initialquoteamount;
+    public Money getInitialquoteamount() {
+        return Money.fromMinor(initialquoteamount);
     }
 
-    public void setInitialquoteamount(Double initialquoteamount) {
-        this.initialquoteamount = initialquoteamount;
+    public void setInitialquoteamount(Money initialquoteamount) {
+        this.initialquoteamount = Money.minorOf(initialquoteamount);
     }
 
-    public Double getFinalamount() {
-        return finalamount;
+    public Money getFinalamount() {
+        return Money.fromMinor(finalamount);
     }
 
-    public void setFinalamount(Double finalamount) {
-        this.finalamount = finalamount;
+    public void setFinalamount(Money finalamount) {
+        this.finalamount = Money.minorOf(finalamount);
     }
 
     public String getNegotiationstatus() {
@@ -171,4 +188,12 @@ public class Negotiation {
     public void setPurchaseOrder(PurchaseOrder purchaseOrder) {
         this.purchaseOrder = purchaseOrder;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,143 @@
+package com.example.purchase.negotiation;
+
+import com.example.purchase.common.Money;
+import com.example.purchase.metrics.RepositoryTimer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Savings aggregates computed in the database; work and result size scale with groups, not rows.
+// The grouping expression varies per request, so queries are assembled from SavingsGroupBy constants.
+@Repository
+public class NegotiationAnalyticsRepository {
+
+    // Amount columns hold minor units (paise), so sums and savings are exact BIGINT arithmetic
+    private static final String INITIAL = "initialquoteamount_minor";
+    private static final String FINAL = "finalamount_minor";
+    private static final String SAVING = "(" + INITIAL + " - " + FINAL + ")";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private RepositoryTimer repositoryTimer;
+
+    // Public entry points are timed like Spring Data repository methods (see RepositoryTimer)
+    public Map<String, SavingsGroup> sumSavings(SavingsGroupBy groupBy, Date from, Date to) {
+        return repositoryTimer.record(NegotiationAnalyticsRepository.class, "sumSavings",
+                () -> querySumSavings(groupBy, from, to));
+    }
+
+    public Map<String, List<NegotiationSaving>> topSavingsPerGroup(SavingsGroupBy groupBy, Date from, Date to,
+            int top) {
+        return repositoryTimer.record(NegotiationAnalyticsRepository.class, "topSavingsPerGroup",
+                () -> queryTopSavingsPerGroup(groupBy, from, to, top));
+    }
+
+    public List<NegotiationSaving> topSavings(Date from, Date to, int top) {
+        return repositoryTimer.record(NegotiationAnalyticsRepository.class, "topSavings",
+                () -> queryTopSavings(from, to, top));
+    }
+
+    // One row per group: key, label, count, SUM(initial), SUM(final), SUM(saving); largest savings first
+    private Map<String, SavingsGroup> querySumSavings(SavingsGroupBy groupBy, Date from, Date to) {
+        String key = groupBy.getKeyExpression();
+        Query query = entityManager.createNativeQuery("SELECT " + key + ", " + groupBy.getLabelExpression()
+                + ", COUNT(*), SUM(" + INITIAL + "), SUM(" + FINAL + "), SUM(" + SAVING + ") "
+                + "FROM negotiations WHERE " + where(from, to)
+                + " GROUP BY " + key + " ORDER BY SUM(" + SAVING + ") DESC");
+        bindRange(query, from, to);
+
+        Map<String, SavingsGroup> groups = new LinkedHashMap<>();
+        for (Object row : query.getResultList()) {
+            Object[] cols = (Object[]) row;
+            String groupKey = groupBy.formatKey(cols[0]);
+            groups.put(groupKey, new SavingsGroup(groupKey, (String) cols[1], toLong(cols[2]),
+                    toLong(cols[3]), toLong(cols[4]), toLong(cols[5])));
+        }
+        return groups;
+    }
+
+    // Top-N negotiations by absolute saving within each group (ROW_NUMBER over a per-group partition)
+    private Map<String, List<NegotiationSaving>> queryTopSavingsPerGroup(SavingsGroupBy groupBy, Date from,
+            Date to, int top) {
+        String key = groupBy.getKeyExpression();
+        Query query = entityManager.createNativeQuery("SELECT grp, negotiationid, vendorid, eventid, CDSID, "
+                + INITIAL + ", " + FINAL + ", saving FROM ("
+                + "SELECT " + key + " AS grp, negotiationid, vendorid, eventid, CDSID, " + INITIAL + ", "
+                + FINAL + ", " + SAVING + " AS saving, ROW_NUMBER() OVER (PARTITION BY " + key
+                + " ORDER BY " + SAVING + " DESC, negotiationid) AS rn "
+                + "FROM negotiations WHERE " + where(from, to) + ") ranked "
+                + "WHERE rn <= :top ORDER BY grp, rn");
+        bindRange(query, from, to);
+        query.setParameter("top", top);
+
+        Map<String, List<NegotiationSaving>> result = new LinkedHashMap<>();
+        for (Object row : query.getResultList()) {
+            Object[] cols = (Object[]) row;
+            result.computeIfAbsent(groupBy.formatKey(cols[0]), k -> new ArrayList<>()).add(toSaving(cols, 1));
+        }
+        return result;
+    }
+
+    // Top-N negotiations by absolute saving across all groups
+    private List<NegotiationSaving> queryTopSavings(Date from, Date to, int top) {
+        Query query = entityManager.createNativeQuery("SELECT negotiationid, vendorid, eventid, CDSID, "
+                + INITIAL + ", " + FINAL + ", " + SAVING + " FROM negotiations WHERE " + where(from, to)
+                + " ORDER BY " + SAVING + " DESC, negotiationid");
+        bindRange(query, from, to);
+        query.setMaxResults(top);
+
+        List<NegotiationSaving> result = new ArrayList<>();
+        for (Object row : query.getResultList()) {
+            result.add(toSaving((Object[]) row, 0));
+        }
+        return result;
+    }
+
+    private static String where(Date from, Date to) {
+        StringBuilder where = new StringBuilder(FINAL + " < " + INITIAL);
+        if (from != null) {
+            where.append(" AND negotiationdate >= :from");
+        }
+        if (to != null) {
+            where.append(" AND negotiationdate < :to");
+        }
+        return where.toString();
+    }
+
+    private static void bindRange(Query query, Date from, Date to) {
+        if (from != null) {
+            query.setParameter("from", from);
+        }
+        if (to != null) {
+            query.setParameter("to", to);
+        }
+    }
+
+    private static NegotiationSaving toSaving(Object[] cols, int offset) {
+        return new NegotiationSaving(toInteger(cols[offset]), toInteger(cols[offset + 1]),
+                toInteger(cols[offset + 2]), (String) cols[offset + 3], toMajor(cols[offset + 4]),
+                toMajor(cols[offset + 5]), toMajor(cols[offset + 6]));
+    }
+
+    private static Integer toInteger(Object value) {
+        return value == null ? null : ((Number) value).intValue();
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+
+    private static double toMajor(Object value) {
+        return Money.toMajor(toLong(value));
+    }
+}
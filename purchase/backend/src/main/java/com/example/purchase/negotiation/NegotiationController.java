@@ -1,13 +1,20 @@
 package com.example.purchase.negotiation;
 
+import com.example.purchase.common.BulkResult;
+import com.example.purchase.common.CursorPage;
+import com.example.purchase.common.ExportFormat;
+import com.example.purchase.common.SearchRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Date;
 import java.util.List;
@@ -68,6 +75,12 @@ public class NegotiationController {
         return ResponseEntity.ok(negotiationService.getNegotiationsByYear(year));
     }
 
+    @GetMapping("/search")
+    @Operation(summary = "Search negotiations by status (Pending, Completed, Cancelled), vendor, event, cdsid, names, date and amount range")
+    public ResponseEntity<CursorPage<NegotiationDTO>> searchNegotiations(@ParameterObject SearchRequest request) {
+        return ResponseEntity.ok(negotiationService.searchNegotiations(request));
+    }
+
     @GetMapping("/filter")
     @Operation(summary = "Get negotiations by date range")
     public ResponseEntity<List<NegotiationDTO>> getNegotiationsByDateRange(
@@ -84,6 +97,116 @@ public class NegotiationController {
         return ResponseEntity.ok(negotiationService.getNegotiationsWithSavings());
     }
 
+    @GetMapping("/savings/summary")
+    @Operation(summary = "Get savings totals, savings % and top-N negotiations per vendor, event, cdsid or month")
+    public ResponseEntity<SavingsSummary> getSavingsSummary(
+            @RequestParam(defaultValue = "vendor") @Parameter(description = "Group by (vendor, event, cdsid, month)") String groupBy,
+            @RequestParam(defaultValue = "5") @Parameter(description = "Top negotiations per group by absolute saving (max 100)") int top,
+            @RequestParam(required = false) @Parameter(description = "Start date (yyyy-MM-dd), inclusive")
+            @DateTimeFormat(pattern = "yyyy-MM-dd") Date fromDate,
+            @RequestParam(required = false) @Parameter(description = "End date (yyyy-MM-dd), exclusive")
+            @DateTimeFormat(pattern = "yyyy-MM-dd") Date toDate) {
+        return ResponseEntity.ok(negotiationService.getSavingsSummary(SavingsGroupBy.from(groupBy), fromDate, toDate, top));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export all negotiations as NDJSON or CSV (streamed)")
+    public ResponseEntity<StreamingResponseBody> exportNegotiations(
+            @RequestParam(defaultValue = "ndjson") @Parameter(description = "Format (ndjson, csv)") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = out -> negotiationService.exportNegotiations(out, exportFormat);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"negotiations." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    // ============================================
+    // Keyset-paginated variants (selected with ?size=)
+    // ============================================
+
+    @GetMapping(params = "size")
+    @Operation(summary = "Get negotiations page")
+    public ResponseEntity<CursorPage<NegotiationDTO>> getNegotiationsPage(
+            @RequestParam @Parameter(description = "Page size (max 500)") int size,
+            @RequestParam(required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Include total row count") boolean withTotal) {
+        return ResponseEntity.ok(negotiationService.getNegotiationsPage(cursor, size, withTotal));
+    }
+
+    @GetMapping(value = "/status/{status}", params = "size")
+    @Operation(summary = "Get negotiations page by status")
+    public ResponseEntity<CursorPage<NegotiationDTO>> getNegotiationsPageByStatus(
+            @PathVariable @Parameter(description = "Status (e.g., Pending, Completed, Cancelled)") String status,
+            @RequestParam @Parameter(description = "Page size (max 500)") int size,
+            @RequestParam(required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Include total row count") boolean withTotal) {
+        return ResponseEntity.ok(negotiationService.getNegotiationsPageByStatus(status, cursor, size, withTotal));
+    }
+
+    @GetMapping(value = "/vendor/{vendorid}", params = "size")
+    @Operation(summary = "Get negotiations page by vendor ID")
+    public ResponseEntity<CursorPage<NegotiationDTO>> getNegotiationsPageByVendor(
+            @PathVariable @Parameter(description = "Vendor ID") Integer vendorid,
+            @RequestParam @Parameter(description = "Page size (max 500)") int size,
+            @RequestParam(required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Include total row count") boolean withTotal) {
+        return ResponseEntity.ok(negotiationService.getNegotiationsPageByVendor(vendorid, cursor, size, withTotal));
+    }
+
+    @GetMapping(value = "/event/{eventid}", params = "size")
+    @Operation(summary = "Get negotiations page by event ID")
+    public ResponseEntity<CursorPage<NegotiationDTO>> getNegotiationsPageByEvent(
+            @PathVariable @Parameter(description = "Event ID") Integer eventid,
+            @RequestParam @Parameter(description = "Page size (max 500)") int size,
+            @RequestParam(required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Include total row count") boolean withTotal) {
+        return ResponseEntity.ok(negotiationService.getNegotiationsPageByEvent(eventid, cursor, size, withTotal));
+    }
+
+    @GetMapping(value = "/cdsid/{cdsid}", params = "size")
+    @Operation(summary = "Get negotiations page by CDSID")
+    public ResponseEntity<CursorPage<NegotiationDTO>> getNegotiationsPageByCdsid(
+            @PathVariable @Parameter(description = "CDSID") String cdsid,
+            @RequestParam @Parameter(description = "Page size (max 500)") int size,
+            @RequestParam(required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Include total row count") boolean withTotal) {
+        return ResponseEntity.ok(negotiationService.getNegotiationsPageByCdsid(cdsid, cursor, size, withTotal));
+    }
+
+    @GetMapping(value = "/year/{year}", params = "size")
+    @Operation(summary = "Get negotiations page by year")
+    public ResponseEntity<CursorPage<NegotiationDTO>> getNegotiationsPageByYear(
+            @PathVariable @Parameter(description = "Year (e.g., 2024)") int year,
+            @RequestParam @Parameter(description = "Page size (max 500)") int size,
+            @RequestParam(required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Include total row count") boolean withTotal) {
+        return ResponseEntity.ok(negotiationService.getNegotiationsPageByYear(year, cursor, size, withTotal));
+    }
+
+    @GetMapping(value = "/filter", params = "size")
+    @Operation(summary = "Get negotiations page by date range")
+    public ResponseEntity<CursorPage<NegotiationDTO>> getNegotiationsPageByDateRange(
+            @RequestParam @Parameter(description = "Start date (yyyy-MM-dd)")
+            @DateTimeFormat(pattern = "yyyy-MM-dd") Date fromDate,
+            @RequestParam @Parameter(description = "End date (yyyy-MM-dd)")
+            @DateTimeFormat(pattern = "yyyy-MM-dd") Date toDate,
+            @RequestParam @Parameter(description = "Page size (max 500)") int size,
+            @RequestParam(required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Include total row count") boolean withTotal) {
+        return ResponseEntity.ok(negotiationService.getNegotiationsPageByDateRange(fromDate, toDate, cursor, size, withTotal));
+    }
+
+    @GetMapping(value = "/savings", params = "size")
+    @Operation(summary = "Get negotiations with cost savings page")
+    public ResponseEntity<CursorPage<NegotiationDTO>> getNegotiationsWithSavingsPage(
+            @RequestParam @Parameter(description = "Page size (max 500)") int size,
+            @RequestParam(required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Include total row count") boolean withTotal) {
+        return ResponseEntity.ok(negotiationService.getNegotiationsWithSavingsPage(cursor, size, withTotal));
+    }
+
     @PostMapping
     @Operation(summary = "Create new negotiation")
     public ResponseEntity<NegotiationDTO> createNegotiation(@RequestBody NegotiationDTO negotiationDTO) {
@@ -97,6 +220,13 @@ public class NegotiationController {
         return new ResponseEntity<>(negotiationService.createNegotiationFromPR(prid), HttpStatus.CREATED);
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "Create negotiations in bulk (batched, per-row results)")
+    public ResponseEntity<BulkResult> createNegotiations(@RequestBody List<NegotiationDTO> dtos) {
+        BulkResult result = negotiationService.createNegotiations(dtos);
+        return ResponseEntity.status(result.responseStatus()).body(result);
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update negotiation")
     public ResponseEntity<NegotiationDTO> updateNegotiation(
@@ -1,5 +1,7 @@
 package com.example.purchase.negotiation;
 
+import com.example.purchase.common.Money;
+
 import java.util.Date;
 
 public class NegotiationDTO {
@@ -20,9 +22,10 @@ public class NegotiationDTO {
     public NegotiationDTO() {
     }
 
+    // Projection constructor: amounts arrive in minor units, as stored
     public NegotiationDTO(Integer negotiationid, Integer eventid, String eventname, Integer vendorid,
-            String vendorname,  String cdsid, Date negotiationdate, Double initialquoteamount,
-            Double finalamount, String negotiationstatus, String notes, Integer prid) {
+            String vendorname,  String cdsid, Date negotiationdate, Long initialquoteamount,
+            Long finalamount, String negotiationstatus, String notes, Integer prid) {
         this.negotiationid = negotiationid;
         this.eventid = eventid;
         this.eventname = eventname;
@@ -31,8 +34,8 @@ public class NegotiationDTO {
        
         this.cdsid = cdsid;
         this.negotiationdate = negotiationdate;
-        this.initialquoteamount = initialquoteamount;
-        this.finalamount = finalamount;
+        this.initialquoteamount = Money.majorOf(initialquoteamount);
+        this.finalamount = Money.majorOf(finalamount);
         this.negotiationstatus = negotiationstatus;
         this.notes = notes;
         this.prid = prid;
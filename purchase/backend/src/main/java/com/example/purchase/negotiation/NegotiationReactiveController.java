@@ -0,0 +1,55 @@
+package com.example.purchase.negotiation;
+
+import com.example.purchase.common.DateRanges;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.util.Date;
+
+// Streaming variants of the negotiation query endpoints; same contract as PurchaseRequestReactiveController
+@RestController
+@RequestMapping(value = "/api/reactive/negotiations",
+        produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+@Tag(name = "Negotiation Management (reactive reads)", description = "Streaming read APIs for negotiations")
+public class NegotiationReactiveController {
+
+    @Autowired
+    private NegotiationReactiveRepository negotiationReactiveRepository;
+
+    @GetMapping("/status/{status}")
+    @Operation(summary = "Stream negotiations by status")
+    public Flux<NegotiationDTO> getNegotiationsByStatus(
+            @PathVariable @Parameter(description = "Status (e.g., Pending, Completed, Cancelled)") String status) {
+        return negotiationReactiveRepository.findByNegotiationstatus(status);
+    }
+
+    @GetMapping("/vendor/{vendorid}")
+    @Operation(summary = "Stream negotiations by vendor ID")
+    public Flux<NegotiationDTO> getNegotiationsByVendor(
+            @PathVariable @Parameter(description = "Vendor ID") Integer vendorid) {
+        return negotiationReactiveRepository.findByVendorid(vendorid);
+    }
+
+    @GetMapping("/year/{year}")
+    @Operation(summary = "Stream negotiations by year")
+    public Flux<NegotiationDTO> getNegotiationsByYear(
+            @PathVariable @Parameter(description = "Year (e.g., 2024)") int year) {
+        return negotiationReactiveRepository.findByYearRange(DateRanges.startOfYear(year), DateRanges.startOfNextYear(year));
+    }
+
+    @GetMapping("/filter")
+    @Operation(summary = "Stream negotiations by date range")
+    public Flux<NegotiationDTO> getNegotiationsByDateRange(
+            @RequestParam @Parameter(description = "Start date (yyyy-MM-dd)")
+            @DateTimeFormat(pattern = "yyyy-MM-dd") Date fromDate,
+            @RequestParam @Parameter(description = "End date (yyyy-MM-dd)")
+            @DateTimeFormat(pattern = "yyyy-MM-dd") Date toDate) {
+        return negotiationReactiveRepository.findByDateRange(fromDate, toDate);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.purchase.negotiation;
+
+import com.example.purchase.common.DateRanges;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+
+// Read-only R2DBC queries behind /api/reactive/negotiations. Same columns and predicates as the
+// JPQL DTO queries in NegotiationRepository; rows are emitted as the subscriber requests them.
+@Repository
+public class NegotiationReactiveRepository {
+
+    private static final String DTO_SELECT = "SELECT n.negotiationid, n.eventid, n.eventname, n.vendorid, n.vendorname, "
+            + "n.cdsid, n.negotiationdate, n.initialquoteamount_minor, n.finalamount_minor, n.negotiationstatus, n.notes, "
+            + "n.prid FROM negotiations n ";
+
+    @Autowired
+    private DatabaseClient reactiveDatabaseClient;
+
+    public Flux<NegotiationDTO> findByNegotiationstatus(String status) {
+        return reactiveDatabaseClient.sql(DTO_SELECT + "WHERE n.negotiationstatus = :status ORDER BY n.negotiationid")
+                .bind("status", status)
+                .map((row, metadata) -> toDTO(row))
+                .all();
+    }
+
+    public Flux<NegotiationDTO> findByVendorid(Integer vendorid) {
+        return reactiveDatabaseClient.sql(DTO_SELECT + "WHERE n.vendorid = :vendorid ORDER BY n.negotiationid")
+                .bind("vendorid", vendorid)
+                .map((row, metadata) -> toDTO(row))
+                .all();
+    }
+
+    public Flux<NegotiationDTO> findByYearRange(Date yearStart, Date nextYearStart) {
+        return reactiveDatabaseClient.sql(DTO_SELECT + "WHERE n.negotiationdate >= :yearStart "
+                        + "AND n.negotiationdate < :nextYearStart ORDER BY n.negotiationid")
+                .bind("yearStart", DateRanges.toLocalDateTime(yearStart))
+                .bind("nextYearStart", DateRanges.toLocalDateTime(nextYearStart))
+                .map((row, metadata) -> toDTO(row))
+                .all();
+    }
+
+    public Flux<NegotiationDTO> findByDateRange(Date startDate, Date endDate) {
+        return reactiveDatabaseClient.sql(DTO_SELECT
+                        + "WHERE n.negotiationdate BETWEEN :startDate AND :endDate ORDER BY n.negotiationid")
+                .bind("startDate", DateRanges.toLocalDateTime(startDate))
+                .bind("endDate", DateRanges.toLocalDateTime(endDate))
+                .map((row, metadata) -> toDTO(row))
+                .all();
+    }
+
+    private static NegotiationDTO toDTO(Row row) {
+        return new NegotiationDTO(
+                row.get("negotiationid", Integer.class),
+                row.get("eventid", Integer.class),
+                row.get("eventname", String.class),
+                row.get("vendorid", Integer.class),
+                row.get("vendorname", String.class),
+                row.get("cdsid", String.class),
+                DateRanges.toDate(row.get("negotiationdate", LocalDateTime.class)),
+                row.get("initialquoteamount_minor", Long.class),
+                row.get("finalamount_minor", Long.class),
+                row.get("negotiationstatus", String.class),
+                row.get("notes", String.class),
+                row.get("prid", Integer.class));
+    }
+}
@@ -1,41 +1,135 @@
 package com.example.purchase.negotiation;
 
+import com.example.purchase.common.IdStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface NegotiationRepository extends JpaRepository<Negotiation, Integer> {
 
+    // DTO constructor expression: selects only DTO columns (and FK ids) without hydrating entities
+    String DTO_SELECT = "SELECT new com.example.purchase.negotiation.NegotiationDTO("
+            + "n.negotiationid, n.eventid, n.eventname, n.vendorid, n.vendorname, n.cdsid, n.negotiationdate, "
+            + "n.initialquoteamount, n.finalamount, n.negotiationstatus, n.notes, pr.prid) "
+            + "FROM Negotiation n LEFT JOIN n.purchaseRequest pr ";
+
+    @Query(DTO_SELECT + "ORDER BY n.negotiationid")
+    List<NegotiationDTO> findAllDTOs();
+
+    @Query(DTO_SELECT + "WHERE n.negotiationid = :id")
+    Optional<NegotiationDTO> findDTOById(@Param("id") Integer id);
+
     // Find by status
-    List<Negotiation> findByNegotiationstatus(String status);
+    @Query(DTO_SELECT + "WHERE n.negotiationstatus = :status")
+    List<NegotiationDTO> findByNegotiationstatus(@Param("status") String status);
 
     // Find by vendor id
-    List<Negotiation> findByVendorid(Integer vendorid);
+    @Query(DTO_SELECT + "WHERE n.vendorid = :vendorid")
+    List<NegotiationDTO> findByVendorid(@Param("vendorid") Integer vendorid);
 
     // Find by event id
-    List<Negotiation> findByEventid(Integer eventid);
+    @Query(DTO_SELECT + "WHERE n.eventid = :eventid")
+    List<NegotiationDTO> findByEventid(@Param("eventid") Integer eventid);
 
     // Find by cdsid (UPDATED)
-    List<Negotiation> findByCdsid(String cdsid);
+    @Query(DTO_SELECT + "WHERE n.cdsid = :cdsid")
+    List<NegotiationDTO> findByCdsid(@Param("cdsid") String cdsid);
 
     // Find by purchase request id
     Optional<Negotiation> findByPurchaseRequest_Prid(Integer prid);
 
-    // Find by year
-    @Query("SELECT n FROM Negotiation n WHERE YEAR(n.negotiationdate) = :year")
-    List<Negotiation> findByYear(@Param("year") int year);
+    // Find by year (half-open range so the date index is usable)
+    @Query(DTO_SELECT + "WHERE n.negotiationdate >= :yearStart AND n.negotiationdate < :nextYearStart")
+    List<NegotiationDTO> findByYearRange(@Param("yearStart") Date yearStart, @Param("nextYearStart") Date nextYearStart);
 
     // Find by date range
-    @Query("SELECT n FROM Negotiation n WHERE n.negotiationdate BETWEEN :startDate AND :endDate")
-    List<Negotiation> findByDateRange(@Param("startDate") Date startDate, @Param("endDate") Date endDate);
+    @Query(DTO_SELECT + "WHERE n.negotiationdate BETWEEN :startDate AND :endDate")
+    List<NegotiationDTO> findByDateRange(@Param("startDate") Date startDate, @Param("endDate") Date endDate);
 
     // Find negotiations with savings (final amount < initial quote)
-    @Query("SELECT n FROM Negotiation n WHERE n.finalamount < n.initialquoteamount")
-    List<Negotiation> findNegotiationsWithSavings();
+    @Query(DTO_SELECT + "WHERE n.finalamount < n.initialquoteamount")
+    List<NegotiationDTO> findNegotiationsWithSavings();
+
+    // ============================================
+    // Keyset pagination (id > :lastId ORDER BY id)
+    // ============================================
+
+    @Query(DTO_SELECT + "WHERE n.negotiationid > :lastId ORDER BY n.negotiationid")
+    List<NegotiationDTO> findPage(@Param("lastId") Integer lastId, Pageable pageable);
+
+    @Query(DTO_SELECT + "WHERE n.negotiationstatus = :status AND n.negotiationid > :lastId ORDER BY n.negotiationid")
+    List<NegotiationDTO> findPageByNegotiationstatus(@Param("status") String status, @Param("lastId") Integer lastId, Pageable pageable);
+
+    @Query(DTO_SELECT + "WHERE n.vendorid = :vendorid AND n.negotiationid > :lastId ORDER BY n.negotiationid")
+    List<NegotiationDTO> findPageByVendorid(@Param("vendorid") Integer vendorid, @Param("lastId") Integer lastId, Pageable pageable);
+
+    @Query(DTO_SELECT + "WHERE n.eventid = :eventid AND n.negotiationid > :lastId ORDER BY n.negotiationid")
+    List<NegotiationDTO> findPageByEventid(@Param("eventid") Integer eventid, @Param("lastId") Integer lastId, Pageable pageable);
+
+    @Query(DTO_SELECT + "WHERE n.cdsid = :cdsid AND n.negotiationid > :lastId ORDER BY n.negotiationid")
+    List<NegotiationDTO> findPageByCdsid(@Param("cdsid") String cdsid, @Param("lastId") Integer lastId, Pageable pageable);
+
+    @Query(DTO_SELECT + "WHERE n.negotiationdate >= :yearStart AND n.negotiationdate < :nextYearStart AND n.negotiationid > :lastId ORDER BY n.negotiationid")
+    List<NegotiationDTO> findPageByYearRange(@Param("yearStart") Date yearStart, @Param("nextYearStart") Date nextYearStart,
+            @Param("lastId") Integer lastId, Pageable pageable);
+
+    @Query(DTO_SELECT + "WHERE n.negotiationdate BETWEEN :startDate AND :endDate AND n.negotiationid > :lastId ORDER BY n.negotiationid")
+    List<NegotiationDTO> findPageByDateRange(@Param("startDate") Date startDate, @Param("endDate") Date endDate,
+            @Param("lastId") Integer lastId, Pageable pageable);
+
+    @Query(DTO_SELECT + "WHERE n.finalamount < n.initialquoteamount AND n.negotiationid > :lastId ORDER BY n.negotiationid")
+    List<NegotiationDTO> findPageWithSavings(@Param("lastId") Integer lastId, Pageable pageable);
+
+    long countByNegotiationstatus(String status);
+
+    long countByVendorid(Integer vendorid);
+
+    long countByEventid(Integer eventid);
+
+    long countByCdsid(String cdsid);
+
+    @Query("SELECT COUNT(n) FROM Negotiation n WHERE n.negotiationdate >= :yearStart AND n.negotiationdate < :nextYearStart")
+    long countByYearRange(@Param("yearStart") Date yearStart, @Param("nextYearStart") Date nextYearStart);
+
+    @Query("SELECT COUNT(n) FROM Negotiation n WHERE n.negotiationdate BETWEEN :startDate AND :endDate")
+    long countByDateRange(@Param("startDate") Date startDate, @Param("endDate") Date endDate);
+
+    @Query("SELECT COUNT(n) FROM Negotiation n WHERE n.finalamount < n.initialquoteamount")
+    long countWithSavings();
+
+    // ============================================
+    // Streaming export (server-side cursor over DTO rows)
+    // ============================================
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(DTO_SELECT + "ORDER BY n.negotiationid")
+    Stream<NegotiationDTO> streamAll();
+
+    // ============================================
+    // Bulk status transitions (set-based)
+    // ============================================
+
+    // Row state (status, version) of the negotiations behind the given purchase orders, for the change feed
+    @Query("SELECT new com.example.purchase.common.IdStatus(n.negotiationid, n.negotiationstatus, n.version) "
+            + "FROM PurchaseOrder po JOIN po.negotiation n WHERE po.PO_id IN :poIds")
+    List<IdStatus> findStateForPurchaseOrders(@Param("poIds") Collection<Integer> poIds);
+
+    // Cascade target for bulk PO rejection: the negotiations behind the given purchase orders
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Negotiation n SET n.negotiationstatus = :status, n.version = n.version + 1 WHERE n.negotiationid IN "
+            + "(SELECT po.negotiation.negotiationid FROM PurchaseOrder po WHERE po.PO_id IN :poIds)")
+    int updateStatusForPurchaseOrders(@Param("poIds") Collection<Integer> poIds, @Param("status") String status);
 }
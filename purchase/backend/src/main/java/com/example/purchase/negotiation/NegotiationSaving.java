@@ -0,0 +1,54 @@
+package com.example.purchase.negotiation;
+
+// One negotiation in a group's top-N by absolute saving
+public class NegotiationSaving {
+    private Integer negotiationid;
+    private Integer vendorid;
+    private Integer eventid;
+    private String cdsid;
+    private Double initialquoteamount;
+    private Double finalamount;
+    private Double saving;
+
+    public NegotiationSaving() {
+    }
+
+    public NegotiationSaving(Integer negotiationid, Integer vendorid, Integer eventid, String cdsid,
+            Double initialquoteamount, Double finalamount, Double saving) {
+        this.negotiationid = negotiationid;
+        this.vendorid = vendorid;
+        this.eventid = eventid;
+        this.cdsid = cdsid;
+        this.initialquoteamount = initialquoteamount;
+        this.finalamount = finalamount;
+        this.saving = saving;
+    }
+
+    public Integer getNegotiationid() {
+        return negotiationid;
+    }
+
+    public Integer getVendorid() {
+        return vendorid;
+    }
+
+    public Integer getEventid() {
+        return eventid;
+    }
+
+    public String getCdsid() {
+        return cdsid;
+    }
+
+    public Double getInitialquoteamount() {
+        return initialquoteamount;
+    }
+
+    public Double getFinalamount() {
+        return finalamount;
+    }
+
+    public Double getSaving() {
+        return saving;
+    }
+}
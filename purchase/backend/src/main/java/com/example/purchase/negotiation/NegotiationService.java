@@ -1,22 +1,52 @@
 package com.example.purchase.negotiation;
 
+import com.example.purchase.cache.EntityCacheInvalidator;
+import com.example.purchase.common.BulkInsertTemplate;
+import com.example.purchase.common.BulkResult;
+import com.example.purchase.common.CursorPage;
+import com.example.purchase.common.DateRanges;
+import com.example.purchase.common.ExportFormat;
+import com.example.purchase.common.ExportWriter;
+import com.example.purchase.common.Money;
+import com.example.purchase.common.OptimisticRetryTemplate;
+import com.example.purchase.common.SearchFields;
+import com.example.purchase.common.SearchRequest;
+import com.example.purchase.common.SearchTemplate;
+import com.example.purchase.config.CacheConfig;
+import com.example.purchase.currency.ExchangeRates;
+import com.example.purchase.metrics.BusinessMetrics;
+import com.example.purchase.outbox.Outbox;
+import com.example.purchase.outbox.OutboxEvent;
 import com.example.purchase.purchaserequest.PurchaseRequest;
 import com.example.purchase.purchaserequest.PurchaseRequestRepository;
 import com.example.purchase.purchaserequest.Status;
 import com.example.purchase.purchaseorder.PurchaseOrder;
 import com.example.purchase.purchaseorder.PurchaseOrderRepository;
+import com.example.purchase.vendorspend.VendorSpendEntry;
+import com.example.purchase.vendorspend.VendorSpendService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class NegotiationService {
 
+    private static final Logger log = LoggerFactory.getLogger(NegotiationService.class);
+
     @Autowired
     private NegotiationRepository negotiationRepository;
 
@@ -26,67 +56,205 @@ public class NegotiationService {
     @Autowired
     private PurchaseOrderRepository purchaseOrderRepository;
 
+    @Autowired
+    private NegotiationAnalyticsRepository negotiationAnalyticsRepository;
+
+    @Autowired
+    private VendorSpendService vendorSpendService;
+
+    @Autowired
+    private EntityCacheInvalidator cacheInvalidator;
+
+    @Autowired
+    private OptimisticRetryTemplate optimisticRetry;
+
+    @Autowired
+    private SearchTemplate searchTemplate;
+
+    @Autowired
+    private BulkInsertTemplate bulkInsertTemplate;
+
+    @Autowired
+    private BusinessMetrics businessMetrics;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Outbox outbox;
+
+    @Autowired
+    private ExchangeRates exchangeRates;
+
+    // Search criteria mapping: status negotiationstatus, date negotiationdate, amount finalamount
+    private static final SearchFields<NegotiationDTO> SEARCH_FIELDS = new SearchFields<>(NegotiationRepository.class,
+            NegotiationDTO.class, NegotiationRepository.DTO_SELECT, "Negotiation", "n", "negotiationid", "negotiationstatus", "negotiationdate", "finalamount",
+            status -> status, NegotiationDTO::getNegotiationid, NegotiationDTO::getNegotiationdate, NegotiationDTO::getFinalamount);
+
+    private static final String[] EXPORT_HEADERS = {
+            "negotiationid", "eventid", "eventname", "vendorid", "vendorname", "cdsid",
+            "negotiationdate", "initialquoteamount", "finalamount", "negotiationstatus", "notes", "prid"
+    };
+
+    // Upper bound for top-N negotiations per savings group
+    public static final int MAX_SAVINGS_TOP = 100;
+
     // Get all negotiations
+    @Transactional(readOnly = true)
     public List<NegotiationDTO> getAllNegotiations() {
-        return negotiationRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return negotiationRepository.findAllDTOs();
     }
 
-    // Get negotiation by id
+    // Get negotiation by id (read-through cache; write paths evict)
+    @Cacheable(cacheNames = CacheConfig.NEGOTIATIONS, key = "#id", sync = true)
+    @Transactional(readOnly = true)
     public NegotiationDTO getNegotiationById(Integer id) {
-        Negotiation negotiation = negotiationRepository.findById(id)
+        return negotiationRepository.findDTOById(id)
                 .orElseThrow(() -> new RuntimeException("Negotiation not found with id: " + id));
-        return convertToDTO(negotiation);
     }
 
     // Get negotiations by status
+    @Transactional(readOnly = true)
     public List<NegotiationDTO> getNegotiationsByStatus(String status) {
-        return negotiationRepository.findByNegotiationstatus(status).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return negotiationRepository.findByNegotiationstatus(status);
     }
 
     // Get negotiations by vendor
+    @Transactional(readOnly = true)
     public List<NegotiationDTO> getNegotiationsByVendor(Integer vendorid) {
-        return negotiationRepository.findByVendorid(vendorid).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return negotiationRepository.findByVendorid(vendorid);
     }
 
     // Get negotiations by event
+    @Transactional(readOnly = true)
     public List<NegotiationDTO> getNegotiationsByEvent(Integer eventid) {
-        return negotiationRepository.findByEventid(eventid).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return negotiationRepository.findByEventid(eventid);
     }
 
     // Get negotiations by cdsid (UPDATED)
+    @Transactional(readOnly = true)
     public List<NegotiationDTO> getNegotiationsByCdsid(String cdsid) {
-        return negotiationRepository.findByCdsid(cdsid).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return negotiationRepository.findByCdsid(cdsid);
     }
 
     // Get negotiations by year
+    @Transactional(readOnly = true)
     public List<NegotiationDTO> getNegotiationsByYear(int year) {
-        return negotiationRepository.findByYear(year).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return negotiationRepository.findByYearRange(DateRanges.startOfYear(year), DateRanges.startOfNextYear(year));
+    }
+
+    // Search by any combination of criteria: one sorted, keyset-paginated query
+    @Transactional(readOnly = true)
+    public CursorPage<NegotiationDTO> searchNegotiations(SearchRequest request) {
+        return searchTemplate.search(SEARCH_FIELDS, request);
     }
 
     // Get negotiations by date range
+    @Transactional(readOnly = true)
     public List<NegotiationDTO> getNegotiationsByDateRange(Date startDate, Date endDate) {
-        return negotiationRepository.findByDateRange(startDate, endDate).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return negotiationRepository.findByDateRange(startDate, endDate);
     }
 
     // Get negotiations with savings
+    @Transactional(readOnly = true)
     public List<NegotiationDTO> getNegotiationsWithSavings() {
-        return negotiationRepository.findNegotiationsWithSavings().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return negotiationRepository.findNegotiationsWithSavings();
+    }
+
+    // Savings analytics grouped by vendor, event, cdsid or month; aggregated by the database
+    @Transactional(readOnly = true)
+    public SavingsSummary getSavingsSummary(SavingsGroupBy groupBy, Date from, Date to, int top) {
+        int topN = Math.max(0, Math.min(top, MAX_SAVINGS_TOP));
+        Map<String, SavingsGroup> groups = negotiationAnalyticsRepository.sumSavings(groupBy, from, to);
+        SavingsGroup total = new SavingsGroup(null, null, 0, 0L, 0L, 0L);
+        groups.values().forEach(total::add);
+
+        if (topN > 0 && !groups.isEmpty()) {
+            negotiationAnalyticsRepository.topSavingsPerGroup(groupBy, from, to, topN).forEach((key, ranked) -> {
+                SavingsGroup group = groups.get(key);
+                if (group != null) {
+                    group.getTop().addAll(ranked);
+                }
+            });
+            total.getTop().addAll(negotiationAnalyticsRepository.topSavings(from, to, topN));
+        }
+        return new SavingsSummary(groupBy.name().toLowerCase(), from, to, total, new ArrayList<>(groups.values()));
+    }
+
+    // ============================================
+    // Keyset-paginated reads
+    // ============================================
+
+    // Get page of all negotiations
+    @Transactional(readOnly = true)
+    public CursorPage<NegotiationDTO> getNegotiationsPage(String cursor, int size, boolean withTotal) {
+        List<NegotiationDTO> rows = negotiationRepository.findPage(
+                CursorPage.decodeCursor(cursor), CursorPage.limit(size));
+        return toPage(rows, size, withTotal ? negotiationRepository.count() : null);
+    }
+
+    // Get page of negotiations by status
+    @Transactional(readOnly = true)
+    public CursorPage<NegotiationDTO> getNegotiationsPageByStatus(String status, String cursor, int size,
+            boolean withTotal) {
+        List<NegotiationDTO> rows = negotiationRepository.findPageByNegotiationstatus(
+                status, CursorPage.decodeCursor(cursor), CursorPage.limit(size));
+        return toPage(rows, size, withTotal ? negotiationRepository.countByNegotiationstatus(status) : null);
+    }
+
+    // Get page of negotiations by vendor
+    @Transactional(readOnly = true)
+    public CursorPage<NegotiationDTO> getNegotiationsPageByVendor(Integer vendorid, String cursor, int size,
+            boolean withTotal) {
+        List<NegotiationDTO> rows = negotiationRepository.findPageByVendorid(
+                vendorid, CursorPage.decodeCursor(cursor), CursorPage.limit(size));
+        return toPage(rows, size, withTotal ? negotiationRepository.countByVendorid(vendorid) : null);
+    }
+
+    // Get page of negotiations by event
+    @Transactional(readOnly = true)
+    public CursorPage<NegotiationDTO> getNegotiationsPageByEvent(Integer eventid, String cursor, int size,
+            boolean withTotal) {
+        List<NegotiationDTO> rows = negotiationRepository.findPageByEventid(
+                eventid, CursorPage.decodeCursor(cursor), CursorPage.limit(size));
+        return toPage(rows, size, withTotal ? negotiationRepository.countByEventid(eventid) : null);
+    }
+
+    // Get page of negotiations by cdsid
+    @Transactional(readOnly = true)
+    public CursorPage<NegotiationDTO> getNegotiationsPageByCdsid(String cdsid, String cursor, int size,
+            boolean withTotal) {
+        List<NegotiationDTO> rows = negotiationRepository.findPageByCdsid(
+                cdsid, CursorPage.decodeCursor(cursor), CursorPage.limit(size));
+        return toPage(rows, size, withTotal ? negotiationRepository.countByCdsid(cdsid) : null);
+    }
+
+    // Get page of negotiations by year
+    @Transactional(readOnly = true)
+    public CursorPage<NegotiationDTO> getNegotiationsPageByYear(int year, String cursor, int size,
+            boolean withTotal) {
+        Date yearStart = DateRanges.startOfYear(year);
+        Date nextYearStart = DateRanges.startOfNextYear(year);
+        List<NegotiationDTO> rows = negotiationRepository.findPageByYearRange(
+                yearStart, nextYearStart, CursorPage.decodeCursor(cursor), CursorPage.limit(size));
+        return toPage(rows, size, withTotal ? negotiationRepository.countByYearRange(yearStart, nextYearStart) : null);
+    }
+
+    // Get page of negotiations by date range
+    @Transactional(readOnly = true)
+    public CursorPage<NegotiationDTO> getNegotiationsPageByDateRange(Date startDate, Date endDate,
+            String cursor, int size, boolean withTotal) {
+        List<NegotiationDTO> rows = negotiationRepository.findPageByDateRange(
+                startDate, endDate, CursorPage.decodeCursor(cursor), CursorPage.limit(size));
+        return toPage(rows, size, withTotal ? negotiationRepository.countByDateRange(startDate, endDate) : null);
+    }
+
+    // Get page of negotiations with savings
+    @Transactional(readOnly = true)
+    public CursorPage<NegotiationDTO> getNegotiationsWithSavingsPage(String cursor, int size, boolean withTotal) {
+        List<NegotiationDTO> rows = negotiationRepository.findPageWithSavings(
+                CursorPage.decodeCursor(cursor), CursorPage.limit(size));
+        return toPage(rows, size, withTotal ? negotiationRepository.countWithSavings() : null);
     }
 
     // Create negotiation
@@ -94,9 +262,23 @@ public class NegotiationService {
         Negotiation negotiation = new Negotiation();
         mapDTOToEntity(dto, negotiation);
         Negotiation saved = negotiationRepository.save(negotiation);
+        cacheInvalidator.collectionChanged(CacheConfig.NEGOTIATIONS);
         return convertToDTO(saved);
     }
 
+    // Bulk create: chunked, JDBC-batched inserts with per-row validation results
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkResult createNegotiations(List<NegotiationDTO> dtos) {
+        return bulkInsertTemplate.insert(dtos, dto -> {
+            if (dto.getCdsid() == null || dto.getCdsid().isBlank()) {
+                throw new IllegalArgumentException("cdsid is required");
+            }
+            Negotiation negotiation = new Negotiation();
+            mapDTOToEntity(dto, negotiation);
+            return negotiation;
+        }, Negotiation::getNegotiationid, persisted -> cacheInvalidator.collectionChanged(CacheConfig.NEGOTIATIONS));
+    }
+
     // Create negotiation from Purchase Request (ONLY if PR status is PENDING)
     public NegotiationDTO createNegotiationFromPR(Integer prid) {
         PurchaseRequest pr = purchaseRequestRepository.findById(prid)
@@ -128,106 +310,162 @@ public class NegotiationService {
         negotiation.setPurchaseRequest(pr);
 
         Negotiation saved = negotiationRepository.save(negotiation);
-        System.out.println("Negotiation created from PR " + prid + " with ID: " + saved.getNegotiationid());
+        cacheInvalidator.collectionChanged(CacheConfig.NEGOTIATIONS);
+        log.info("negotiation.created negotiationId={} prid={}", saved.getNegotiationid(), prid);
 
         return convertToDTO(saved);
     }
 
-    // Update negotiation (ONLY allows editing: finalamount, negotiationdate, status, notes)
+    // Update negotiation (ONLY allows editing: finalamount, negotiationdate, status, notes).
+    // Two concurrent "Completed" updates: the loser hits the version check, retries, sees Completed
+    // and queues no second cascade
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public NegotiationDTO updateNegotiation(Integer id, NegotiationDTO dto) {
-        System.out.println("=== UPDATE NEGOTIATION STARTED ===");
-        System.out.println("Negotiation ID: " + id);
-        System.out.println("New Status: " + dto.getNegotiationstatus());
+        return optimisticRetry.execute(() -> applyUpdateNegotiation(id, dto));
+    }
 
+    private NegotiationDTO applyUpdateNegotiation(Integer id, NegotiationDTO dto) {
         Negotiation negotiation = negotiationRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Negotiation not found with id: " + id));
 
         // Store old status before updating
         String oldStatus = negotiation.getNegotiationstatus();
-        System.out.println("Old Status: " + oldStatus);
 
         // UPDATE ONLY ALLOWED FIELDS (finalamount, negotiationdate, status, notes)
         negotiation.setNegotiationdate(dto.getNegotiationdate());
-        negotiation.setFinalamount(dto.getFinalamount());
+        negotiation.setFinalamount(Money.fromMajor(dto.getFinalamount()));
         negotiation.setNegotiationstatus(dto.getNegotiationstatus());
         negotiation.setNotes(dto.getNotes());
         // DO NOT update: eventid, eventname, vendorid, vendorname, cdsid, initialquoteamount, prid
 
         Negotiation updated = negotiationRepository.save(negotiation);
-        System.out.println("Negotiation saved with new status: " + updated.getNegotiationstatus());
+        cacheInvalidator.evictNegotiation(id);
+        log.info("negotiation.updated negotiationId={} fromStatus={} toStatus={}",
+                id, oldStatus, updated.getNegotiationstatus());
+        if ("Completed".equals(updated.getNegotiationstatus()) && !"Completed".equals(oldStatus)) {
+            businessMetrics.negotiationCompleted();
+        }
 
         // Update Purchase Request status based on Negotiation status
         if (negotiation.getPurchaseRequest() != null) {
             PurchaseRequest pr = negotiation.getPurchaseRequest();
 
-            // If Negotiation status changed to "Completed" → PR becomes "APPROVED" + Create PO
+            // If Negotiation status changed to "Completed" → PR becomes "APPROVED" + Create PO,
+            // queued and applied by CascadeDispatcher
             if ("Completed".equals(dto.getNegotiationstatus()) &&
                     !"Completed".equals(oldStatus)) {
-
-                System.out.println("=== UPDATING PURCHASE REQUEST TO APPROVED ===");
-                System.out.println("Purchase Request ID: " + pr.getPrid());
-                System.out.println("Current PR Status: " + pr.getPrstatus());
-
-                pr.setPrstatus(Status.APPROVED);
-                purchaseRequestRepository.save(pr);
-
-                System.out.println("Purchase Request " + pr.getPrid() + " status updated to APPROVED");
-
-                // AUTO-CREATE PURCHASE ORDER
-                System.out.println("=== AUTO-CREATING PURCHASE ORDER ===");
-
-                // Check if PO already exists for this negotiation
-                if (negotiation.getPurchaseOrder() == null) {
-                    PurchaseOrder po = new PurchaseOrder();
-                    po.setEventid(negotiation.getEventid());
-                    po.setEventname(negotiation.getEventname());
-                    po.setVendorid(negotiation.getVendorid());
-                    po.setVendorname(negotiation.getVendorname());
-                    
-                    po.setCdsid(negotiation.getCdsid());
-                    po.setOrderdate(new Date());
-                    po.setOrderamountINR(negotiation.getFinalamount());
-                    po.setOrderamountdollar(negotiation.getFinalamount() / 83.0); // INR to USD conversion
-                    po.setPO_status("PENDING");
-                    po.setpurchaserequest(pr);
-                    po.setnegotiation(updated);
-
-                    PurchaseOrder savedPO = purchaseOrderRepository.save(po);
-                    System.out.println("Purchase Order created with ID: " + savedPO.getPO_id());
-                } else {
-                    System.out.println("Purchase Order already exists for this Negotiation");
-                }
+                outbox.enqueue(OutboxEvent.NEGOTIATION_COMPLETED, id);
             }
 
             // If Negotiation status changed to "Cancelled" → PR becomes "REJECTED"
             else if ("Cancelled".equals(dto.getNegotiationstatus()) &&
                     !"Cancelled".equals(oldStatus)) {
 
-                System.out.println("=== UPDATING PURCHASE REQUEST TO REJECTED ===");
-                System.out.println("Purchase Request ID: " + pr.getPrid());
-                System.out.println("Current PR Status: " + pr.getPrstatus());
-
+                Status oldPrStatus = pr.getPrstatus();
                 pr.setPrstatus(Status.REJECTED);
                 purchaseRequestRepository.save(pr);
-
-                System.out.println("Purchase Request " + pr.getPrid() + " status updated to REJECTED");
+                cacheInvalidator.evictPurchaseRequest(pr.getPrid());
+                log.info("purchaseRequest.statusChanged prid={} fromStatus={} toStatus={} negotiationId={}",
+                        pr.getPrid(), oldPrStatus, Status.REJECTED, id);
             }
         }
 
-        System.out.println("=== UPDATE NEGOTIATION ENDED ===");
         return convertToDTO(updated);
     }
 
+    // Outbox handler for NEGOTIATION_COMPLETED. Skipped when the negotiation is gone or no longer
+    // Completed; an already approved PR or existing PO is left alone, so redelivery is harmless
+    // (a concurrent duplicate PO insert fails on uk_purchase_order_negotiationid and is replayed)
+    public void applyCompletionCascade(Integer id) {
+        Negotiation negotiation = negotiationRepository.findById(id).orElse(null);
+        if (negotiation == null || !"Completed".equals(negotiation.getNegotiationstatus())
+                || negotiation.getPurchaseRequest() == null) {
+            log.debug("negotiation.completionCascadeSkipped negotiationId={} reason=stale", id);
+            return;
+        }
+        PurchaseRequest pr = negotiation.getPurchaseRequest();
+
+        Status oldPrStatus = pr.getPrstatus();
+        if (oldPrStatus != Status.APPROVED) {
+            pr.setPrstatus(Status.APPROVED);
+            purchaseRequestRepository.save(pr);
+            cacheInvalidator.evictPurchaseRequest(pr.getPrid());
+            log.info("purchaseRequest.statusChanged prid={} fromStatus={} toStatus={} negotiationId={}",
+                    pr.getPrid(), oldPrStatus, Status.APPROVED, id);
+        }
+
+        // AUTO-CREATE PURCHASE ORDER
+
+        // Check if PO already exists for this negotiation
+        if (negotiation.getPurchaseOrder() == null) {
+            PurchaseOrder po = new PurchaseOrder();
+            po.setEventid(negotiation.getEventid());
+            po.setEventname(negotiation.getEventname());
+            po.setVendorid(negotiation.getVendorid());
+            po.setVendorname(negotiation.getVendorname());
+            
+            po.setCdsid(negotiation.getCdsid());
+            po.setOrderdate(new Date());
+            po.setOrderamountINR(negotiation.getFinalamount());
+            po.setOrderamountdollar(negotiation.getFinalamount() != null
+                    ? exchangeRates.toUsd(negotiation.getFinalamount(), po.getOrderdate()) : null);
+            po.setPO_status("PENDING");
+            po.setpurchaserequest(pr);
+            po.setnegotiation(negotiation);
+
+            PurchaseOrder savedPO = purchaseOrderRepository.save(po);
+            vendorSpendService.recordChange(null, VendorSpendEntry.of(savedPO));
+            cacheInvalidator.collectionChanged(CacheConfig.PURCHASE_ORDERS);
+            businessMetrics.purchaseOrderAutoCreated();
+            log.info("purchaseOrder.autoCreated poId={} negotiationId={} prid={}",
+                    savedPO.getPO_id(), id, pr.getPrid());
+        } else {
+            log.debug("purchaseOrder.autoCreateSkipped negotiationId={} reason=exists", id);
+        }
+    }
+
     // Delete negotiation
     public void deleteNegotiation(Integer id) {
-        if (!negotiationRepository.existsById(id)) {
-            throw new RuntimeException("Negotiation not found with id: " + id);
+        Negotiation negotiation = negotiationRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Negotiation not found with id: " + id));
+        // The linked purchase request is removed with it (CascadeType.ALL)
+        if (negotiation.getPurchaseRequest() != null) {
+            cacheInvalidator.evictPurchaseRequest(negotiation.getPurchaseRequest().getPrid());
         }
-        negotiationRepository.deleteById(id);
+        negotiationRepository.delete(negotiation);
+        cacheInvalidator.evictNegotiation(id);
+    }
+
+    // Trim size + 1 keyset rows into a page
+    private CursorPage<NegotiationDTO> toPage(List<NegotiationDTO> rows, int size, Long total) {
+        return CursorPage.of(rows, size, Function.identity(), NegotiationDTO::getNegotiationid, total);
+    }
+
+    // Stream all negotiations to the output, flushing the output every batch
+    @Transactional(readOnly = true)
+    public long exportNegotiations(OutputStream out, ExportFormat format) {
+        ExportWriter<NegotiationDTO> writer = new ExportWriter<>(out, format, objectMapper, EXPORT_HEADERS, this::toExportRow);
+        try (Stream<NegotiationDTO> rows = negotiationRepository.streamAll()) {
+            rows.forEach(row -> {
+                writer.write(row);
+                if (writer.getRowCount() % ExportWriter.BATCH_SIZE == 0) {
+                    writer.flush();
+                }
+            });
+        }
+        writer.flush();
+        return writer.getRowCount();
+    }
+
+    // Column values for CSV export, in EXPORT_HEADERS order
+    private Object[] toExportRow(NegotiationDTO dto) {
+        return new Object[] { dto.getNegotiationid(), dto.getEventid(), dto.getEventname(), dto.getVendorid(),
+                dto.getVendorname(), dto.getCdsid(), dto.getNegotiationdate(), dto.getInitialquoteamount(),
+                dto.getFinalamount(), dto.getNegotiationstatus(), dto.getNotes(), dto.getPrid() };
     }
 
-    // Convert entity to DTO
-    private NegotiationDTO convertToDTO(Negotiation negotiation) {
+    // Convert entity to DTO (package-private for the JMH mapping benchmarks)
+    NegotiationDTO convertToDTO(Negotiation negotiation) {
         NegotiationDTO dto = new NegotiationDTO();
         dto.setNegotiationid(negotiation.getNegotiationid());
         dto.setEventid(negotiation.getEventid());
@@ -237,8 +475,8 @@ public class NegotiationService {
        
         dto.setCdsid(negotiation.getCdsid());
         dto.setNegotiationdate(negotiation.getNegotiationdate());
-        dto.setInitialquoteamount(negotiation.getInitialquoteamount());
-        dto.setFinalamount(negotiation.getFinalamount());
+        dto.setInitialquoteamount(Money.majorOf(negotiation.getInitialquoteamount()));
+        dto.setFinalamount(Money.majorOf(negotiation.getFinalamount()));
         dto.setNegotiationstatus(negotiation.getNegotiationstatus());
         dto.setNotes(negotiation.getNotes());
         if (negotiation.getPurchaseRequest() != null) {
@@ -247,8 +485,8 @@ public class NegotiationService {
         return dto;
     }
 
-    // Map DTO to entity
-    private void mapDTOToEntity(NegotiationDTO dto, Negotiation negotiation) {
+    // Map DTO to entity (package-private for the JMH mapping benchmarks)
+    void mapDTOToEntity(NegotiationDTO dto, Negotiation negotiation) {
         negotiation.setEventid(dto.getEventid());
         negotiation.setEventname(dto.getEventname());
         negotiation.setVendorid(dto.getVendorid());
@@ -256,8 +494,8 @@ public class NegotiationService {
        
         negotiation.setCdsid(dto.getCdsid());
         negotiation.setNegotiationdate(dto.getNegotiationdate());
-        negotiation.setInitialquoteamount(dto.getInitialquoteamount());
-        negotiation.setFinalamount(dto.getFinalamount());
+        negotiation.setInitialquoteamount(Money.fromMajor(dto.getInitialquoteamount()));
+        negotiation.setFinalamount(Money.fromMajor(dto.getFinalamount()));
         negotiation.setNegotiationstatus(dto.getNegotiationstatus());
         negotiation.setNotes(dto.getNotes());
 
@@ -0,0 +1,71 @@
+package com.example.purchase.negotiation;
+
+import com.example.purchase.common.Money;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Savings totals for one group (or for all groups when used as the summary total), kept in exact
+// minor units and reported in major units
+public class SavingsGroup {
+    private String key;
+    private String label;
+    private long count;
+    private long totalInitial;
+    private long totalFinal;
+    private long totalSavings;
+    private List<NegotiationSaving> top = new ArrayList<>();
+
+    public SavingsGroup() {
+    }
+
+    public SavingsGroup(String key, String label, long count, long totalInitial, long totalFinal,
+            long totalSavings) {
+        this.key = key;
+        this.label = label;
+        this.count = count;
+        this.totalInitial = totalInitial;
+        this.totalFinal = totalFinal;
+        this.totalSavings = totalSavings;
+    }
+
+    public void add(SavingsGroup other) {
+        count += other.count;
+        totalInitial = Math.addExact(totalInitial, other.totalInitial);
+        totalFinal = Math.addExact(totalFinal, other.totalFinal);
+        totalSavings = Math.addExact(totalSavings, other.totalSavings);
+    }
+
+    // Savings as a percentage of the initial quotes, two decimals
+    public double getSavingsPercent() {
+        return totalInitial == 0 ? 0.0 : Math.round((double) totalSavings / totalInitial * 10000.0) / 100.0;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getTotalInitial() {
+        return Money.toMajor(totalInitial);
+    }
+
+    public double getTotalFinal() {
+        return Money.toMajor(totalFinal);
+    }
+
+    public double getTotalSavings() {
+        return Money.toMajor(totalSavings);
+    }
+
+    public List<NegotiationSaving> getTop() {
+        return top;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.purchase.negotiation;
+
+// Dimensions for savings analytics; SQL fragments are fixed here, never taken from the request
+public enum SavingsGroupBy {
+    VENDOR("vendorid", "MAX(VENDORNAME)"),
+    EVENT("eventid", "MAX(EVENTNAME)"),
+    CDSID("CDSID", "NULL"),
+    MONTH("EXTRACT(YEAR FROM negotiationdate) * 100 + EXTRACT(MONTH FROM negotiationdate)", "NULL");
+
+    private final String keyExpression;
+    private final String labelExpression;
+
+    SavingsGroupBy(String keyExpression, String labelExpression) {
+        this.keyExpression = keyExpression;
+        this.labelExpression = labelExpression;
+    }
+
+    public String getKeyExpression() {
+        return keyExpression;
+    }
+
+    public String getLabelExpression() {
+        return labelExpression;
+    }
+
+    // Render a raw group key; months come back as yyyymm and are shown as yyyy-MM
+    public String formatKey(Object raw) {
+        if (raw == null) {
+            return null;
+        }
+        if (this == MONTH) {
+            int yyyymm = ((Number) raw).intValue();
+            return String.format("%04d-%02d", yyyymm / 100, yyyymm % 100);
+        }
+        return raw.toString();
+    }
+
+    public static SavingsGroupBy from(String value) {
+        for (SavingsGroupBy groupBy : values()) {
+            if (groupBy.name().equalsIgnoreCase(value)) {
+                return groupBy;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported groupBy: " + value + " (use vendor, event, cdsid or month)");
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.purchase.negotiation;
+
+import java.util.Date;
+import java.util.List;
+
+// Savings analytics response: overall totals plus one entry per group, largest savings first
+public class SavingsSummary {
+    private String groupBy;
+    private Date from;
+    private Date to;
+    private SavingsGroup total;
+    private List<SavingsGroup> groups;
+
+    public SavingsSummary(String groupBy, Date from, Date to, SavingsGroup total, List<SavingsGroup> groups) {
+        this.groupBy = groupBy;
+        this.from = from;
+        this.to = to;
+        this.total = total;
+        this.groups = groups;
+    }
+
+    public String getGroupBy() {
+        return groupBy;
+    }
+
+    public Date getFrom() {
+        return from;
+    }
+
+    public Date getTo() {
+        return to;
+    }
+
+    public SavingsGroup getTotal() {
+        return total;
+    }
+
+    public List<SavingsGroup> getGroups() {
+        return groups;
+    }
+}
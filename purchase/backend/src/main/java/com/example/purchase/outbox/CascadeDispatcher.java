@@ -0,0 +1,250 @@
+package com.example.purchase.outbox;
+
+import com.example.purchase.common.OptimisticRetryTemplate;
+import com.example.purchase.negotiation.NegotiationService;
+import com.example.purchase.purchaseorder.PurchaseOrderService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// Applies outbox cascades off the request path. Due events are read in batches of outbox.batch-size
+// and applied in one transaction (replayed on optimistic conflicts); if that fails, the batch is
+// applied event by event so one bad event cannot hold back the rest. A failing event is retried with
+// exponential backoff and parked as FAILED after outbox.max-attempts.
+//
+// Delivery is at-least-once, so every handler is idempotent: it re-reads current state, skips the
+// cascade if the triggering status has since changed, and only writes rows not already in the
+// target state.
+@Component
+public class CascadeDispatcher implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(CascadeDispatcher.class);
+
+    // Cap for the exponential retry delay
+    private static final long MAX_BACKOFF_MS = 300_000;
+
+    @Autowired
+    private Outbox outbox;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private PurchaseOrderService purchaseOrderService;
+
+    @Autowired
+    private NegotiationService negotiationService;
+
+    @Autowired
+    private OptimisticRetryTemplate optimisticRetry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Value("${outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.poll-ms:1000}")
+    private long pollMs;
+
+    @Value("${outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${outbox.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong oldestPendingAgeMs = new AtomicLong();
+    private Map<String, Consumer<Integer>> handlers;
+    private TransactionTemplate tx;
+    private volatile Thread worker;
+
+    @Override
+    public void start() {
+        handlers = Map.of(
+                OutboxEvent.PURCHASE_ORDER_REJECTED, purchaseOrderService::applyRejectionCascade,
+                OutboxEvent.NEGOTIATION_COMPLETED, negotiationService::applyCompletionCascade);
+        tx = new TransactionTemplate(transactionManager);
+        Gauge.builder("purchase.outbox.pending", pending, AtomicLong::get)
+                .description("Outbox events waiting to be applied")
+                .register(registry);
+        Gauge.builder("purchase.outbox.failed", failed, AtomicLong::get)
+                .description("Outbox events parked after exhausting their retries")
+                .register(registry);
+        Gauge.builder("purchase.outbox.oldest.age", oldestPendingAgeMs, age -> age.get() / 1000.0)
+                .description("Age of the oldest pending outbox event")
+                .baseUnit("seconds")
+                .register(registry);
+        Thread thread = new Thread(this::run, "outbox-dispatcher");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        Thread thread = worker;
+        worker = null;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return worker != null;
+    }
+
+    private void run() {
+        while (worker == Thread.currentThread()) {
+            try {
+                if (dispatchBatch() < batchSize) {
+                    refreshGauges();
+                    outbox.awaitWork(pollMs);
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                // Database unavailable or similar: back off for a poll interval and try again
+                log.error("outbox.dispatchFailed", e);
+                try {
+                    Thread.sleep(pollMs);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    // Apply one batch of due events; returns how many were read
+    int dispatchBatch() {
+        List<OutboxEvent> due = tx.execute(status -> outboxRepository.findDue(new Date(), PageRequest.of(0, batchSize)));
+        if (due == null || due.isEmpty()) {
+            return 0;
+        }
+        try {
+            optimisticRetry.execute(() -> {
+                due.forEach(this::applyHandler);
+                outboxRepository.deleteAllByIdInBatch(due.stream().map(OutboxEvent::getId).toList());
+                return null;
+            });
+            due.forEach(this::recordApplied);
+        } catch (RuntimeException batchFailure) {
+            log.debug("outbox.batchFailed size={} reason={}, applying one by one", due.size(), batchFailure.toString());
+            for (OutboxEvent event : due) {
+                try {
+                    optimisticRetry.execute(() -> {
+                        applyHandler(event);
+                        outboxRepository.deleteAllByIdInBatch(List.of(event.getId()));
+                        return null;
+                    });
+                    recordApplied(event);
+                } catch (RuntimeException e) {
+                    recordFailure(event, e);
+                }
+            }
+        }
+        return due.size();
+    }
+
+    private void applyHandler(OutboxEvent event) {
+        Consumer<Integer> handler = handlers.get(event.getType());
+        if (handler == null) {
+            throw new IllegalStateException("No cascade handler for outbox event type " + event.getType());
+        }
+        handler.accept(event.getAggregateId());
+    }
+
+    private void recordApplied(OutboxEvent event) {
+        Timer.builder("purchase.outbox.lag")
+                .description("Time from the triggering commit to the applied cascade")
+                .tag("type", event.getType())
+                .register(registry)
+                .record(System.currentTimeMillis() - event.getCreatedAt().getTime(), TimeUnit.MILLISECONDS);
+        count(event, "applied");
+    }
+
+    // Schedule the next attempt, or park the event once its retries are used up
+    private void recordFailure(OutboxEvent event, RuntimeException error) {
+        int attempts = event.getAttempts() + 1;
+        boolean dead = attempts >= maxAttempts;
+        String message = String.valueOf(error.getMessage());
+        long delayMs = Math.min(MAX_BACKOFF_MS, retryBackoffMs << Math.min(attempts - 1, 20));
+        tx.executeWithoutResult(status -> outboxRepository.findById(event.getId()).ifPresent(row -> {
+            row.setAttempts(attempts);
+            row.setLastError(message.length() > 1000 ? message.substring(0, 1000) : message);
+            if (dead) {
+                row.setStatus(OutboxEvent.FAILED);
+            } else {
+                row.setNextAttemptAt(new Date(System.currentTimeMillis() + delayMs));
+            }
+        }));
+        if (dead) {
+            count(event, "failed");
+            log.error("outbox.eventFailed id={} type={} aggregateId={} attempts={}", event.getId(), event.getType(),
+                    event.getAggregateId(), attempts, error);
+        } else {
+            count(event, "retried");
+            log.warn("outbox.eventRetry id={} type={} aggregateId={} attempt={} retryInMs={} reason={}", event.getId(),
+                    event.getType(), event.getAggregateId(), attempts, delayMs, message);
+        }
+    }
+
+    private void count(OutboxEvent event, String outcome) {
+        Counter.builder("purchase.outbox.events")
+                .description("Outbox events by outcome")
+                .tag("type", event.getType())
+                .tag("outcome", outcome)
+                .register(registry)
+                .increment();
+    }
+
+    // Gauges are refreshed by the dispatcher when it goes idle, not on every scrape
+    private void refreshGauges() {
+        tx.executeWithoutResult(status -> {
+            pending.set(outboxRepository.countByStatus(OutboxEvent.PENDING));
+            failed.set(outboxRepository.countByStatus(OutboxEvent.FAILED));
+            Date oldest = outboxRepository.findOldestPendingCreatedAt();
+            oldestPendingAgeMs.set(oldest != null ? System.currentTimeMillis() - oldest.getTime() : 0);
+        });
+    }
+
+    // Current outbox depth, for /api/outbox/stats
+    public OutboxStats stats() {
+        refreshGauges();
+        return new OutboxStats(pending.get(), failed.get(), oldestPendingAgeMs.get());
+    }
+
+    // Requeue every FAILED event with a fresh retry budget
+    public int requeueFailed() {
+        Integer requeued = tx.execute(status -> outboxRepository.requeueFailed(new Date()));
+        outbox.wakeUp();
+        return requeued != null ? requeued : 0;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.purchase.outbox;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Date;
+
+// Write side of the outbox. enqueue joins the caller's transaction, so the cascade is recorded
+// exactly when the change that causes it commits; CascadeDispatcher is woken after commit instead
+// of waiting for its next poll.
+@Component
+public class Outbox {
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    private final Object signal = new Object();
+    private boolean signalled;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String type, Integer aggregateId) {
+        outboxRepository.save(new OutboxEvent(type, aggregateId, new Date()));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                wakeUp();
+            }
+        });
+    }
+
+    void wakeUp() {
+        synchronized (signal) {
+            signalled = true;
+            signal.notifyAll();
+        }
+    }
+
+    // Block until an enqueue commits or the timeout passes
+    void awaitWork(long timeoutMs) throws InterruptedException {
+        synchronized (signal) {
+            if (!signalled) {
+                signal.wait(timeoutMs);
+            }
+            signalled = false;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.purchase.outbox;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/outbox")
+@Tag(name = "Outbox", description = "Asynchronous status cascades")
+public class OutboxController {
+
+    @Autowired
+    private CascadeDispatcher cascadeDispatcher;
+
+    @GetMapping("/stats")
+    @Operation(summary = "Pending and failed cascade events, and the age of the oldest pending one")
+    public ResponseEntity<OutboxStats> getStats() {
+        return ResponseEntity.ok(cascadeDispatcher.stats());
+    }
+
+    @PostMapping("/retry-failed")
+    @Operation(summary = "Requeue cascade events that exhausted their retries")
+    public ResponseEntity<Map<String, Integer>> retryFailed() {
+        return ResponseEntity.ok(Map.of("requeued", cascadeDispatcher.requeueFailed()));
+    }
+}
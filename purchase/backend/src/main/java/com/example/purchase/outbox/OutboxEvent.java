@@ -0,0 +1,125 @@
+package com.example.purchase.outbox;
+
+import jakarta.persistence.*;
+
+import java.util.Date;
+
+// A cascade still to be applied, written in the same transaction as the change that caused it.
+// Rows are deleted once applied; FAILED rows stay for inspection until requeued.
+@Entity
+@Table(name = "outbox_event", indexes = {
+        @Index(name = "idx_outbox_status_next_attempt", columnList = "STATUS, NEXT_ATTEMPT_AT")
+})
+public class OutboxEvent {
+
+    // Purchase order moved to REJECTED: negotiation becomes Cancelled, PR becomes REJECTED
+    public static final String PURCHASE_ORDER_REJECTED = "PURCHASE_ORDER_REJECTED";
+    // Negotiation moved to Completed: PR becomes APPROVED, purchase order is created
+    public static final String NEGOTIATION_COMPLETED = "NEGOTIATION_COMPLETED";
+
+    public static final String PENDING = "PENDING";
+    public static final String FAILED = "FAILED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+    @SequenceGenerator(name = "outbox_event_seq", sequenceName = "outbox_event_seq", allocationSize = 50)
+    @Column(name = "ID")
+    private Long id;
+
+    @Column(name = "EVENT_TYPE", nullable = false, length = 50)
+    private String type;
+
+    @Column(name = "AGGREGATE_ID", nullable = false)
+    private Integer aggregateId;
+
+    @Column(name = "STATUS", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "ATTEMPTS", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "CREATED_AT", nullable = false)
+    private Date createdAt;
+
+    @Column(name = "NEXT_ATTEMPT_AT", nullable = false)
+    private Date nextAttemptAt;
+
+    @Column(name = "LAST_ERROR", length = 1000)
+    private String lastError;
+
+    public OutboxEvent() {
+    }
+
+    public OutboxEvent(String type, Integer aggregateId, Date createdAt) {
+        this.type = type;
+        this.aggregateId = aggregateId;
+        this.status = PENDING;
+        this.attempts = 0;
+        this.createdAt = createdAt;
+        this.nextAttemptAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Integer getAggregateId() {
+        return aggregateId;
+    }
+
+    public void setAggregateId(Integer aggregateId) {
+        this.aggregateId = aggregateId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Integer getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(Integer attempts) {
+        this.attempts = attempts;
+    }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Date createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Date getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(Date nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.purchase.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.List;
+
+@Repository
+public interface OutboxRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Next batch of pending events whose retry delay has passed, oldest first
+    @Query("SELECT e FROM OutboxEvent e WHERE e.status = 'PENDING' AND e.nextAttemptAt <= :now ORDER BY e.id")
+    List<OutboxEvent> findDue(@Param("now") Date now, Pageable pageable);
+
+    long countByStatus(String status);
+
+    // Creation time of the oldest pending event (null when the outbox is drained)
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e WHERE e.status = 'PENDING'")
+    Date findOldestPendingCreatedAt();
+
+    // Put dead events back in the queue with a fresh retry budget
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = 'PENDING', e.attempts = 0, e.nextAttemptAt = :now "
+            + "WHERE e.status = 'FAILED'")
+    int requeueFailed(@Param("now") Date now);
+}
@@ -0,0 +1,26 @@
+package com.example.purchase.outbox;
+
+// Outbox depth and lag as reported by /api/outbox/stats
+public class OutboxStats {
+    private long pending;
+    private long failed;
+    private long oldestPendingAgeMs;
+
+    public OutboxStats(long pending, long failed, long oldestPendingAgeMs) {
+        this.pending = pending;
+        this.failed = failed;
+        this.oldestPendingAgeMs = oldestPendingAgeMs;
+    }
+
+    public long getPending() {
+        return pending;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public long getOldestPendingAgeMs() {
+        return oldestPendingAgeMs;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.purchase.purchaseorder;
 
+import com.example.purchase.common.Money;
 import com.example.purchase.negotiation.Negotiation;
 import com.example.purchase.purchaserequest.PurchaseRequest;
 import jakarta.persistence.*;
@@ -7,10 +8,22 @@ import jakarta.persistence.*;
 import java.util.Date;
 
 @Entity
-@Table(name = "purchase_order")
+@Table(name = "purchase_order", uniqueConstraints = {
+        // At most one purchase order per negotiation / purchase request, even under concurrent auto-creation
+        @UniqueConstraint(name = "uk_purchase_order_negotiationid", columnNames = "negotiationid"),
+        @UniqueConstraint(name = "uk_purchase_order_prid", columnNames = "prid")
+}, indexes = {
+        @Index(name = "idx_po_vendor_status", columnList = "VENDORID, PO_STATUS"),
+        @Index(name = "idx_po_eventid", columnList = "EVENTID"),
+        @Index(name = "idx_po_cdsid_orderdate", columnList = "CDSID, ORDERDATE"),
+        @Index(name = "idx_po_status", columnList = "PO_STATUS"),
+        @Index(name = "idx_po_orderdate", columnList = "ORDERDATE"),
+        @Index(name = "idx_po_orderamountinr", columnList = "ORDERAMOUNTINR_MINOR")
+})
 public class PurchaseOrder {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "purchase_order_seq")
+    @SequenceGenerator(name = "purchase_order_seq", sequenceName = "purchase_order_seq", allocationSize = 50)
     @Column(name = "PO_ID")
     private Integer PO_id;
 
@@ -34,11 +47,12 @@ public class PurchaseOrder {
     @Column(name = "ORDERDATE")
     private Date orderdate;
 
-    @Column(name = "ORDERAMOUNTINR")
-    private Double orderamountINR;
+    // Amounts in minor units (paise / cents); see Money
+    @Column(name = "ORDERAMOUNTINR_MINOR")
+    private Long orderamountINR;
 
-    @Column(name = "ORDERAMOUNTDOLLAR")
-    private Double orderamountdollar;
+    @Column(name = "ORDERAMOUNTDOLLAR_MINOR")
+    private Long orderamountdollar;
 
     @Column(name = "PO_STATUS")
     private String PO_status;
@@ -51,12 +65,17 @@ public class PurchaseOrder {
     @JoinColumn(name = "negotiationid")
     private Negotiation negotiation;
 
+    // Optimistic lock: concurrent writers of the same row conflict at flush instead of overwriting
+    @Version
+    @Column(name = "VERSION")
+    private Long version;
+
     public PurchaseOrder() {
     }
 
     public PurchaseOrder(Integer PO_id, Integer eventid, String eventname, Integer vendorid,
-            String vendorname, String cdsid, Date orderdate, Double orderamountINR,
-            Double orderamountdollar, String PO_status, PurchaseRequest purchaserequest,
+            String vendorname, String cdsid, Date orderdate, Money orderamountINR,
+            Money orderamountdollar, String PO_status, PurchaseRequest purchaserequest,
             Negotiation negotiation) {
         this.PO_id = PO_id;
         this.eventid = eventid;
@@ -66,8 +85,8 @@ public class PurchaseOrder {
 
         this.cdsid = cdsid;
         this.orderdate = orderdate;
-        this.orderamountINR = orderamountINR;
-        this.orderamountdollar = orderamountdollar;
+        this.orderamountINR = Money.minorOf(orderamountINR);
+        this.orderamountdollar = Money.minorOf(orderamountdollar);
         this.PO_status = PO_status;
         this.purchaserequest = purchaserequest;
         this.negotiation = negotiation;
@@ -131,20 +150,20 @@ public class PurchaseOrder {
         this.orderdate = orderdate;
     }
 
-    public Double getOrderamountINR() {
-        return orderamountINR;
+    public Money getOrderamountINR() {
+        return Money.fromMinor(orderamountINR);
     }
 
-    public void setOrderamountINR(Double orderamountINR) {
-        this.orderamountINR = orderamountINR;
+    public void setOrderamountINR(Money orderamountINR) {
+        this.orderamountINR = Money.minorOf(orderamountINR);
     }
 
-    public Double getOrderamountdollar() {
-        return orderamountdollar;
+    public Money getOrderamountdollar() {
+        return Money.fromMinor(orderamountdollar);
     }
 
-    public void setOrderamountdollar(Double orderamountdollar) {
-        this.orderamountdollar = orderamountdollar;
+    public void setOrderamountdollar(Money orderamountdollar) {
+        this.orderamountdollar = Money.minorOf(orderamountdollar);
     }
 
     public String getPO_status() {
@@ -170,4 +189,12 @@ public class PurchaseOrder {
     public void setnegotiation(Negotiation negotiation) {
         this.negotiation = negotiation;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -1,13 +1,21 @@
 package com.example.purchase.purchaseorder;
 
+import com.example.purchase.common.BulkResult;
+import com.example.purchase.common.BulkStatusRequest;
+import com.example.purchase.common.CursorPage;
+import com.example.purchase.common.ExportFormat;
+import com.example.purchase.common.SearchRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Date;
 import java.util.List;
@@ -75,6 +83,12 @@ public class PurchaseOrderController {
         return ResponseEntity.ok(purchaseOrderService.getPurchaseOrdersByYear(year));
     }
 
+    @GetMapping("/search")
+    @Operation(summary = "Search purchase orders by status (PENDING, COMPLETED, REJECTED), vendor, event, cdsid, names, date and amount range")
+    public ResponseEntity<CursorPage<PurchaseOrderDTO>> searchPurchaseOrders(@ParameterObject SearchRequest request) {
+        return ResponseEntity.ok(purchaseOrderService.searchPurchaseOrders(request));
+    }
+
     @GetMapping("/filter")
     @Operation(summary = "Get purchase orders by date range")
     public ResponseEntity<List<PurchaseOrderDTO>> getPurchaseOrdersByDateRange(
@@ -91,12 +105,123 @@ public class PurchaseOrderController {
         return ResponseEntity.ok(purchaseOrderService.getCompletedPurchaseOrders());
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "Export all purchase orders as NDJSON or CSV (streamed)")
+    public ResponseEntity<StreamingResponseBody> exportPurchaseOrders(
+            @RequestParam(defaultValue = "ndjson") @Parameter(description = "Format (ndjson, csv)") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = out -> purchaseOrderService.exportPurchaseOrders(out, exportFormat);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"purchase-orders." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    // ============================================
+    // Keyset-paginated variants (selected with ?size=)
+    // ============================================
+
+    @GetMapping(params = "size")
+    @Operation(summary = "Get purchase orders page")
+    public ResponseEntity<CursorPage<PurchaseOrderDTO>> getPurchaseOrdersPage(
+            @RequestParam @Parameter(description = "Page size (max 500)") int size,
+            @RequestParam(required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Include total row count") boolean withTotal) {
+        return ResponseEntity.ok(purchaseOrderService.getPurchaseOrdersPage(cursor, size, withTotal));
+    }
+
+    @GetMapping(value = "/status/{status}", params = "size")
+    @Operation(summary = "Get purchase orders page by status")
+    public ResponseEntity<CursorPage<PurchaseOrderDTO>> getPurchaseOrdersPageByStatus(
+            @PathVariable @Parameter(description = "Status (COMPLETED, REJECTED)") String status,
+            @RequestParam @Parameter(description = "Page size (max 500)") int size,
+            @RequestParam(required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Include total row count") boolean withTotal) {
+        return ResponseEntity.ok(purchaseOrderService.getPurchaseOrdersPageByStatus(status, cursor, size, withTotal));
+    }
+
+    @GetMapping(value = "/vendor/{vendorid}", params = "size")
+    @Operation(summary = "Get purchase orders page by vendor ID")
+    public ResponseEntity<CursorPage<PurchaseOrderDTO>> getPurchaseOrdersPageByVendor(
+            @PathVariable @Parameter(description = "Vendor ID") Integer vendorid,
+            @RequestParam @Parameter(description = "Page size (max 500)") int size,
+            @RequestParam(required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Include total row count") boolean withTotal) {
+        return ResponseEntity.ok(purchaseOrderService.getPurchaseOrdersPageByVendor(vendorid, cursor, size, withTotal));
+    }
+
+    @GetMapping(value = "/event/{eventid}", params = "size")
+    @Operation(summary = "Get purchase orders page by event ID")
+    public ResponseEntity<CursorPage<PurchaseOrderDTO>> getPurchaseOrdersPageByEvent(
+            @PathVariable @Parameter(description = "Event ID") Integer eventid,
+            @RequestParam @Parameter(description = "Page size (max 500)") int size,
+            @RequestParam(required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Include total row count") boolean withTotal) {
+        return ResponseEntity.ok(purchaseOrderService.getPurchaseOrdersPageByEvent(eventid, cursor, size, withTotal));
+    }
+
+    @GetMapping(value = "/cdsid/{cdsid}", params = "size")
+    @Operation(summary = "Get purchase orders page by CDSID")
+    public ResponseEntity<CursorPage<PurchaseOrderDTO>> getPurchaseOrdersPageByCdsid(
+            @PathVariable @Parameter(description = "CDSID") String cdsid,
+            @RequestParam @Parameter(description = "Page size (max 500)") int size,
+            @RequestParam(required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Include total row count") boolean withTotal) {
+        return ResponseEntity.ok(purchaseOrderService.getPurchaseOrdersPageByCdsid(cdsid, cursor, size, withTotal));
+    }
+
+    @GetMapping(value = "/year/{year}", params = "size")
+    @Operation(summary = "Get purchase orders page by year")
+    public ResponseEntity<CursorPage<PurchaseOrderDTO>> getPurchaseOrdersPageByYear(
+            @PathVariable @Parameter(description = "Year (e.g., 2024)") int year,
+            @RequestParam @Parameter(description = "Page size (max 500)") int size,
+            @RequestParam(required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Include total row count") boolean withTotal) {
+        return ResponseEntity.ok(purchaseOrderService.getPurchaseOrdersPageByYear(year, cursor, size, withTotal));
+    }
+
+    @GetMapping(value = "/filter", params = "size")
+    @Operation(summary = "Get purchase orders page by date range")
+    public ResponseEntity<CursorPage<PurchaseOrderDTO>> getPurchaseOrdersPageByDateRange(
+            @RequestParam @Parameter(description = "Start date (yyyy-MM-dd)")
+            @DateTimeFormat(pattern = "yyyy-MM-dd") Date fromDate,
+            @RequestParam @Parameter(description = "End date (yyyy-MM-dd)")
+            @DateTimeFormat(pattern = "yyyy-MM-dd") Date toDate,
+            @RequestParam @Parameter(description = "Page size (max 500)") int size,
+            @RequestParam(required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Include total row count") boolean withTotal) {
+        return ResponseEntity.ok(purchaseOrderService.getPurchaseOrdersPageByDateRange(fromDate, toDate, cursor, size, withTotal));
+    }
+
+    @GetMapping(value = "/completed", params = "size")
+    @Operation(summary = "Get completed purchase orders page")
+    public ResponseEntity<CursorPage<PurchaseOrderDTO>> getCompletedPurchaseOrdersPage(
+            @RequestParam @Parameter(description = "Page size (max 500)") int size,
+            @RequestParam(required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Include total row count") boolean withTotal) {
+        return ResponseEntity.ok(purchaseOrderService.getCompletedPurchaseOrdersPage(cursor, size, withTotal));
+    }
+
     @PostMapping
     @Operation(summary = "Create new purchase order")
     public ResponseEntity<PurchaseOrderDTO> createPurchaseOrder(@RequestBody PurchaseOrderDTO dto) {
         return new ResponseEntity<>(purchaseOrderService.createPurchaseOrder(dto), HttpStatus.CREATED);
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "Create purchase orders in bulk (batched, per-row results)")
+    public ResponseEntity<BulkResult> createPurchaseOrders(@RequestBody List<PurchaseOrderDTO> dtos) {
+        BulkResult result = purchaseOrderService.createPurchaseOrders(dtos);
+        return ResponseEntity.status(result.responseStatus()).body(result);
+    }
+
+    @PutMapping("/bulk/reject")
+    @Operation(summary = "Reject purchase orders in bulk by ids and/or filter (cascades to PR and negotiation)")
+    public ResponseEntity<BulkResult> rejectPurchaseOrders(@RequestBody BulkStatusRequest request) {
+        return ResponseEntity.ok(purchaseOrderService.rejectPurchaseOrders(request));
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update purchase order")
     public ResponseEntity<PurchaseOrderDTO> updatePurchaseOrder(
@@ -1,5 +1,6 @@
 package com.example.purchase.purchaseorder;
 
+import com.example.purchase.common.Money;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.Date;
 
@@ -26,9 +27,10 @@ public class PurchaseOrderDTO {
     public PurchaseOrderDTO() {
     }
 
+    // Projection constructor: amounts arrive in minor units, as stored
     public PurchaseOrderDTO(Integer PO_id, Integer eventid, String eventname, Integer vendorid,
-            String vendorname, String cdsid, Date orderdate, Double orderamountINR,
-            Double orderamountdollar, String PO_status, Integer prid, Integer negotiationid) {
+            String vendorname, String cdsid, Date orderdate, Long orderamountINR,
+            Long orderamountdollar, String PO_status, Integer prid, Integer negotiationid) {
         this.PO_id = PO_id;
         this.eventid = eventid;
         this.eventname = eventname;
@@ -37,8 +39,8 @@ public class PurchaseOrderDTO {
        
         this.cdsid = cdsid;
         this.orderdate = orderdate;
-        this.orderamountINR = orderamountINR;
-        this.orderamountdollar = orderamountdollar;
+        this.orderamountINR = Money.majorOf(orderamountINR);
+        this.orderamountdollar = Money.majorOf(orderamountdollar);
         this.PO_status = PO_status;
         this.prid = prid;
         this.negotiationid = negotiationid;
@@ -0,0 +1,55 @@
+package com.example.purchase.purchaseorder;
+
+import com.example.purchase.common.DateRanges;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.util.Date;
+
+// Streaming variants of the purchase order query endpoints; same contract as PurchaseRequestReactiveController
+@RestController
+@RequestMapping(value = "/api/reactive/purchase-orders",
+        produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+@Tag(name = "Purchase Order Management (reactive reads)", description = "Streaming read APIs for purchase orders")
+public class PurchaseOrderReactiveController {
+
+    @Autowired
+    private PurchaseOrderReactiveRepository purchaseOrderReactiveRepository;
+
+    @GetMapping("/status/{status}")
+    @Operation(summary = "Stream purchase orders by status")
+    public Flux<PurchaseOrderDTO> getPurchaseOrdersByStatus(
+            @PathVariable @Parameter(description = "Status (COMPLETED, REJECTED)") String status) {
+        return purchaseOrderReactiveRepository.findByStatus(status);
+    }
+
+    @GetMapping("/vendor/{vendorid}")
+    @Operation(summary = "Stream purchase orders by vendor ID")
+    public Flux<PurchaseOrderDTO> getPurchaseOrdersByVendor(
+            @PathVariable @Parameter(description = "Vendor ID") Integer vendorid) {
+        return purchaseOrderReactiveRepository.findByVendorid(vendorid);
+    }
+
+    @GetMapping("/year/{year}")
+    @Operation(summary = "Stream purchase orders by year")
+    public Flux<PurchaseOrderDTO> getPurchaseOrdersByYear(
+            @PathVariable @Parameter(description = "Year (e.g., 2024)") int year) {
+        return purchaseOrderReactiveRepository.findByYearRange(DateRanges.startOfYear(year), DateRanges.startOfNextYear(year));
+    }
+
+    @GetMapping("/filter")
+    @Operation(summary = "Stream purchase orders by date range")
+    public Flux<PurchaseOrderDTO> getPurchaseOrdersByDateRange(
+            @RequestParam @Parameter(description = "Start date (yyyy-MM-dd)")
+            @DateTimeFormat(pattern = "yyyy-MM-dd") Date fromDate,
+            @RequestParam @Parameter(description = "End date (yyyy-MM-dd)")
+            @DateTimeFormat(pattern = "yyyy-MM-dd") Date toDate) {
+        return purchaseOrderReactiveRepository.findByDateRange(fromDate, toDate);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.purchase.purchaseorder;
+
+import com.example.purchase.common.DateRanges;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+
+// Read-only R2DBC queries behind /api/reactive/purchase-orders. Same columns and predicates as the
+// JPQL DTO queries in PurchaseOrderRepository; rows are emitted as the subscriber requests them.
+@Repository
+public class PurchaseOrderReactiveRepository {
+
+    private static final String DTO_SELECT = "SELECT po.po_id, po.eventid, po.eventname, po.vendorid, po.vendorname, "
+            + "po.cdsid, po.orderdate, po.orderamountinr_minor, po.orderamountdollar_minor, po.po_status, po.prid, "
+            + "po.negotiationid FROM purchase_order po ";
+
+    @Autowired
+    private DatabaseClient reactiveDatabaseClient;
+
+    public Flux<PurchaseOrderDTO> findByStatus(String status) {
+        return reactiveDatabaseClient.sql(DTO_SELECT + "WHERE po.po_status = :status ORDER BY po.po_id")
+                .bind("status", status)
+                .map((row, metadata) -> toDTO(row))
+                .all();
+    }
+
+    public Flux<PurchaseOrderDTO> findByVendorid(Integer vendorid) {
+        return reactiveDatabaseClient.sql(DTO_SELECT + "WHERE po.vendorid = :vendorid ORDER BY po.po_id")
+                .bind("vendorid", vendorid)
+                .map((row, metadata) -> toDTO(row))
+                .all();
+    }
+
+    public Flux<PurchaseOrderDTO> findByYearRange(Date yearStart, Date nextYearStart) {
+        return reactiveDatabaseClient.sql(DTO_SELECT
+                        + "WHERE po.orderdate >= :yearStart AND po.orderdate < :nextYearStart ORDER BY po.po_id")
+                .bind("yearStart", DateRanges.toLocalDateTime(yearStart))
+                .bind("nextYearStart", DateRanges.toLocalDateTime(nextYearStart))
+                .map((row, metadata) -> toDTO(row))
+                .all();
+    }
+
+    public Flux<PurchaseOrderDTO> findByDateRange(Date startDate, Date endDate) {
+        return reactiveDatabaseClient.sql(DTO_SELECT
+                        + "WHERE po.orderdate BETWEEN :startDate AND :endDate ORDER BY po.po_id")
+                .bind("startDate", DateRanges.toLocalDateTime(startDate))
+                .bind("endDate", DateRanges.toLocalDateTime(endDate))
+                .map((row, metadata) -> toDTO(row))
+                .all();
+    }
+
+    private static PurchaseOrderDTO toDTO(Row row) {
+        return new PurchaseOrderDTO(
+                row.get("po_id", Integer.class),
+                row.get("eventid", Integer.class),
+                row.get("eventname", String.class),
+                row.get("vendorid", Integer.class),
+                row.get("vendorname", String.class),
+                row.get("cdsid", String.class),
+                DateRanges.toDate(row.get("orderdate", LocalDateTime.class)),
+                row.get("orderamountinr_minor", Long.class),
+                row.get("orderamountdollar_minor", Long.class),
+                row.get("po_status", String.class),
+                row.get("prid", Integer.class),
+                row.get("negotiationid", Integer.class));
+    }
+}
@@ -1,43 +1,167 @@
 package com.example.purchase.purchaseorder;
 
+import com.example.purchase.common.IdStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PurchaseOrderRepository extends JpaRepository<PurchaseOrder, Integer> {
 
-    @Query("SELECT po FROM PurchaseOrder po WHERE po.PO_status = :status")
-    List<PurchaseOrder> findByStatus(@Param("status") String status);
+    // DTO constructor expression: selects only DTO columns (and FK ids) without hydrating entities
+    String DTO_SELECT = "SELECT new com.example.purchase.purchaseorder.PurchaseOrderDTO("
+            + "po.PO_id, po.eventid, po.eventname, po.vendorid, po.vendorname, po.cdsid, po.orderdate, "
+            + "po.orderamountINR, po.orderamountdollar, po.PO_status, pr.prid, n.negotiationid) "
+            + "FROM PurchaseOrder po LEFT JOIN po.purchaserequest pr LEFT JOIN po.negotiation n ";
 
-    List<PurchaseOrder> findByVendorid(Integer vendorid);
+    @Query(DTO_SELECT + "ORDER BY po.PO_id")
+    List<PurchaseOrderDTO> findAllDTOs();
 
-    List<PurchaseOrder> findByEventid(Integer eventid);
+    @Query(DTO_SELECT + "WHERE po.PO_id = :id")
+    Optional<PurchaseOrderDTO> findDTOById(@Param("id") Integer id);
+
+    @Query(DTO_SELECT + "WHERE po.PO_status = :status")
+    List<PurchaseOrderDTO> findByStatus(@Param("status") String status);
+
+    @Query(DTO_SELECT + "WHERE po.vendorid = :vendorid")
+    List<PurchaseOrderDTO> findByVendorid(@Param("vendorid") Integer vendorid);
+
+    @Query(DTO_SELECT + "WHERE po.eventid = :eventid")
+    List<PurchaseOrderDTO> findByEventid(@Param("eventid") Integer eventid);
 
     // UPDATED: Find by cdsid
-    List<PurchaseOrder> findByCdsid(String cdsid);
+    @Query(DTO_SELECT + "WHERE po.cdsid = :cdsid")
+    List<PurchaseOrderDTO> findByCdsid(@Param("cdsid") String cdsid);
 
     Optional<PurchaseOrder> findByPurchaserequest_Prid(Integer prid);
 
     Optional<PurchaseOrder> findByNegotiation_Negotiationid(Integer negotiationid);
 
-    @Query("SELECT po FROM PurchaseOrder po WHERE YEAR(po.orderdate) = :year")
-    List<PurchaseOrder> findByYear(@Param("year") int year);
+    @Query(DTO_SELECT + "WHERE po.orderdate >= :yearStart AND po.orderdate < :nextYearStart")
+    List<PurchaseOrderDTO> findByYearRange(@Param("yearStart") Date yearStart, @Param("nextYearStart") Date nextYearStart);
 
-    @Query("SELECT po FROM PurchaseOrder po WHERE po.orderdate BETWEEN :startDate AND :endDate")
-    List<PurchaseOrder> findByDateRange(@Param("startDate") Date startDate, @Param("endDate") Date endDate);
+    @Query(DTO_SELECT + "WHERE po.orderdate BETWEEN :startDate AND :endDate")
+    List<PurchaseOrderDTO> findByDateRange(@Param("startDate") Date startDate, @Param("endDate") Date endDate);
 
-    @Query("SELECT po FROM PurchaseOrder po WHERE po.PO_status = 'COMPLETED'")
-    List<PurchaseOrder> findCompletedOrders();
+    @Query(DTO_SELECT + "WHERE po.PO_status = 'COMPLETED'")
+    List<PurchaseOrderDTO> findCompletedOrders();
 
-    @Query("SELECT po FROM PurchaseOrder po WHERE po.orderamountINR BETWEEN :minAmount AND :maxAmount")
-    List<PurchaseOrder> findByAmountRangeINR(@Param("minAmount") Double minAmount, @Param("maxAmount") Double maxAmount);
+    // Bounds in minor units (paise)
+    @Query(DTO_SELECT + "WHERE po.orderamountINR BETWEEN :minAmount AND :maxAmount")
+    List<PurchaseOrderDTO> findByAmountRangeINR(@Param("minAmount") Long minAmount, @Param("maxAmount") Long maxAmount);
 
+    // Exact BIGINT sum in minor units (paise)
     @Query("SELECT SUM(po.orderamountINR) FROM PurchaseOrder po WHERE po.vendorid = :vendorid")
-    Double getTotalOrderAmountByVendor(@Param("vendorid") Integer vendorid);
+    Long getTotalOrderAmountByVendor(@Param("vendorid") Integer vendorid);
+
+    // ============================================
+    // Keyset pagination (id > :lastId ORDER BY id)
+    // ============================================
+
+    @Query(DTO_SELECT + "WHERE po.PO_id > :lastId ORDER BY po.PO_id")
+    List<PurchaseOrderDTO> findPage(@Param("lastId") Integer lastId, Pageable pageable);
+
+    @Query(DTO_SELECT + "WHERE po.PO_status = :status AND po.PO_id > :lastId ORDER BY po.PO_id")
+    List<PurchaseOrderDTO> findPageByStatus(@Param("status") String status, @Param("lastId") Integer lastId, Pageable pageable);
+
+    @Query(DTO_SELECT + "WHERE po.vendorid = :vendorid AND po.PO_id > :lastId ORDER BY po.PO_id")
+    List<PurchaseOrderDTO> findPageByVendorid(@Param("vendorid") Integer vendorid, @Param("lastId") Integer lastId, Pageable pageable);
+
+    @Query(DTO_SELECT + "WHERE po.eventid = :eventid AND po.PO_id > :lastId ORDER BY po.PO_id")
+    List<PurchaseOrderDTO> findPageByEventid(@Param("eventid") Integer eventid, @Param("lastId") Integer lastId, Pageable pageable);
+
+    @Query(DTO_SELECT + "WHERE po.cdsid = :cdsid AND po.PO_id > :lastId ORDER BY po.PO_id")
+    List<PurchaseOrderDTO> findPageByCdsid(@Param("cdsid") String cdsid, @Param("lastId") Integer lastId, Pageable pageable);
+
+    @Query(DTO_SELECT + "WHERE po.orderdate >= :yearStart AND po.orderdate < :nextYearStart AND po.PO_id > :lastId ORDER BY po.PO_id")
+    List<PurchaseOrderDTO> findPageByYearRange(@Param("yearStart") Date yearStart, @Param("nextYearStart") Date nextYearStart,
+            @Param("lastId") Integer lastId, Pageable pageable);
+
+    @Query(DTO_SELECT + "WHERE po.orderdate BETWEEN :startDate AND :endDate AND po.PO_id > :lastId ORDER BY po.PO_id")
+    List<PurchaseOrderDTO> findPageByDateRange(@Param("startDate") Date startDate, @Param("endDate") Date endDate,
+            @Param("lastId") Integer lastId, Pageable pageable);
+
+    @Query("SELECT COUNT(po) FROM PurchaseOrder po WHERE po.PO_status = :status")
+    long countByStatus(@Param("status") String status);
+
+    long countByVendorid(Integer vendorid);
+
+    long countByEventid(Integer eventid);
+
+    long countByCdsid(String cdsid);
+
+    @Query("SELECT COUNT(po) FROM PurchaseOrder po WHERE po.orderdate >= :yearStart AND po.orderdate < :nextYearStart")
+    long countByYearRange(@Param("yearStart") Date yearStart, @Param("nextYearStart") Date nextYearStart);
+
+    @Query("SELECT COUNT(po) FROM PurchaseOrder po WHERE po.orderdate BETWEEN :startDate AND :endDate")
+    long countByDateRange(@Param("startDate") Date startDate, @Param("endDate") Date endDate);
+
+    // ============================================
+    // Streaming export (server-side cursor over DTO rows)
+    // ============================================
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(DTO_SELECT + "ORDER BY po.PO_id")
+    Stream<PurchaseOrderDTO> streamAll();
+
+    // ============================================
+    // Bulk status transitions (set-based)
+    // ============================================
+
+    String BULK_FILTER = "(:vendorid IS NULL OR po.vendorid = :vendorid) "
+            + "AND (:eventid IS NULL OR po.eventid = :eventid) "
+            + "AND (:cdsid IS NULL OR po.cdsid = :cdsid) "
+            + "AND (:status IS NULL OR po.PO_status = :status)";
+
+    @Query("SELECT new com.example.purchase.common.IdStatus(po.PO_id, po.PO_status) FROM PurchaseOrder po "
+            + "WHERE po.PO_id IN :ids AND " + BULK_FILTER)
+    List<IdStatus> findIdStatusByIds(@Param("ids") Collection<Integer> ids, @Param("vendorid") Integer vendorid,
+            @Param("eventid") Integer eventid, @Param("cdsid") String cdsid, @Param("status") String status);
+
+    @Query("SELECT new com.example.purchase.common.IdStatus(po.PO_id, po.PO_status) FROM PurchaseOrder po "
+            + "WHERE " + BULK_FILTER + " ORDER BY po.PO_id")
+    List<IdStatus> findIdStatusByFilter(@Param("vendorid") Integer vendorid, @Param("eventid") Integer eventid,
+            @Param("cdsid") String cdsid, @Param("status") String status, Pageable pageable);
+
+    // Row state (status, version) read back after a bulk UPDATE, for the change feed
+    @Query("SELECT new com.example.purchase.common.IdStatus(po.PO_id, po.PO_status, po.version) "
+            + "FROM PurchaseOrder po WHERE po.PO_id IN :ids")
+    List<IdStatus> findStateByIds(@Param("ids") Collection<Integer> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PurchaseOrder po SET po.PO_status = :status, po.version = po.version + 1 WHERE po.PO_id IN :ids")
+    int updateStatusByIds(@Param("ids") Collection<Integer> ids, @Param("status") String status);
+
+    // ============================================
+    // Re-pricing after an exchange rate correction (set-based, chunked by id)
+    // ============================================
+
+    // Next chunk of orders dated in [from, to) (plus undated ones when they fall in the period), after lastId
+    @Query("SELECT po.PO_id FROM PurchaseOrder po WHERE po.PO_id > :lastId AND po.orderamountINR IS NOT NULL "
+            + "AND ((po.orderdate >= :from AND po.orderdate < :to) OR (:undated = true AND po.orderdate IS NULL)) "
+            + "ORDER BY po.PO_id")
+    List<Integer> findIdsPricedBetween(@Param("lastId") Integer lastId, @Param("from") Date from, @Param("to") Date to,
+            @Param("undated") boolean undated, Pageable pageable);
+
+    // Dollar amount at the given rate, rounded to the cent like Money.divide; rows already at that amount
+    // keep their version. Native, since Hibernate renders a double parameter in JPQL arithmetic as a
+    // cast H2 cannot parse
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(nativeQuery = true, value = "UPDATE purchase_order "
+            + "SET ORDERAMOUNTDOLLAR_MINOR = ROUND(ORDERAMOUNTINR_MINOR / :rate), VERSION = VERSION + 1 "
+            + "WHERE PO_ID IN (:ids) AND ORDERAMOUNTINR_MINOR IS NOT NULL AND (ORDERAMOUNTDOLLAR_MINOR IS NULL "
+            + "OR ORDERAMOUNTDOLLAR_MINOR <> ROUND(ORDERAMOUNTINR_MINOR / :rate))")
+    int repriceDollarAmounts(@Param("ids") Collection<Integer> ids, @Param("rate") double rate);
 }
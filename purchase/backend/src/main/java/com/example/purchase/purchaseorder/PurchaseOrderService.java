@@ -1,22 +1,57 @@
 package com.example.purchase.purchaseorder;
 
+import com.example.purchase.cache.EntityCacheInvalidator;
+import com.example.purchase.changefeed.ChangeEvent;
+import com.example.purchase.changefeed.ChangeFeed;
+import com.example.purchase.common.BulkInsertTemplate;
+import com.example.purchase.common.BulkResult;
+import com.example.purchase.common.BulkStatusRequest;
+import com.example.purchase.common.BulkTransitions;
+import com.example.purchase.common.CursorPage;
+import com.example.purchase.common.DateRanges;
+import com.example.purchase.common.ExportFormat;
+import com.example.purchase.common.ExportWriter;
+import com.example.purchase.common.OptimisticRetryTemplate;
+import com.example.purchase.common.IdStatus;
+import com.example.purchase.common.Money;
+import com.example.purchase.common.SearchFields;
+import com.example.purchase.common.SearchRequest;
+import com.example.purchase.common.SearchTemplate;
+import com.example.purchase.config.CacheConfig;
+import com.example.purchase.currency.ExchangeRates;
 import com.example.purchase.negotiation.Negotiation;
 import com.example.purchase.negotiation.NegotiationRepository;
+import com.example.purchase.outbox.Outbox;
+import com.example.purchase.outbox.OutboxEvent;
 import com.example.purchase.purchaserequest.PurchaseRequest;
 import com.example.purchase.purchaserequest.PurchaseRequestRepository;
 import com.example.purchase.purchaserequest.Status;
+import com.example.purchase.vendorspend.VendorSpendEntry;
+import com.example.purchase.vendorspend.VendorSpendService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class PurchaseOrderService {
 
+    private static final Logger log = LoggerFactory.getLogger(PurchaseOrderService.class);
+
     @Autowired
     private PurchaseOrderRepository purchaseOrderRepository;
 
@@ -26,166 +61,383 @@ public class PurchaseOrderService {
     @Autowired
     private NegotiationRepository negotiationRepository;
 
-    // Currency conversion rate (example: 1 USD = 83 INR)
-    private static final double USD_TO_INR_RATE = 83.0;
+    @Autowired
+    private BulkInsertTemplate bulkInsertTemplate;
+
+    @Autowired
+    private VendorSpendService vendorSpendService;
+
+    @Autowired
+    private EntityCacheInvalidator cacheInvalidator;
+
+    @Autowired
+    private OptimisticRetryTemplate optimisticRetry;
+
+    @Autowired
+    private SearchTemplate searchTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ChangeFeed changeFeed;
+
+    @Autowired
+    private Outbox outbox;
+
+    @Autowired
+    private ExchangeRates exchangeRates;
+
+    // Search criteria mapping: status PO_status, date orderdate, amount orderamountINR
+    private static final SearchFields<PurchaseOrderDTO> SEARCH_FIELDS = new SearchFields<>(PurchaseOrderRepository.class,
+            PurchaseOrderDTO.class, PurchaseOrderRepository.DTO_SELECT, "PurchaseOrder", "po", "PO_id", "PO_status", "orderdate", "orderamountINR",
+            status -> status, PurchaseOrderDTO::getPO_id, PurchaseOrderDTO::getOrderdate, PurchaseOrderDTO::getOrderamountINR);
+
+    private static final String[] EXPORT_HEADERS = {
+            "po_id", "eventid", "eventname", "vendorid", "vendorname", "cdsid", "orderdate",
+            "orderamountINR", "orderamountdollar", "po_status", "prid", "negotiationid"
+    };
 
     // Get all purchase orders
+    @Transactional(readOnly = true)
     public List<PurchaseOrderDTO> getAllPurchaseOrders() {
-        return purchaseOrderRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return purchaseOrderRepository.findAllDTOs();
     }
 
-    // Get purchase order by id
+    // Get purchase order by id (read-through cache; every write path below evicts what it touches)
+    @Cacheable(cacheNames = CacheConfig.PURCHASE_ORDERS, key = "#id", sync = true)
+    @Transactional(readOnly = true)
     public PurchaseOrderDTO getPurchaseOrderById(Integer id) {
-        PurchaseOrder po = purchaseOrderRepository.findById(id)
+        return purchaseOrderRepository.findDTOById(id)
                 .orElseThrow(() -> new RuntimeException("Purchase Order not found with id: " + id));
-        return convertToDTO(po);
     }
 
     // Get purchase orders by status
+    @Transactional(readOnly = true)
     public List<PurchaseOrderDTO> getPurchaseOrdersByStatus(String status) {
-        return purchaseOrderRepository.findByStatus(status).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return purchaseOrderRepository.findByStatus(status);
     }
 
     // Get purchase orders by vendor
+    @Transactional(readOnly = true)
     public List<PurchaseOrderDTO> getPurchaseOrdersByVendor(Integer vendorid) {
-        return purchaseOrderRepository.findByVendorid(vendorid).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return purchaseOrderRepository.findByVendorid(vendorid);
     }
 
     // Get purchase orders by event
+    @Transactional(readOnly = true)
     public List<PurchaseOrderDTO> getPurchaseOrdersByEvent(Integer eventid) {
-        return purchaseOrderRepository.findByEventid(eventid).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return purchaseOrderRepository.findByEventid(eventid);
     }
 
     // Get purchase orders by cdsid
+    @Transactional(readOnly = true)
     public List<PurchaseOrderDTO> getPurchaseOrdersByCdsid(String cdsid) {
-        return purchaseOrderRepository.findByCdsid(cdsid).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return purchaseOrderRepository.findByCdsid(cdsid);
     }
 
     // Get purchase orders by year
+    @Transactional(readOnly = true)
     public List<PurchaseOrderDTO> getPurchaseOrdersByYear(int year) {
-        return purchaseOrderRepository.findByYear(year).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return purchaseOrderRepository.findByYearRange(DateRanges.startOfYear(year), DateRanges.startOfNextYear(year));
+    }
+
+    // Search by any combination of criteria: one sorted, keyset-paginated query
+    @Transactional(readOnly = true)
+    public CursorPage<PurchaseOrderDTO> searchPurchaseOrders(SearchRequest request) {
+        return searchTemplate.search(SEARCH_FIELDS, request);
     }
 
     // Get purchase orders by date range
+    @Transactional(readOnly = true)
     public List<PurchaseOrderDTO> getPurchaseOrdersByDateRange(Date startDate, Date endDate) {
-        return purchaseOrderRepository.findByDateRange(startDate, endDate).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return purchaseOrderRepository.findByDateRange(startDate, endDate);
     }
 
     // Get completed purchase orders
+    @Transactional(readOnly = true)
     public List<PurchaseOrderDTO> getCompletedPurchaseOrders() {
-        return purchaseOrderRepository.findCompletedOrders().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return purchaseOrderRepository.findCompletedOrders();
     }
 
-    // Get total order amount by vendor
+    // Get total order amount by vendor (maintained aggregate, no scan of the vendor's orders)
+    @Transactional(readOnly = true)
     public Double getTotalOrderAmountByVendor(Integer vendorid) {
-        Double total = purchaseOrderRepository.getTotalOrderAmountByVendor(vendorid);
-        return total != null ? total : 0.0;
+        Money total = vendorSpendService.getTotalOrderAmountByVendor(vendorid);
+        return total != null ? total.toMajor() : 0.0;
+    }
+
+    // ============================================
+    // Keyset-paginated reads
+    // ============================================
+
+    // Get page of all purchase orders
+    @Transactional(readOnly = true)
+    public CursorPage<PurchaseOrderDTO> getPurchaseOrdersPage(String cursor, int size, boolean withTotal) {
+        List<PurchaseOrderDTO> rows = purchaseOrderRepository.findPage(
+                CursorPage.decodeCursor(cursor), CursorPage.limit(size));
+        return toPage(rows, size, withTotal ? purchaseOrderRepository.count() : null);
+    }
+
+    // Get page of purchase orders by status
+    @Transactional(readOnly = true)
+    public CursorPage<PurchaseOrderDTO> getPurchaseOrdersPageByStatus(String status, String cursor, int size,
+            boolean withTotal) {
+        List<PurchaseOrderDTO> rows = purchaseOrderRepository.findPageByStatus(
+                status, CursorPage.decodeCursor(cursor), CursorPage.limit(size));
+        return toPage(rows, size, withTotal ? purchaseOrderRepository.countByStatus(status) : null);
+    }
+
+    // Get page of purchase orders by vendor
+    @Transactional(readOnly = true)
+    public CursorPage<PurchaseOrderDTO> getPurchaseOrdersPageByVendor(Integer vendorid, String cursor, int size,
+            boolean withTotal) {
+        List<PurchaseOrderDTO> rows = purchaseOrderRepository.findPageByVendorid(
+                vendorid, CursorPage.decodeCursor(cursor), CursorPage.limit(size));
+        return toPage(rows, size, withTotal ? purchaseOrderRepository.countByVendorid(vendorid) : null);
+    }
+
+    // Get page of purchase orders by event
+    @Transactional(readOnly = true)
+    public CursorPage<PurchaseOrderDTO> getPurchaseOrdersPageByEvent(Integer eventid, String cursor, int size,
+            boolean withTotal) {
+        List<PurchaseOrderDTO> rows = purchaseOrderRepository.findPageByEventid(
+                eventid, CursorPage.decodeCursor(cursor), CursorPage.limit(size));
+        return toPage(rows, size, withTotal ? purchaseOrderRepository.countByEventid(eventid) : null);
+    }
+
+    // Get page of purchase orders by cdsid
+    @Transactional(readOnly = true)
+    public CursorPage<PurchaseOrderDTO> getPurchaseOrdersPageByCdsid(String cdsid, String cursor, int size,
+            boolean withTotal) {
+        List<PurchaseOrderDTO> rows = purchaseOrderRepository.findPageByCdsid(
+                cdsid, CursorPage.decodeCursor(cursor), CursorPage.limit(size));
+        return toPage(rows, size, withTotal ? purchaseOrderRepository.countByCdsid(cdsid) : null);
+    }
+
+    // Get page of purchase orders by year
+    @Transactional(readOnly = true)
+    public CursorPage<PurchaseOrderDTO> getPurchaseOrdersPageByYear(int year, String cursor, int size,
+            boolean withTotal) {
+        Date yearStart = DateRanges.startOfYear(year);
+        Date nextYearStart = DateRanges.startOfNextYear(year);
+        List<PurchaseOrderDTO> rows = purchaseOrderRepository.findPageByYearRange(
+                yearStart, nextYearStart, CursorPage.decodeCursor(cursor), CursorPage.limit(size));
+        return toPage(rows, size, withTotal ? purchaseOrderRepository.countByYearRange(yearStart, nextYearStart) : null);
     }
 
-    // Create purchase order
+    // Get page of purchase orders by date range
+    @Transactional(readOnly = true)
+    public CursorPage<PurchaseOrderDTO> getPurchaseOrdersPageByDateRange(Date startDate, Date endDate,
+            String cursor, int size, boolean withTotal) {
+        List<PurchaseOrderDTO> rows = purchaseOrderRepository.findPageByDateRange(
+                startDate, endDate, CursorPage.decodeCursor(cursor), CursorPage.limit(size));
+        return toPage(rows, size, withTotal ? purchaseOrderRepository.countByDateRange(startDate, endDate) : null);
+    }
+
+    // Get page of completed purchase orders
+    @Transactional(readOnly = true)
+    public CursorPage<PurchaseOrderDTO> getCompletedPurchaseOrdersPage(String cursor, int size, boolean withTotal) {
+        return getPurchaseOrdersPageByStatus("COMPLETED", cursor, size, withTotal);
+    }
+
+    // Create purchase order (retried if it races another writer creating the same vendor spend bucket)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PurchaseOrderDTO createPurchaseOrder(PurchaseOrderDTO dto) {
+        return optimisticRetry.execute(() -> applyCreatePurchaseOrder(dto));
+    }
+
+    private PurchaseOrderDTO applyCreatePurchaseOrder(PurchaseOrderDTO dto) {
         PurchaseOrder po = new PurchaseOrder();
         mapDTOToEntity(dto, po);
 
-        // Auto-calculate currency conversion if one amount is provided
-        if (dto.getOrderamountINR() != null && dto.getOrderamountdollar() == null) {
-            po.setOrderamountdollar(dto.getOrderamountINR() / USD_TO_INR_RATE);
-        } else if (dto.getOrderamountdollar() != null && dto.getOrderamountINR() == null) {
-            po.setOrderamountINR(dto.getOrderamountdollar() * USD_TO_INR_RATE);
+        // Auto-calculate currency conversion if one amount is provided, at the rate in force on the order date
+        if (po.getOrderamountINR() != null && po.getOrderamountdollar() == null) {
+            po.setOrderamountdollar(exchangeRates.toUsd(po.getOrderamountINR(), po.getOrderdate()));
+        } else if (po.getOrderamountdollar() != null && po.getOrderamountINR() == null) {
+            po.setOrderamountINR(exchangeRates.toInr(po.getOrderamountdollar(), po.getOrderdate()));
         }
 
         PurchaseOrder saved = purchaseOrderRepository.save(po);
+        vendorSpendService.recordChange(null, VendorSpendEntry.of(saved));
+        cacheInvalidator.collectionChanged(CacheConfig.PURCHASE_ORDERS);
         return convertToDTO(saved);
     }
 
-    // Update purchase order with cascade rejection
+    // Bulk create: chunked, JDBC-batched inserts with per-row validation results
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkResult createPurchaseOrders(List<PurchaseOrderDTO> dtos) {
+        return bulkInsertTemplate.insert(dtos, dto -> {
+            if (dto.getCdsid() == null || dto.getCdsid().isBlank()) {
+                throw new IllegalArgumentException("cdsid is required");
+            }
+            PurchaseOrder po = new PurchaseOrder();
+            mapDTOToEntity(dto, po);
+            if (po.getOrderamountINR() != null && po.getOrderamountdollar() == null) {
+                po.setOrderamountdollar(exchangeRates.toUsd(po.getOrderamountINR(), po.getOrderdate()));
+            } else if (po.getOrderamountdollar() != null && po.getOrderamountINR() == null) {
+                po.setOrderamountINR(exchangeRates.toInr(po.getOrderamountdollar(), po.getOrderdate()));
+            }
+            return po;
+        }, PurchaseOrder::getPO_id, persisted -> {
+            vendorSpendService.recordCreated(persisted);
+            cacheInvalidator.collectionChanged(CacheConfig.PURCHASE_ORDERS);
+        });
+    }
+
+    // Update purchase order with cascade rejection (retried on concurrent modification)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PurchaseOrderDTO updatePurchaseOrder(Integer id, PurchaseOrderDTO dto) {
+        return optimisticRetry.execute(() -> applyUpdatePurchaseOrder(id, dto));
+    }
+
+    private PurchaseOrderDTO applyUpdatePurchaseOrder(Integer id, PurchaseOrderDTO dto) {
         PurchaseOrder po = purchaseOrderRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Purchase Order not found with id: " + id));
         
         // Store old status to check if it changed to REJECTED
         String oldStatus = po.getPO_status();
+        VendorSpendEntry oldSpend = VendorSpendEntry.of(po);
         
         mapDTOToEntity(dto, po);
 
-        // Auto-calculate currency conversion if one amount is provided
-        if (dto.getOrderamountINR() != null && dto.getOrderamountdollar() == null) {
-            po.setOrderamountdollar(dto.getOrderamountINR() / USD_TO_INR_RATE);
-        } else if (dto.getOrderamountdollar() != null && dto.getOrderamountINR() == null) {
-            po.setOrderamountINR(dto.getOrderamountdollar() * USD_TO_INR_RATE);
+        // Auto-calculate currency conversion if one amount is provided, at the rate in force on the order date
+        if (po.getOrderamountINR() != null && po.getOrderamountdollar() == null) {
+            po.setOrderamountdollar(exchangeRates.toUsd(po.getOrderamountINR(), po.getOrderdate()));
+        } else if (po.getOrderamountdollar() != null && po.getOrderamountINR() == null) {
+            po.setOrderamountINR(exchangeRates.toInr(po.getOrderamountdollar(), po.getOrderdate()));
         }
 
         PurchaseOrder updated = purchaseOrderRepository.save(po);
+        vendorSpendService.recordChange(oldSpend, VendorSpendEntry.of(updated));
+        cacheInvalidator.evictPurchaseOrder(id);
         
-        // If status changed to REJECTED, cascade the rejection
+        // If status changed to REJECTED, queue the cascade (applied by CascadeDispatcher)
         if ("REJECTED".equals(dto.getPO_status()) && !"REJECTED".equals(oldStatus)) {
-            cascadeRejection(po);
+            outbox.enqueue(OutboxEvent.PURCHASE_ORDER_REJECTED, id);
         }
         
         return convertToDTO(updated);
     }
 
+    // Outbox handler for PURCHASE_ORDER_REJECTED. Skipped when the order is gone or no longer
+    // rejected; rows already in their target status are left alone, so redelivery is harmless
+    public void applyRejectionCascade(Integer id) {
+        PurchaseOrder po = purchaseOrderRepository.findById(id).orElse(null);
+        if (po == null || !"REJECTED".equals(po.getPO_status())) {
+            log.debug("purchaseOrder.rejectionCascadeSkipped poId={} reason=stale", id);
+            return;
+        }
+        cascadeRejection(po);
+    }
+
     // Cascade rejection to PR and Negotiation
     private void cascadeRejection(PurchaseOrder po) {
         // Update Negotiation status to Cancelled
-        if (po.getnegotiation() != null) {
+        if (po.getnegotiation() != null && !"Cancelled".equals(po.getnegotiation().getNegotiationstatus())) {
             Negotiation negotiation = po.getnegotiation();
             negotiation.setNegotiationstatus("Cancelled");
             negotiationRepository.save(negotiation);
-            System.out.println("Negotiation " + negotiation.getNegotiationid() + " status updated to Cancelled");
+            cacheInvalidator.evictNegotiation(negotiation.getNegotiationid());
+            log.info("negotiation.statusChanged negotiationId={} toStatus=Cancelled poId={}",
+                    negotiation.getNegotiationid(), po.getPO_id());
         }
         
         // Update Purchase Request status to REJECTED
-        if (po.getpurchaserequest() != null) {
+        if (po.getpurchaserequest() != null && po.getpurchaserequest().getPrstatus() != Status.REJECTED) {
             PurchaseRequest pr = po.getpurchaserequest();
             pr.setPrstatus(Status.REJECTED);
             purchaseRequestRepository.save(pr);
-            System.out.println("Purchase Request " + pr.getPrid() + " status updated to REJECTED");
+            cacheInvalidator.evictPurchaseRequest(pr.getPrid());
+            log.info("purchaseRequest.statusChanged prid={} toStatus={} poId={}", pr.getPrid(), Status.REJECTED, po.getPO_id());
         }
     }
 
-    // Complete purchase order
+    // Complete purchase order (retried on concurrent modification)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PurchaseOrderDTO completePurchaseOrder(Integer id) {
+        return optimisticRetry.execute(() -> applyCompletePurchaseOrder(id));
+    }
+
+    private PurchaseOrderDTO applyCompletePurchaseOrder(Integer id) {
         PurchaseOrder po = purchaseOrderRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Purchase Order not found with id: " + id));
+        VendorSpendEntry oldSpend = VendorSpendEntry.of(po);
         po.setPO_status("COMPLETED");
         PurchaseOrder updated = purchaseOrderRepository.save(po);
+        vendorSpendService.recordChange(oldSpend, VendorSpendEntry.of(updated));
+        cacheInvalidator.evictPurchaseOrder(id);
         return convertToDTO(updated);
     }
 
-    // Reject purchase order with cascade
+    // Reject purchase order with cascade (retried on concurrent modification)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PurchaseOrderDTO rejectPurchaseOrder(Integer id) {
+        return optimisticRetry.execute(() -> applyRejectPurchaseOrder(id));
+    }
+
+    private PurchaseOrderDTO applyRejectPurchaseOrder(Integer id) {
         PurchaseOrder po = purchaseOrderRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Purchase Order not found with id: " + id));
         
         String oldStatus = po.getPO_status();
+        VendorSpendEntry oldSpend = VendorSpendEntry.of(po);
         po.setPO_status("REJECTED");
         PurchaseOrder updated = purchaseOrderRepository.save(po);
+        vendorSpendService.recordChange(oldSpend, VendorSpendEntry.of(updated));
+        cacheInvalidator.evictPurchaseOrder(id);
         
-        // Cascade rejection if status changed
+        // Queue the cascade if status changed (applied by CascadeDispatcher)
         if (!"REJECTED".equals(oldStatus)) {
-            cascadeRejection(po);
+            outbox.enqueue(OutboxEvent.PURCHASE_ORDER_REJECTED, id);
         }
         
         return convertToDTO(updated);
     }
 
+    // Bulk reject with set-based cascade: per slice, one UPDATE each for negotiations, PRs and POs
+    public BulkResult rejectPurchaseOrders(BulkStatusRequest request) {
+        request.validate();
+        List<IdStatus> matched = new ArrayList<>();
+        if (request.hasIds()) {
+            BulkTransitions.inSlices(request.getIds(), slice -> matched.addAll(purchaseOrderRepository.findIdStatusByIds(
+                    slice, request.getVendorid(), request.getEventid(), request.getCdsid(), request.getStatus())));
+        } else {
+            matched.addAll(purchaseOrderRepository.findIdStatusByFilter(request.getVendorid(), request.getEventid(),
+                    request.getCdsid(), request.getStatus(), PageRequest.of(0, BulkStatusRequest.MAX_ROWS + 1)));
+            if (matched.size() > BulkStatusRequest.MAX_ROWS) {
+                throw new IllegalArgumentException("Filter matches more than " + BulkStatusRequest.MAX_ROWS + " purchase orders");
+            }
+        }
+
+        List<Integer> changed = new ArrayList<>();
+        BulkResult result = BulkTransitions.plan(request, matched, "REJECTED", changed);
+        Map<Integer, String> statusBefore = BulkTransitions.statusById(matched);
+        BulkTransitions.inSlices(changed, slice -> {
+            Map<Integer, String> negotiationsBefore = BulkTransitions.statusById(
+                    negotiationRepository.findStateForPurchaseOrders(slice));
+            Map<Integer, String> purchaseRequestsBefore = BulkTransitions.statusById(
+                    purchaseRequestRepository.findStateForPurchaseOrders(slice));
+            negotiationRepository.updateStatusForPurchaseOrders(slice, "Cancelled");
+            purchaseRequestRepository.updateStatusForPurchaseOrders(slice, Status.REJECTED);
+            vendorSpendService.recordStatusChange(slice, "REJECTED");
+            purchaseOrderRepository.updateStatusByIds(slice, "REJECTED");
+            changeFeed.recordBulkTransitions(ChangeEvent.NEGOTIATION, negotiationsBefore,
+                    negotiationRepository.findStateForPurchaseOrders(slice));
+            changeFeed.recordBulkTransitions(ChangeEvent.PURCHASE_REQUEST, purchaseRequestsBefore,
+                    purchaseRequestRepository.findStateForPurchaseOrders(slice));
+            changeFeed.recordBulkTransitions(ChangeEvent.PURCHASE_ORDER, statusBefore,
+                    purchaseOrderRepository.findStateByIds(slice));
+        });
+        if (!changed.isEmpty()) {
+            cacheInvalidator.evictPurchaseOrders(changed);
+            // Cascaded rows were updated by subquery, so their ids are not at hand
+            cacheInvalidator.clear(CacheConfig.NEGOTIATIONS);
+            cacheInvalidator.clear(CacheConfig.PURCHASE_REQUESTS);
+        }
+        return result;
+    }
+
         // Delete purchase order - cascade status update to PR and Negotiation
     public void deletePurchaseOrder(Integer id) {
         PurchaseOrder po = purchaseOrderRepository.findById(id)
@@ -194,14 +446,57 @@ public class PurchaseOrderService {
         // Cascade status updates before deletion
         cascadeRejection(po);
         
+        // The linked negotiation and purchase request (and the negotiation's own request) are removed with
+        // it (CascadeType.ALL); evict them even when the cascade above left their status unchanged
+        Negotiation negotiation = po.getnegotiation();
+        if (negotiation != null) {
+            cacheInvalidator.evictNegotiation(negotiation.getNegotiationid());
+            if (negotiation.getPurchaseRequest() != null) {
+                cacheInvalidator.evictPurchaseRequest(negotiation.getPurchaseRequest().getPrid());
+            }
+        }
+        if (po.getpurchaserequest() != null) {
+            cacheInvalidator.evictPurchaseRequest(po.getpurchaserequest().getPrid());
+        }
+
         // Now delete the purchase order
+        vendorSpendService.recordChange(VendorSpendEntry.of(po), null);
+        cacheInvalidator.evictPurchaseOrder(id);
         purchaseOrderRepository.deleteById(id);
-        System.out.println("Purchase Order " + id + " deleted successfully");
+        log.info("purchaseOrder.deleted poId={}", id);
+    }
+
+
+    // Trim size + 1 keyset rows into a page
+    private CursorPage<PurchaseOrderDTO> toPage(List<PurchaseOrderDTO> rows, int size, Long total) {
+        return CursorPage.of(rows, size, Function.identity(), PurchaseOrderDTO::getPO_id, total);
     }
 
+    // Stream all purchase orders to the output, flushing the output every batch
+    @Transactional(readOnly = true)
+    public long exportPurchaseOrders(OutputStream out, ExportFormat format) {
+        ExportWriter<PurchaseOrderDTO> writer = new ExportWriter<>(out, format, objectMapper, EXPORT_HEADERS, this::toExportRow);
+        try (Stream<PurchaseOrderDTO> rows = purchaseOrderRepository.streamAll()) {
+            rows.forEach(row -> {
+                writer.write(row);
+                if (writer.getRowCount() % ExportWriter.BATCH_SIZE == 0) {
+                    writer.flush();
+                }
+            });
+        }
+        writer.flush();
+        return writer.getRowCount();
+    }
+
+    // Column values for CSV export, in EXPORT_HEADERS order
+    private Object[] toExportRow(PurchaseOrderDTO dto) {
+        return new Object[] { dto.getPO_id(), dto.getEventid(), dto.getEventname(), dto.getVendorid(),
+                dto.getVendorname(), dto.getCdsid(), dto.getOrderdate(), dto.getOrderamountINR(),
+                dto.getOrderamountdollar(), dto.getPO_status(), dto.getPrid(), dto.getNegotiationid() };
+    }
 
-    // Convert entity to DTO
-    private PurchaseOrderDTO convertToDTO(PurchaseOrder po) {
+    // Convert entity to DTO (package-private for the JMH mapping benchmarks)
+    PurchaseOrderDTO convertToDTO(PurchaseOrder po) {
         PurchaseOrderDTO dto = new PurchaseOrderDTO();
         dto.setPO_id(po.getPO_id());
         dto.setEventid(po.getEventid());
@@ -211,8 +506,8 @@ public class PurchaseOrderService {
       
         dto.setCdsid(po.getCdsid());
         dto.setOrderdate(po.getOrderdate());
-        dto.setOrderamountINR(po.getOrderamountINR());
-        dto.setOrderamountdollar(po.getOrderamountdollar());
+        dto.setOrderamountINR(Money.majorOf(po.getOrderamountINR()));
+        dto.setOrderamountdollar(Money.majorOf(po.getOrderamountdollar()));
         dto.setPO_status(po.getPO_status());
         if (po.getpurchaserequest() != null) {
             dto.setPrid(po.getpurchaserequest().getPrid());
@@ -223,8 +518,8 @@ public class PurchaseOrderService {
         return dto;
     }
 
-    // Map DTO to entity
-    private void mapDTOToEntity(PurchaseOrderDTO dto, PurchaseOrder po) {
+    // Map DTO to entity (package-private for the JMH mapping benchmarks)
+    void mapDTOToEntity(PurchaseOrderDTO dto, PurchaseOrder po) {
         po.setEventid(dto.getEventid());
         po.setEventname(dto.getEventname());
         po.setVendorid(dto.getVendorid());
@@ -232,8 +527,8 @@ public class PurchaseOrderService {
       
         po.setCdsid(dto.getCdsid());
         po.setOrderdate(dto.getOrderdate());
-        po.setOrderamountINR(dto.getOrderamountINR());
-        po.setOrderamountdollar(dto.getOrderamountdollar());
+        po.setOrderamountINR(Money.fromMajor(dto.getOrderamountINR()));
+        po.setOrderamountdollar(Money.fromMajor(dto.getOrderamountdollar()));
         po.setPO_status(dto.getPO_status());
 
         if (dto.getPrid() != null) {
@@ -0,0 +1,48 @@
+package com.example.purchase.purchaserequest;
+
+import com.example.purchase.common.IntBloomFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+// In-process Bloom filter of every event ID used by a purchase request.
+// Lets createPurchaseRequest skip the DB for the common "definitely new" case;
+// the unique constraint on eventid stays the source of truth.
+@Component
+public class EventIdFilter {
+
+    private static final int EXPECTED_EVENT_IDS = 1_000_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Autowired
+    private PurchaseRequestRepository purchaseRequestRepository;
+
+    private final IntBloomFilter filter = new IntBloomFilter(EXPECTED_EVENT_IDS, FALSE_POSITIVE_RATE);
+
+    private volatile boolean ready = false;
+
+    // Load existing event IDs once the application is up
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        try (Stream<Integer> eventIds = purchaseRequestRepository.streamAllEventids()) {
+            eventIds.forEach(filter::put);
+        }
+        ready = true;
+    }
+
+    // False only when the event ID has certainly never been used (and the filter is warmed up)
+    public boolean mightContain(Integer eventid) {
+        return !ready || filter.mightContain(eventid);
+    }
+
+    public void add(Integer eventid) {
+        if (eventid != null) {
+            filter.put(eventid);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.purchase.purchaserequest;
 
+import com.example.purchase.common.Money;
 import com.example.purchase.negotiation.Negotiation;
 import com.example.purchase.purchaseorder.PurchaseOrder;
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -8,9 +9,18 @@ import jakarta.persistence.*;
 import java.util.Date;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_purchase_request_eventid", columnNames = "eventid"),
+        indexes = {
+                @Index(name = "idx_pr_vendor_status", columnList = "vendorid, prstatus"),
+                @Index(name = "idx_pr_cdsid_requestdate", columnList = "CDSID, requestdate"),
+                @Index(name = "idx_pr_status", columnList = "prstatus"),
+                @Index(name = "idx_pr_requestdate", columnList = "requestdate"),
+                @Index(name = "idx_pr_allocatedamount", columnList = "allocatedamount_minor")
+        })
 public class PurchaseRequest {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "purchase_request_seq")
+    @SequenceGenerator(name = "purchase_request_seq", sequenceName = "purchase_request_seq", allocationSize = 50)
     private Integer prid;
 
     private Integer eventid; // foreign key from event table, one to one mapping
@@ -28,7 +38,9 @@ public class PurchaseRequest {
     private String cdsid; // who generated the PR
 
     private Date requestdate;
-    private Double allocatedamount;
+    // Minor units (paise); see Money
+    @Column(name = "allocatedamount_minor")
+    private Long allocatedamount;
 
     @Enumerated(EnumType.STRING)
     private Status prstatus;
@@ -41,12 +53,17 @@ public class PurchaseRequest {
     @JsonIgnore
     private Negotiation negotiation;
 
+    // Optimistic lock: concurrent writers of the same row conflict at flush instead of overwriting
+    @Version
+    @Column(name = "VERSION")
+    private Long version;
+
     public PurchaseRequest() {
     }
 
     public PurchaseRequest(Integer prid, Integer eventid, String eventname, Integer vendorid,
             String vendorname,String cdsid, Date requestdate,
-            Double allocatedamount, Status prstatus, PurchaseOrder purchaseOrder,
+            Money allocatedamount, Status prstatus, PurchaseOrder purchaseOrder,
             Negotiation negotiation) {
         this.prid = prid;
         this.eventid = eventid;
@@ -56,7 +73,7 @@ public class PurchaseRequest {
        
         this.cdsid = cdsid;
         this.requestdate = requestdate;
-        this.allocatedamount = allocatedamount;
+        this.allocatedamount = Money.minorOf(allocatedamount);
         this.prstatus = prstatus;
         this.purchaseOrder = purchaseOrder;
         this.negotiation = negotiation;
@@ -118,12 +135,12 @@ public class PurchaseRequest {
         this.requestdate = requestdate;
     }
 
-    public Double getAllocatedamount() {
-        return allocatedamount;
+    public Money getAllocatedamount() {
+        return Money.fromMinor(allocatedamount);
     }
 
-    public void setAllocatedamount(Double allocatedamount) {
-        this.allocatedamount = allocatedamount;
+    public void setAllocatedamount(Money allocatedamount) {
+        this.allocatedamount = Money.minorOf(allocatedamount);
     }
 
     public Status getPrstatus() {
@@ -149,4 +166,12 @@ public class PurchaseRequest {
     public void setNegotiation(Negotiation negotiation) {
         this.negotiation = negotiation;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
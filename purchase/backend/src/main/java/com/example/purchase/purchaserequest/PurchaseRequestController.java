@@ -1,13 +1,21 @@
 package com.example.purchase.purchaserequest;
 
+import com.example.purchase.common.BulkResult;
+import com.example.purchase.common.BulkStatusRequest;
+import com.example.purchase.common.CursorPage;
+import com.example.purchase.common.ExportFormat;
+import com.example.purchase.common.SearchRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Date;
 import java.util.List;
@@ -68,6 +76,12 @@ public class PurchaseRequestController {
         return ResponseEntity.ok(purchaseRequestService.getPurchaseRequestsByYear(year));
     }
 
+    @GetMapping("/search")
+    @Operation(summary = "Search purchase requests by status (PENDING, APPROVED, REJECTED), vendor, event, cdsid, names, date and amount range")
+    public ResponseEntity<CursorPage<PurchaseRequestDTO>> searchPurchaseRequests(@ParameterObject SearchRequest request) {
+        return ResponseEntity.ok(purchaseRequestService.searchPurchaseRequests(request));
+    }
+
     @GetMapping("/filter")
     @Operation(summary = "Get purchase requests by date range")
     public ResponseEntity<List<PurchaseRequestDTO>> getPurchaseRequestsByDateRange(
@@ -90,12 +104,138 @@ public class PurchaseRequestController {
         return ResponseEntity.ok(purchaseRequestService.getApprovedPurchaseRequests());
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "Export all purchase requests as NDJSON or CSV (streamed)")
+    public ResponseEntity<StreamingResponseBody> exportPurchaseRequests(
+            @RequestParam(defaultValue = "ndjson") @Parameter(description = "Format (ndjson, csv)") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = out -> purchaseRequestService.exportPurchaseRequests(out, exportFormat);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"purchase-requests." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    // ============================================
+    // Keyset-paginated variants (selected with ?size=)
+    // ============================================
+
+    @GetMapping(params = "size")
+    @Operation(summary = "Get purchase requests page")
+    public ResponseEntity<CursorPage<PurchaseRequestDTO>> getPurchaseRequestsPage(
+            @RequestParam @Parameter(description = "Page size (max 500)") int size,
+            @RequestParam(required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Include total row count") boolean withTotal) {
+        return ResponseEntity.ok(purchaseRequestService.getPurchaseRequestsPage(cursor, size, withTotal));
+    }
+
+    @GetMapping(value = "/status/{status}", params = "size")
+    @Operation(summary = "Get purchase requests page by status")
+    public ResponseEntity<CursorPage<PurchaseRequestDTO>> getPurchaseRequestsPageByStatus(
+            @PathVariable @Parameter(description = "Status (PENDING, APPROVED, REJECTED)") String status,
+            @RequestParam @Parameter(description = "Page size (max 500)") int size,
+            @RequestParam(required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Include total row count") boolean withTotal) {
+        return ResponseEntity.ok(purchaseRequestService.getPurchaseRequestsPageByStatus(Status.valueOf(status), cursor, size, withTotal));
+    }
+
+    @GetMapping(value = "/vendor/{vendorid}", params = "size")
+    @Operation(summary = "Get purchase requests page by vendor ID")
+    public ResponseEntity<CursorPage<PurchaseRequestDTO>> getPurchaseRequestsPageByVendor(
+            @PathVariable @Parameter(description = "Vendor ID") Integer vendorid,
+            @RequestParam @Parameter(description = "Page size (max 500)") int size,
+            @RequestParam(required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Include total row count") boolean withTotal) {
+        return ResponseEntity.ok(purchaseRequestService.getPurchaseRequestsPageByVendor(vendorid, cursor, size, withTotal));
+    }
+
+    @GetMapping(value = "/event/{eventid}", params = "size")
+    @Operation(summary = "Get purchase requests page by event ID")
+    public ResponseEntity<CursorPage<PurchaseRequestDTO>> getPurchaseRequestsPageByEvent(
+            @PathVariable @Parameter(description = "Event ID") Integer eventid,
+            @RequestParam @Parameter(description = "Page size (max 500)") int size,
+            @RequestParam(required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Include total row count") boolean withTotal) {
+        return ResponseEntity.ok(purchaseRequestService.getPurchaseRequestsPageByEvent(eventid, cursor, size, withTotal));
+    }
+
+    @GetMapping(value = "/cdsid/{cdsid}", params = "size")
+    @Operation(summary = "Get purchase requests page by CDSID")
+    public ResponseEntity<CursorPage<PurchaseRequestDTO>> getPurchaseRequestsPageByCdsid(
+            @PathVariable @Parameter(description = "CDSID") String cdsid,
+            @RequestParam @Parameter(description = "Page size (max 500)") int size,
+            @RequestParam(required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Include total row count") boolean withTotal) {
+        return ResponseEntity.ok(purchaseRequestService.getPurchaseRequestsPageByCdsid(cdsid, cursor, size, withTotal));
+    }
+
+    @GetMapping(value = "/year/{year}", params = "size")
+    @Operation(summary = "Get purchase requests page by year")
+    public ResponseEntity<CursorPage<PurchaseRequestDTO>> getPurchaseRequestsPageByYear(
+            @PathVariable @Parameter(description = "Year (e.g., 2024)") int year,
+            @RequestParam @Parameter(description = "Page size (max 500)") int size,
+            @RequestParam(required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Include total row count") boolean withTotal) {
+        return ResponseEntity.ok(purchaseRequestService.getPurchaseRequestsPageByYear(year, cursor, size, withTotal));
+    }
+
+    @GetMapping(value = "/filter", params = "size")
+    @Operation(summary = "Get purchase requests page by date range")
+    public ResponseEntity<CursorPage<PurchaseRequestDTO>> getPurchaseRequestsPageByDateRange(
+            @RequestParam @Parameter(description = "Start date (yyyy-MM-dd)")
+            @DateTimeFormat(pattern = "yyyy-MM-dd") Date fromDate,
+            @RequestParam @Parameter(description = "End date (yyyy-MM-dd)")
+            @DateTimeFormat(pattern = "yyyy-MM-dd") Date toDate,
+            @RequestParam @Parameter(description = "Page size (max 500)") int size,
+            @RequestParam(required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Include total row count") boolean withTotal) {
+        return ResponseEntity.ok(purchaseRequestService.getPurchaseRequestsPageByDateRange(fromDate, toDate, cursor, size, withTotal));
+    }
+
+    @GetMapping(value = "/pending", params = "size")
+    @Operation(summary = "Get pending purchase requests page")
+    public ResponseEntity<CursorPage<PurchaseRequestDTO>> getPendingPurchaseRequestsPage(
+            @RequestParam @Parameter(description = "Page size (max 500)") int size,
+            @RequestParam(required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Include total row count") boolean withTotal) {
+        return ResponseEntity.ok(purchaseRequestService.getPurchaseRequestsPageByStatus(Status.PENDING, cursor, size, withTotal));
+    }
+
+    @GetMapping(value = "/approved", params = "size")
+    @Operation(summary = "Get approved purchase requests page")
+    public ResponseEntity<CursorPage<PurchaseRequestDTO>> getApprovedPurchaseRequestsPage(
+            @RequestParam @Parameter(description = "Page size (max 500)") int size,
+            @RequestParam(required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Include total row count") boolean withTotal) {
+        return ResponseEntity.ok(purchaseRequestService.getPurchaseRequestsPageByStatus(Status.APPROVED, cursor, size, withTotal));
+    }
+
     @PostMapping
     @Operation(summary = "Create new purchase request")
     public ResponseEntity<PurchaseRequestDTO> createPurchaseRequest(@RequestBody PurchaseRequestDTO dto) {
         return new ResponseEntity<>(purchaseRequestService.createPurchaseRequest(dto), HttpStatus.CREATED);
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "Create purchase requests in bulk (batched, per-row results)")
+    public ResponseEntity<BulkResult> createPurchaseRequests(@RequestBody List<PurchaseRequestDTO> dtos) {
+        BulkResult result = purchaseRequestService.createPurchaseRequests(dtos);
+        return ResponseEntity.status(result.responseStatus()).body(result);
+    }
+
+    @PutMapping("/bulk/approve")
+    @Operation(summary = "Approve purchase requests in bulk by ids and/or filter")
+    public ResponseEntity<BulkResult> approvePurchaseRequests(@RequestBody BulkStatusRequest request) {
+        return ResponseEntity.ok(purchaseRequestService.approvePurchaseRequests(request));
+    }
+
+    @PutMapping("/bulk/reject")
+    @Operation(summary = "Reject purchase requests in bulk by ids and/or filter")
+    public ResponseEntity<BulkResult> rejectPurchaseRequests(@RequestBody BulkStatusRequest request) {
+        return ResponseEntity.ok(purchaseRequestService.rejectPurchaseRequests(request));
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update purchase request")
     public ResponseEntity<PurchaseRequestDTO> updatePurchaseRequest(
@@ -1,5 +1,7 @@
 package com.example.purchase.purchaserequest;
 
+import com.example.purchase.common.Money;
+
 import java.util.Date;
 
 public class PurchaseRequestDTO {
@@ -17,9 +19,10 @@ public class PurchaseRequestDTO {
     public PurchaseRequestDTO() {
     }
 
+    // Projection constructor: the amount arrives in minor units, as stored
     public PurchaseRequestDTO(Integer prid, Integer eventid, String eventname, Integer vendorid,
             String vendorname,  String cdsid, Date requestdate,
-            Double allocatedamount, String prstatus) {
+            Long allocatedamount, String prstatus) {
         this.prid = prid;
         this.eventid = eventid;
         this.eventname = eventname;
@@ -28,7 +31,7 @@ public class PurchaseRequestDTO {
         
         this.cdsid = cdsid;
         this.requestdate = requestdate;
-        this.allocatedamount = allocatedamount;
+        this.allocatedamount = Money.majorOf(allocatedamount);
         this.prstatus = prstatus;
     }
 
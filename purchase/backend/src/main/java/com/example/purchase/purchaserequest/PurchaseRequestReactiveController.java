@@ -0,0 +1,58 @@
+package com.example.purchase.purchaserequest;
+
+import com.example.purchase.common.DateRanges;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.util.Date;
+
+// Streaming variants of the purchase requests query endpoints. With Accept: application/x-ndjson (the default)
+// each row is written and flushed as it is read, one JSON object per line, and the next row is only
+// requested once the previous write completed; the request thread is released when the query starts.
+// Accept: application/json collects the same rows into an array.
+@RestController
+@RequestMapping(value = "/api/reactive/purchase-requests",
+        produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+@Tag(name = "Purchase Request Management (reactive reads)", description = "Streaming read APIs for purchase requests")
+public class PurchaseRequestReactiveController {
+
+    @Autowired
+    private PurchaseRequestReactiveRepository purchaseRequestReactiveRepository;
+
+    @GetMapping("/status/{status}")
+    @Operation(summary = "Stream purchase requests by status")
+    public Flux<PurchaseRequestDTO> getPurchaseRequestsByStatus(
+            @PathVariable @Parameter(description = "Status (PENDING, APPROVED, REJECTED)") String status) {
+        return purchaseRequestReactiveRepository.findByPrstatus(Status.valueOf(status));
+    }
+
+    @GetMapping("/vendor/{vendorid}")
+    @Operation(summary = "Stream purchase requests by vendor ID")
+    public Flux<PurchaseRequestDTO> getPurchaseRequestsByVendor(
+            @PathVariable @Parameter(description = "Vendor ID") Integer vendorid) {
+        return purchaseRequestReactiveRepository.findByVendorid(vendorid);
+    }
+
+    @GetMapping("/year/{year}")
+    @Operation(summary = "Stream purchase requests by year")
+    public Flux<PurchaseRequestDTO> getPurchaseRequestsByYear(
+            @PathVariable @Parameter(description = "Year (e.g., 2024)") int year) {
+        return purchaseRequestReactiveRepository.findByYearRange(DateRanges.startOfYear(year), DateRanges.startOfNextYear(year));
+    }
+
+    @GetMapping("/filter")
+    @Operation(summary = "Stream purchase requests by date range")
+    public Flux<PurchaseRequestDTO> getPurchaseRequestsByDateRange(
+            @RequestParam @Parameter(description = "Start date (yyyy-MM-dd)")
+            @DateTimeFormat(pattern = "yyyy-MM-dd") Date fromDate,
+            @RequestParam @Parameter(description = "End date (yyyy-MM-dd)")
+            @DateTimeFormat(pattern = "yyyy-MM-dd") Date toDate) {
+        return purchaseRequestReactiveRepository.findByDateRange(fromDate, toDate);
+    }
+}
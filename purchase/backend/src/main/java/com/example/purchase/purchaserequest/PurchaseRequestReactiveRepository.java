@@ -0,0 +1,68 @@
+package com.example.purchase.purchaserequest;
+
+import com.example.purchase.common.DateRanges;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+
+// Read-only R2DBC queries behind /api/reactive/purchase-requests. Same columns and predicates as the
+// JPQL DTO queries in PurchaseRequestRepository; rows are emitted as the subscriber requests them.
+@Repository
+public class PurchaseRequestReactiveRepository {
+
+    private static final String DTO_SELECT = "SELECT pr.prid, pr.eventid, pr.eventname, pr.vendorid, pr.vendorname, "
+            + "pr.cdsid, pr.requestdate, pr.allocatedamount_minor, pr.prstatus FROM purchase_request pr ";
+
+    @Autowired
+    private DatabaseClient reactiveDatabaseClient;
+
+    public Flux<PurchaseRequestDTO> findByPrstatus(Status status) {
+        return reactiveDatabaseClient.sql(DTO_SELECT + "WHERE pr.prstatus = :status ORDER BY pr.prid")
+                .bind("status", status.name())
+                .map((row, metadata) -> toDTO(row))
+                .all();
+    }
+
+    public Flux<PurchaseRequestDTO> findByVendorid(Integer vendorid) {
+        return reactiveDatabaseClient.sql(DTO_SELECT + "WHERE pr.vendorid = :vendorid ORDER BY pr.prid")
+                .bind("vendorid", vendorid)
+                .map((row, metadata) -> toDTO(row))
+                .all();
+    }
+
+    public Flux<PurchaseRequestDTO> findByYearRange(Date yearStart, Date nextYearStart) {
+        return reactiveDatabaseClient.sql(DTO_SELECT
+                        + "WHERE pr.requestdate >= :yearStart AND pr.requestdate < :nextYearStart ORDER BY pr.prid")
+                .bind("yearStart", DateRanges.toLocalDateTime(yearStart))
+                .bind("nextYearStart", DateRanges.toLocalDateTime(nextYearStart))
+                .map((row, metadata) -> toDTO(row))
+                .all();
+    }
+
+    public Flux<PurchaseRequestDTO> findByDateRange(Date startDate, Date endDate) {
+        return reactiveDatabaseClient.sql(DTO_SELECT
+                        + "WHERE pr.requestdate BETWEEN :startDate AND :endDate ORDER BY pr.prid")
+                .bind("startDate", DateRanges.toLocalDateTime(startDate))
+                .bind("endDate", DateRanges.toLocalDateTime(endDate))
+                .map((row, metadata) -> toDTO(row))
+                .all();
+    }
+
+    private static PurchaseRequestDTO toDTO(Row row) {
+        return new PurchaseRequestDTO(
+                row.get("prid", Integer.class),
+                row.get("eventid", Integer.class),
+                row.get("eventname", String.class),
+                row.get("vendorid", Integer.class),
+                row.get("vendorname", String.class),
+                row.get("cdsid", String.class),
+                DateRanges.toDate(row.get("requestdate", LocalDateTime.class)),
+                row.get("allocatedamount_minor", Long.class),
+                row.get("prstatus", String.class));
+    }
+}
@@ -1,45 +1,165 @@
 package com.example.purchase.purchaserequest;
 
+import com.example.purchase.common.IdStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PurchaseRequestRepository extends JpaRepository<PurchaseRequest, Integer> {
 
+    // DTO constructor expression: selects only DTO columns (and FK ids) without hydrating entities
+    String DTO_SELECT = "SELECT new com.example.purchase.purchaserequest.PurchaseRequestDTO("
+            + "pr.prid, pr.eventid, pr.eventname, pr.vendorid, pr.vendorname, pr.cdsid, pr.requestdate, "
+            + "pr.allocatedamount, CAST(pr.prstatus AS String)) "
+            + "FROM PurchaseRequest pr ";
+
+    @Query(DTO_SELECT + "ORDER BY pr.prid")
+    List<PurchaseRequestDTO> findAllDTOs();
+
+    @Query(DTO_SELECT + "WHERE pr.prid = :id")
+    Optional<PurchaseRequestDTO> findDTOById(@Param("id") Integer id);
+
     // Find by status
-    List<PurchaseRequest> findByPrstatus(Status status);
+    @Query(DTO_SELECT + "WHERE pr.prstatus = :status")
+    List<PurchaseRequestDTO> findByPrstatus(@Param("status") Status status);
 
     // Find by vendor id
-    List<PurchaseRequest> findByVendorid(Integer vendorid);
+    @Query(DTO_SELECT + "WHERE pr.vendorid = :vendorid")
+    List<PurchaseRequestDTO> findByVendorid(@Param("vendorid") Integer vendorid);
 
     // Find by event id
-    List<PurchaseRequest> findByEventid(Integer eventid);
+    @Query(DTO_SELECT + "WHERE pr.eventid = :eventid")
+    List<PurchaseRequestDTO> findByEventid(@Param("eventid") Integer eventid);
 
     // Find by cdsid (UPDATED)
-    List<PurchaseRequest> findByCdsid(String cdsid);
+    @Query(DTO_SELECT + "WHERE pr.cdsid = :cdsid")
+    List<PurchaseRequestDTO> findByCdsid(@Param("cdsid") String cdsid);
+
+    // Event ID existence check (backed by the unique index on eventid)
+    boolean existsByEventid(Integer eventid);
 
+    // All event IDs, used to warm up the in-process EventIdFilter
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT pr.eventid FROM PurchaseRequest pr WHERE pr.eventid IS NOT NULL")
+    Stream<Integer> streamAllEventids();
 
-    // Find by year
-    @Query("SELECT pr FROM PurchaseRequest pr WHERE YEAR(pr.requestdate) = :year")
-    List<PurchaseRequest> findByYear(@Param("year") int year);
+
+    // Find by year (half-open range so the date index is usable)
+    @Query(DTO_SELECT + "WHERE pr.requestdate >= :yearStart AND pr.requestdate < :nextYearStart")
+    List<PurchaseRequestDTO> findByYearRange(@Param("yearStart") Date yearStart, @Param("nextYearStart") Date nextYearStart);
 
     // Find by date range
-    @Query("SELECT pr FROM PurchaseRequest pr WHERE pr.requestdate BETWEEN :startDate AND :endDate")
-    List<PurchaseRequest> findByDateRange(@Param("startDate") Date startDate, @Param("endDate") Date endDate);
+    @Query(DTO_SELECT + "WHERE pr.requestdate BETWEEN :startDate AND :endDate")
+    List<PurchaseRequestDTO> findByDateRange(@Param("startDate") Date startDate, @Param("endDate") Date endDate);
 
     // Find pending requests
-    @Query("SELECT pr FROM PurchaseRequest pr WHERE pr.prstatus = 'PENDING'")
-    List<PurchaseRequest> findPendingRequests();
+    @Query(DTO_SELECT + "WHERE pr.prstatus = 'PENDING'")
+    List<PurchaseRequestDTO> findPendingRequests();
 
     // Find approved requests
-    @Query("SELECT pr FROM PurchaseRequest pr WHERE pr.prstatus = 'APPROVED'")
-    List<PurchaseRequest> findApprovedRequests();
+    @Query(DTO_SELECT + "WHERE pr.prstatus = 'APPROVED'")
+    List<PurchaseRequestDTO> findApprovedRequests();
+
+    // Find by allocated amount greater than (minor units)
+    List<PurchaseRequest> findByAllocatedamountGreaterThan(Long amount);
+
+    // ============================================
+    // Keyset pagination (id > :lastId ORDER BY id)
+    // ============================================
+
+    @Query(DTO_SELECT + "WHERE pr.prid > :lastId ORDER BY pr.prid")
+    List<PurchaseRequestDTO> findPage(@Param("lastId") Integer lastId, Pageable pageable);
+
+    @Query(DTO_SELECT + "WHERE pr.prstatus = :status AND pr.prid > :lastId ORDER BY pr.prid")
+    List<PurchaseRequestDTO> findPageByPrstatus(@Param("status") Status status, @Param("lastId") Integer lastId, Pageable pageable);
+
+    @Query(DTO_SELECT + "WHERE pr.vendorid = :vendorid AND pr.prid > :lastId ORDER BY pr.prid")
+    List<PurchaseRequestDTO> findPageByVendorid(@Param("vendorid") Integer vendorid, @Param("lastId") Integer lastId, Pageable pageable);
+
+    @Query(DTO_SELECT + "WHERE pr.eventid = :eventid AND pr.prid > :lastId ORDER BY pr.prid")
+    List<PurchaseRequestDTO> findPageByEventid(@Param("eventid") Integer eventid, @Param("lastId") Integer lastId, Pageable pageable);
+
+    @Query(DTO_SELECT + "WHERE pr.cdsid = :cdsid AND pr.prid > :lastId ORDER BY pr.prid")
+    List<PurchaseRequestDTO> findPageByCdsid(@Param("cdsid") String cdsid, @Param("lastId") Integer lastId, Pageable pageable);
+
+    @Query(DTO_SELECT + "WHERE pr.requestdate >= :yearStart AND pr.requestdate < :nextYearStart AND pr.prid > :lastId ORDER BY pr.prid")
+    List<PurchaseRequestDTO> findPageByYearRange(@Param("yearStart") Date yearStart, @Param("nextYearStart") Date nextYearStart,
+            @Param("lastId") Integer lastId, Pageable pageable);
+
+    @Query(DTO_SELECT + "WHERE pr.requestdate BETWEEN :startDate AND :endDate AND pr.prid > :lastId ORDER BY pr.prid")
+    List<PurchaseRequestDTO> findPageByDateRange(@Param("startDate") Date startDate, @Param("endDate") Date endDate,
+            @Param("lastId") Integer lastId, Pageable pageable);
+
+    long countByPrstatus(Status status);
+
+    long countByVendorid(Integer vendorid);
+
+    long countByEventid(Integer eventid);
+
+    long countByCdsid(String cdsid);
+
+    @Query("SELECT COUNT(pr) FROM PurchaseRequest pr WHERE pr.requestdate >= :yearStart AND pr.requestdate < :nextYearStart")
+    long countByYearRange(@Param("yearStart") Date yearStart, @Param("nextYearStart") Date nextYearStart);
+
+    @Query("SELECT COUNT(pr) FROM PurchaseRequest pr WHERE pr.requestdate BETWEEN :startDate AND :endDate")
+    long countByDateRange(@Param("startDate") Date startDate, @Param("endDate") Date endDate);
+
+    // ============================================
+    // Streaming export (server-side cursor over DTO rows)
+    // ============================================
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(DTO_SELECT + "ORDER BY pr.prid")
+    Stream<PurchaseRequestDTO> streamAll();
+
+    // ============================================
+    // Bulk status transitions (set-based)
+    // ============================================
+
+    String BULK_FILTER = "(:vendorid IS NULL OR pr.vendorid = :vendorid) "
+            + "AND (:eventid IS NULL OR pr.eventid = :eventid) "
+            + "AND (:cdsid IS NULL OR pr.cdsid = :cdsid) "
+            + "AND (:status IS NULL OR pr.prstatus = :status)";
+
+    @Query("SELECT new com.example.purchase.common.IdStatus(pr.prid, CAST(pr.prstatus AS String)) FROM PurchaseRequest pr "
+            + "WHERE pr.prid IN :ids AND " + BULK_FILTER)
+    List<IdStatus> findIdStatusByIds(@Param("ids") Collection<Integer> ids, @Param("vendorid") Integer vendorid,
+            @Param("eventid") Integer eventid, @Param("cdsid") String cdsid, @Param("status") Status status);
+
+    @Query("SELECT new com.example.purchase.common.IdStatus(pr.prid, CAST(pr.prstatus AS String)) FROM PurchaseRequest pr "
+            + "WHERE " + BULK_FILTER + " ORDER BY pr.prid")
+    List<IdStatus> findIdStatusByFilter(@Param("vendorid") Integer vendorid, @Param("eventid") Integer eventid,
+            @Param("cdsid") String cdsid, @Param("status") Status status, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PurchaseRequest pr SET pr.prstatus = :status, pr.version = pr.version + 1 WHERE pr.prid IN :ids")
+    int updateStatusByIds(@Param("ids") Collection<Integer> ids, @Param("status") Status status);
+
+    // Row state (status, version) read back after a bulk UPDATE, for the change feed
+    @Query("SELECT new com.example.purchase.common.IdStatus(pr.prid, CAST(pr.prstatus AS String), pr.version) "
+            + "FROM PurchaseRequest pr WHERE pr.prid IN :ids")
+    List<IdStatus> findStateByIds(@Param("ids") Collection<Integer> ids);
+
+    @Query("SELECT new com.example.purchase.common.IdStatus(pr.prid, CAST(pr.prstatus AS String), pr.version) "
+            + "FROM PurchaseOrder po JOIN po.purchaserequest pr WHERE po.PO_id IN :poIds")
+    List<IdStatus> findStateForPurchaseOrders(@Param("poIds") Collection<Integer> poIds);
 
-    // Find by allocated amount greater than
-    List<PurchaseRequest> findByAllocatedamountGreaterThan(Double amount);
+    // Cascade target for bulk PO rejection: the purchase requests behind the given purchase orders
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PurchaseRequest pr SET pr.prstatus = :status, pr.version = pr.version + 1 WHERE pr.prid IN "
+            + "(SELECT po.purchaserequest.prid FROM PurchaseOrder po WHERE po.PO_id IN :poIds)")
+    int updateStatusForPurchaseOrders(@Param("poIds") Collection<Integer> poIds, @Param("status") Status status);
 }
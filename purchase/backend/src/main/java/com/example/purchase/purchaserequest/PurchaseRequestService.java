@@ -1,12 +1,43 @@
 package com.example.purchase.purchaserequest;
 
+import com.example.purchase.cache.EntityCacheInvalidator;
+import com.example.purchase.changefeed.ChangeEvent;
+import com.example.purchase.changefeed.ChangeFeed;
+import com.example.purchase.common.BulkInsertTemplate;
+import com.example.purchase.common.BulkResult;
+import com.example.purchase.common.BulkStatusRequest;
+import com.example.purchase.common.BulkTransitions;
+import com.example.purchase.common.CursorPage;
+import com.example.purchase.common.DateRanges;
+import com.example.purchase.common.ExportFormat;
+import com.example.purchase.common.ExportWriter;
+import com.example.purchase.common.OptimisticRetryTemplate;
+import com.example.purchase.common.IdStatus;
+import com.example.purchase.common.Money;
+import com.example.purchase.common.SearchFields;
+import com.example.purchase.common.SearchRequest;
+import com.example.purchase.common.SearchTemplate;
+import com.example.purchase.config.CacheConfig;
+import com.example.purchase.metrics.BusinessMetrics;
+import com.example.purchase.exception.DuplicateResourceException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -15,84 +46,186 @@ public class PurchaseRequestService {
     @Autowired
     private PurchaseRequestRepository purchaseRequestRepository;
 
+    @Autowired
+    private EventIdFilter eventIdFilter;
+
+    @Autowired
+    private BulkInsertTemplate bulkInsertTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityCacheInvalidator cacheInvalidator;
+
+    @Autowired
+    private OptimisticRetryTemplate optimisticRetry;
+
+    @Autowired
+    private SearchTemplate searchTemplate;
+
+    @Autowired
+    private BusinessMetrics businessMetrics;
+
+    @Autowired
+    private ChangeFeed changeFeed;
+
+    private static final String EVENT_ID_CONSTRAINT = "UK_PURCHASE_REQUEST_EVENTID";
+    private static final String EVENT_ID_EXISTS_MESSAGE = "Event ID already exists. Please use a different Event ID.";
+
+    // Search criteria mapping: status prstatus, date requestdate, amount allocatedamount
+    private static final SearchFields<PurchaseRequestDTO> SEARCH_FIELDS = new SearchFields<>(PurchaseRequestRepository.class,
+            PurchaseRequestDTO.class, PurchaseRequestRepository.DTO_SELECT, "PurchaseRequest", "pr", "prid", "prstatus", "requestdate", "allocatedamount",
+            Status::valueOf, PurchaseRequestDTO::getPrid, PurchaseRequestDTO::getRequestdate, PurchaseRequestDTO::getAllocatedamount);
+
+    private static final String[] EXPORT_HEADERS = {
+            "prid", "eventid", "eventname", "vendorid", "vendorname", "cdsid", "requestdate",
+            "allocatedamount", "prstatus"
+    };
+
     // Get all purchase requests
+    @Transactional(readOnly = true)
     public List<PurchaseRequestDTO> getAllPurchaseRequests() {
-        return purchaseRequestRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return purchaseRequestRepository.findAllDTOs();
     }
 
-    // Get purchase request by id
+    // Get purchase request by id (read-through cache; write paths evict)
+    @Cacheable(cacheNames = CacheConfig.PURCHASE_REQUESTS, key = "#id", sync = true)
+    @Transactional(readOnly = true)
     public PurchaseRequestDTO getPurchaseRequestById(Integer id) {
-        PurchaseRequest pr = purchaseRequestRepository.findById(id)
+        return purchaseRequestRepository.findDTOById(id)
                 .orElseThrow(() -> new RuntimeException("Purchase Request not found with id: " + id));
-        return convertToDTO(pr);
     }
 
     // Get purchase requests by status
+    @Transactional(readOnly = true)
     public List<PurchaseRequestDTO> getPurchaseRequestsByStatus(Status status) {
-        return purchaseRequestRepository.findByPrstatus(status).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return purchaseRequestRepository.findByPrstatus(status);
     }
 
     // Get purchase requests by vendor
+    @Transactional(readOnly = true)
     public List<PurchaseRequestDTO> getPurchaseRequestsByVendor(Integer vendorid) {
-        return purchaseRequestRepository.findByVendorid(vendorid).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return purchaseRequestRepository.findByVendorid(vendorid);
     }
 
     // Get purchase requests by event
+    @Transactional(readOnly = true)
     public List<PurchaseRequestDTO> getPurchaseRequestsByEvent(Integer eventid) {
-        return purchaseRequestRepository.findByEventid(eventid).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return purchaseRequestRepository.findByEventid(eventid);
     }
 
     // Get purchase requests by cdsid (UPDATED)
+    @Transactional(readOnly = true)
     public List<PurchaseRequestDTO> getPurchaseRequestsByCdsid(String cdsid) {
-        return purchaseRequestRepository.findByCdsid(cdsid).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return purchaseRequestRepository.findByCdsid(cdsid);
     }
 
     // Get purchase requests by year
+    @Transactional(readOnly = true)
     public List<PurchaseRequestDTO> getPurchaseRequestsByYear(int year) {
-        return purchaseRequestRepository.findByYear(year).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return purchaseRequestRepository.findByYearRange(DateRanges.startOfYear(year), DateRanges.startOfNextYear(year));
+    }
+
+    // Search by any combination of criteria: one sorted, keyset-paginated query
+    @Transactional(readOnly = true)
+    public CursorPage<PurchaseRequestDTO> searchPurchaseRequests(SearchRequest request) {
+        return searchTemplate.search(SEARCH_FIELDS, request);
     }
 
     // Get purchase requests by date range
+    @Transactional(readOnly = true)
     public List<PurchaseRequestDTO> getPurchaseRequestsByDateRange(Date startDate, Date endDate) {
-        return purchaseRequestRepository.findByDateRange(startDate, endDate).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return purchaseRequestRepository.findByDateRange(startDate, endDate);
     }
 
     // Get pending purchase requests
+    @Transactional(readOnly = true)
     public List<PurchaseRequestDTO> getPendingPurchaseRequests() {
-        return purchaseRequestRepository.findPendingRequests().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return purchaseRequestRepository.findPendingRequests();
     }
 
     // Get approved purchase requests
+    @Transactional(readOnly = true)
     public List<PurchaseRequestDTO> getApprovedPurchaseRequests() {
-        return purchaseRequestRepository.findApprovedRequests().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return purchaseRequestRepository.findApprovedRequests();
     }
 
-    // Check if event ID already exists
-    private void validateEventIdUniqueness(Integer eventid) {
-        List<PurchaseRequest> existingEvents = purchaseRequestRepository.findAll().stream()
-                .filter(pr -> pr.getEventid().equals(eventid))
-                .collect(Collectors.toList());
+    // ============================================
+    // Keyset-paginated reads
+    // ============================================
+
+    // Get page of all purchase requests
+    @Transactional(readOnly = true)
+    public CursorPage<PurchaseRequestDTO> getPurchaseRequestsPage(String cursor, int size, boolean withTotal) {
+        List<PurchaseRequestDTO> rows = purchaseRequestRepository.findPage(
+                CursorPage.decodeCursor(cursor), CursorPage.limit(size));
+        return toPage(rows, size, withTotal ? purchaseRequestRepository.count() : null);
+    }
 
-        if (!existingEvents.isEmpty()) {
-            throw new RuntimeException("Event ID already exists. Please use a different Event ID.");
+    // Get page of purchase requests by status
+    @Transactional(readOnly = true)
+    public CursorPage<PurchaseRequestDTO> getPurchaseRequestsPageByStatus(Status status, String cursor, int size,
+            boolean withTotal) {
+        List<PurchaseRequestDTO> rows = purchaseRequestRepository.findPageByPrstatus(
+                status, CursorPage.decodeCursor(cursor), CursorPage.limit(size));
+        return toPage(rows, size, withTotal ? purchaseRequestRepository.countByPrstatus(status) : null);
+    }
+
+    // Get page of purchase requests by vendor
+    @Transactional(readOnly = true)
+    public CursorPage<PurchaseRequestDTO> getPurchaseRequestsPageByVendor(Integer vendorid, String cursor, int size,
+            boolean withTotal) {
+        List<PurchaseRequestDTO> rows = purchaseRequestRepository.findPageByVendorid(
+                vendorid, CursorPage.decodeCursor(cursor), CursorPage.limit(size));
+        return toPage(rows, size, withTotal ? purchaseRequestRepository.countByVendorid(vendorid) : null);
+    }
+
+    // Get page of purchase requests by event
+    @Transactional(readOnly = true)
+    public CursorPage<PurchaseRequestDTO> getPurchaseRequestsPageByEvent(Integer eventid, String cursor, int size,
+            boolean withTotal) {
+        List<PurchaseRequestDTO> rows = purchaseRequestRepository.findPageByEventid(
+                eventid, CursorPage.decodeCursor(cursor), CursorPage.limit(size));
+        return toPage(rows, size, withTotal ? purchaseRequestRepository.countByEventid(eventid) : null);
+    }
+
+    // Get page of purchase requests by cdsid
+    @Transactional(readOnly = true)
+    public CursorPage<PurchaseRequestDTO> getPurchaseRequestsPageByCdsid(String cdsid, String cursor, int size,
+            boolean withTotal) {
+        List<PurchaseRequestDTO> rows = purchaseRequestRepository.findPageByCdsid(
+                cdsid, CursorPage.decodeCursor(cursor), CursorPage.limit(size));
+        return toPage(rows, size, withTotal ? purchaseRequestRepository.countByCdsid(cdsid) : null);
+    }
+
+    // Get page of purchase requests by year
+    @Transactional(readOnly = true)
+    public CursorPage<PurchaseRequestDTO> getPurchaseRequestsPageByYear(int year, String cursor, int size,
+            boolean withTotal) {
+        Date yearStart = DateRanges.startOfYear(year);
+        Date nextYearStart = DateRanges.startOfNextYear(year);
+        List<PurchaseRequestDTO> rows = purchaseRequestRepository.findPageByYearRange(
+                yearStart, nextYearStart, CursorPage.decodeCursor(cursor), CursorPage.limit(size));
+        return toPage(rows, size, withTotal ? purchaseRequestRepository.countByYearRange(yearStart, nextYearStart) : null);
+    }
+
+    // Get page of purchase requests by date range
+    @Transactional(readOnly = true)
+    public CursorPage<PurchaseRequestDTO> getPurchaseRequestsPageByDateRange(Date startDate, Date endDate,
+            String cursor, int size, boolean withTotal) {
+        List<PurchaseRequestDTO> rows = purchaseRequestRepository.findPageByDateRange(
+                startDate, endDate, CursorPage.decodeCursor(cursor), CursorPage.limit(size));
+        return toPage(rows, size, withTotal ? purchaseRequestRepository.countByDateRange(startDate, endDate) : null);
+    }
+
+    // Check if event ID already exists: Bloom filter first, indexed existence query only on a possible hit
+    private void validateEventIdUniqueness(Integer eventid) {
+        if (eventid == null || !eventIdFilter.mightContain(eventid)) {
+            return;
+        }
+        if (purchaseRequestRepository.existsByEventid(eventid)) {
+            throw new DuplicateResourceException(EVENT_ID_EXISTS_MESSAGE);
         }
     }
 
@@ -102,7 +235,9 @@ public class PurchaseRequestService {
 
         PurchaseRequest pr = new PurchaseRequest();
         mapDTOToEntity(dto, pr);
-        PurchaseRequest saved = purchaseRequestRepository.save(pr);
+        PurchaseRequest saved = saveEnforcingUniqueEventId(pr);
+        cacheInvalidator.collectionChanged(CacheConfig.PURCHASE_REQUESTS);
+        businessMetrics.purchaseRequestsCreated(1);
         return convertToDTO(saved);
     }
 
@@ -111,38 +246,161 @@ public class PurchaseRequestService {
         PurchaseRequest pr = purchaseRequestRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Purchase Request not found with id: " + id));
         mapDTOToEntity(dto, pr);
-        PurchaseRequest updated = purchaseRequestRepository.save(pr);
+        PurchaseRequest updated = saveEnforcingUniqueEventId(pr);
+        cacheInvalidator.evictPurchaseRequest(id);
         return convertToDTO(updated);
     }
 
-    // Approve purchase request
+    // Bulk create: chunked, JDBC-batched inserts with per-row validation results
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkResult createPurchaseRequests(List<PurchaseRequestDTO> dtos) {
+        Set<Integer> batchEventIds = new HashSet<>();
+        return bulkInsertTemplate.insert(dtos, dto -> {
+            validateRequiredFields(dto);
+            if (dto.getEventid() != null && !batchEventIds.add(dto.getEventid())) {
+                throw new DuplicateResourceException("Duplicate Event ID " + dto.getEventid() + " within request");
+            }
+            validateEventIdUniqueness(dto.getEventid());
+            PurchaseRequest pr = new PurchaseRequest();
+            mapDTOToEntity(dto, pr);
+            eventIdFilter.add(pr.getEventid());
+            return pr;
+        }, PurchaseRequest::getPrid, persisted -> {
+            cacheInvalidator.collectionChanged(CacheConfig.PURCHASE_REQUESTS);
+            businessMetrics.purchaseRequestsCreated(persisted.size());
+        });
+    }
+
+    // Reject rows that would fail NOT NULL constraints before they reach the batch
+    private void validateRequiredFields(PurchaseRequestDTO dto) {
+        if (dto.getCdsid() == null || dto.getCdsid().isBlank()) {
+            throw new IllegalArgumentException("cdsid is required");
+        }
+    }
+
+    // Save and flush so a concurrent duplicate event ID hits the unique index here, not at commit
+    private PurchaseRequest saveEnforcingUniqueEventId(PurchaseRequest pr) {
+        PurchaseRequest saved;
+        try {
+            saved = purchaseRequestRepository.saveAndFlush(pr);
+        } catch (DataIntegrityViolationException e) {
+            String cause = String.valueOf(e.getMostSpecificCause().getMessage()).toUpperCase();
+            if (cause.contains(EVENT_ID_CONSTRAINT)) {
+                throw new DuplicateResourceException(EVENT_ID_EXISTS_MESSAGE);
+            }
+            throw e;
+        }
+        eventIdFilter.add(saved.getEventid());
+        return saved;
+    }
+
+    // Approve purchase request (retried on concurrent modification)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PurchaseRequestDTO approvePurchaseRequest(Integer id) {
+        return optimisticRetry.execute(() -> applyApprovePurchaseRequest(id));
+    }
+
+    private PurchaseRequestDTO applyApprovePurchaseRequest(Integer id) {
         PurchaseRequest pr = purchaseRequestRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Purchase Request not found with id: " + id));
         pr.setPrstatus(Status.APPROVED);
         PurchaseRequest updated = purchaseRequestRepository.save(pr);
+        cacheInvalidator.evictPurchaseRequest(id);
         return convertToDTO(updated);
     }
 
-    // Reject purchase request
+    // Reject purchase request (retried on concurrent modification)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PurchaseRequestDTO rejectPurchaseRequest(Integer id) {
+        return optimisticRetry.execute(() -> applyRejectPurchaseRequest(id));
+    }
+
+    private PurchaseRequestDTO applyRejectPurchaseRequest(Integer id) {
         PurchaseRequest pr = purchaseRequestRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Purchase Request not found with id: " + id));
         pr.setPrstatus(Status.REJECTED);
         PurchaseRequest updated = purchaseRequestRepository.save(pr);
+        cacheInvalidator.evictPurchaseRequest(id);
         return convertToDTO(updated);
     }
 
+    // Bulk approve purchase requests
+    public BulkResult approvePurchaseRequests(BulkStatusRequest request) {
+        return transitionPurchaseRequests(request, Status.APPROVED);
+    }
+
+    // Bulk reject purchase requests
+    public BulkResult rejectPurchaseRequests(BulkStatusRequest request) {
+        return transitionPurchaseRequests(request, Status.REJECTED);
+    }
+
+    // Set-based status transition: resolve matching ids, then one UPDATE per slice of changed rows
+    private BulkResult transitionPurchaseRequests(BulkStatusRequest request, Status target) {
+        request.validate();
+        Status status = request.getStatus() != null ? Status.valueOf(request.getStatus()) : null;
+        List<IdStatus> matched = new ArrayList<>();
+        if (request.hasIds()) {
+            BulkTransitions.inSlices(request.getIds(), slice -> matched.addAll(purchaseRequestRepository.findIdStatusByIds(
+                    slice, request.getVendorid(), request.getEventid(), request.getCdsid(), status)));
+        } else {
+            matched.addAll(purchaseRequestRepository.findIdStatusByFilter(request.getVendorid(), request.getEventid(),
+                    request.getCdsid(), status, PageRequest.of(0, BulkStatusRequest.MAX_ROWS + 1)));
+            if (matched.size() > BulkStatusRequest.MAX_ROWS) {
+                throw new IllegalArgumentException("Filter matches more than " + BulkStatusRequest.MAX_ROWS + " purchase requests");
+            }
+        }
+
+        List<Integer> changed = new ArrayList<>();
+        BulkResult result = BulkTransitions.plan(request, matched, target.name(), changed);
+        Map<Integer, String> statusBefore = BulkTransitions.statusById(matched);
+        BulkTransitions.inSlices(changed, slice -> {
+            purchaseRequestRepository.updateStatusByIds(slice, target);
+            changeFeed.recordBulkTransitions(ChangeEvent.PURCHASE_REQUEST, statusBefore,
+                    purchaseRequestRepository.findStateByIds(slice));
+        });
+        cacheInvalidator.evictPurchaseRequests(changed);
+        return result;
+    }
+
     // Delete purchase request
     public void deletePurchaseRequest(Integer id) {
         if (!purchaseRequestRepository.existsById(id)) {
             throw new RuntimeException("Purchase Request not found with id: " + id);
         }
         purchaseRequestRepository.deleteById(id);
+        cacheInvalidator.evictPurchaseRequest(id);
+    }
+
+    // Trim size + 1 keyset rows into a page
+    private CursorPage<PurchaseRequestDTO> toPage(List<PurchaseRequestDTO> rows, int size, Long total) {
+        return CursorPage.of(rows, size, Function.identity(), PurchaseRequestDTO::getPrid, total);
+    }
+
+    // Stream all purchase requests to the output, flushing the output every batch
+    @Transactional(readOnly = true)
+    public long exportPurchaseRequests(OutputStream out, ExportFormat format) {
+        ExportWriter<PurchaseRequestDTO> writer = new ExportWriter<>(out, format, objectMapper, EXPORT_HEADERS, this::toExportRow);
+        try (Stream<PurchaseRequestDTO> rows = purchaseRequestRepository.streamAll()) {
+            rows.forEach(row -> {
+                writer.write(row);
+                if (writer.getRowCount() % ExportWriter.BATCH_SIZE == 0) {
+                    writer.flush();
+                }
+            });
+        }
+        writer.flush();
+        return writer.getRowCount();
+    }
+
+    // Column values for CSV export, in EXPORT_HEADERS order
+    private Object[] toExportRow(PurchaseRequestDTO dto) {
+        return new Object[] { dto.getPrid(), dto.getEventid(), dto.getEventname(), dto.getVendorid(),
+                dto.getVendorname(), dto.getCdsid(), dto.getRequestdate(), dto.getAllocatedamount(),
+                dto.getPrstatus() };
     }
 
-    // Convert entity to DTO
-    private PurchaseRequestDTO convertToDTO(PurchaseRequest pr) {
+    // Convert entity to DTO (package-private for the JMH mapping benchmarks)
+    PurchaseRequestDTO convertToDTO(PurchaseRequest pr) {
         PurchaseRequestDTO dto = new PurchaseRequestDTO();
         dto.setPrid(pr.getPrid());
         dto.setEventid(pr.getEventid());
@@ -152,13 +410,13 @@ public class PurchaseRequestService {
 
         dto.setCdsid(pr.getCdsid());
         dto.setRequestdate(pr.getRequestdate());
-        dto.setAllocatedamount(pr.getAllocatedamount());
+        dto.setAllocatedamount(Money.majorOf(pr.getAllocatedamount()));
         dto.setPrstatus(pr.getPrstatus() != null ? pr.getPrstatus().toString() : null);
         return dto;
     }
 
-    // Map DTO to entity
-    private void mapDTOToEntity(PurchaseRequestDTO dto, PurchaseRequest pr) {
+    // Map DTO to entity (package-private for the JMH mapping benchmarks)
+    void mapDTOToEntity(PurchaseRequestDTO dto, PurchaseRequest pr) {
         pr.setEventid(dto.getEventid());
         pr.setEventname(dto.getEventname());
         pr.setVendorid(dto.getVendorid());
@@ -166,7 +424,7 @@ public class PurchaseRequestService {
 
         pr.setCdsid(dto.getCdsid());
         pr.setRequestdate(dto.getRequestdate());
-        pr.setAllocatedamount(dto.getAllocatedamount());
+        pr.setAllocatedamount(Money.fromMajor(dto.getAllocatedamount()));
         if (dto.getPrstatus() != null) {
             pr.setPrstatus(Status.valueOf(dto.getPrstatus()));
         }
@@ -0,0 +1,79 @@
+package com.example.purchase.vendorspend;
+
+import com.example.purchase.common.Money;
+import jakarta.persistence.*;
+
+// Running per-vendor, per-PO-status spend totals, maintained alongside purchase order writes
+@Entity
+@Table(name = "vendor_spend")
+@IdClass(VendorSpendId.class)
+public class VendorSpend {
+    @Id
+    @Column(name = "VENDORID")
+    private Integer vendorid;
+
+    @Id
+    @Column(name = "PO_STATUS", length = 50)
+    private String status;
+
+    // Totals in minor units (paise / cents); see Money
+    @Column(name = "TOTAL_INR_MINOR", nullable = false)
+    private Long totalINR;
+
+    @Column(name = "TOTAL_USD_MINOR", nullable = false)
+    private Long totalUSD;
+
+    @Column(name = "ORDER_COUNT", nullable = false)
+    private Long orderCount;
+
+    public VendorSpend() {
+    }
+
+    public VendorSpend(Integer vendorid, String status, long totalINR, long totalUSD, Long orderCount) {
+        this.vendorid = vendorid;
+        this.status = status;
+        this.totalINR = totalINR;
+        this.totalUSD = totalUSD;
+        this.orderCount = orderCount;
+    }
+
+    public Integer getVendorid() {
+        return vendorid;
+    }
+
+    public void setVendorid(Integer vendorid) {
+        this.vendorid = vendorid;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Money getTotalINR() {
+        return Money.fromMinor(totalINR);
+    }
+
+    public void setTotalINR(Money totalINR) {
+        this.totalINR = Money.minorOf(totalINR);
+    }
+
+    public Money getTotalUSD() {
+        return Money.fromMinor(totalUSD);
+    }
+
+    public void setTotalUSD(Money totalUSD) {
+        this.totalUSD = Money.minorOf(totalUSD);
+    }
+
+    public Long getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(Long orderCount) {
+        this.orderCount = orderCount;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.purchase.vendorspend;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/vendor-spend")
+@Tag(name = "Vendor Spend", description = "Incrementally maintained per-vendor spend aggregates")
+public class VendorSpendController {
+
+    @Autowired
+    private VendorSpendService vendorSpendService;
+
+    @GetMapping("/{vendorid}")
+    @Operation(summary = "Get spend buckets (per PO status) for a vendor")
+    public ResponseEntity<List<VendorSpend>> getVendorSpend(
+            @PathVariable @Parameter(description = "Vendor ID") Integer vendorid) {
+        return ResponseEntity.ok(vendorSpendService.getVendorSpend(vendorid));
+    }
+
+    @GetMapping("/verify")
+    @Operation(summary = "Recompute aggregates from purchase orders and report drift")
+    public ResponseEntity<VendorSpendReport> verify() {
+        return ResponseEntity.ok(vendorSpendService.verify());
+    }
+
+    @PostMapping("/rebuild")
+    @Operation(summary = "Recompute aggregates from purchase orders and replace them")
+    public ResponseEntity<VendorSpendReport> rebuild() {
+        return ResponseEntity.ok(vendorSpendService.rebuild());
+    }
+}
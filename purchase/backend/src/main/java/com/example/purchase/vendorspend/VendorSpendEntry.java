@@ -0,0 +1,79 @@
+package com.example.purchase.vendorspend;
+
+import com.example.purchase.common.Money;
+import com.example.purchase.purchaseorder.PurchaseOrder;
+
+import java.util.Objects;
+
+// Contribution of one or more purchase orders to a (vendor, status) bucket; totals are exact minor units
+public class VendorSpendEntry {
+
+    // Bucket for orders without a status (the key column cannot be null)
+    public static final String NO_STATUS = "NONE";
+
+    private final Integer vendorid;
+    private final String status;
+    private final long totalINR;
+    private final long totalUSD;
+    private final long orderCount;
+
+    // Projection constructor for SUM(...) over the *_MINOR columns (null when every amount is null)
+    public VendorSpendEntry(Integer vendorid, String status, Long totalINR, Long totalUSD, Long orderCount) {
+        this(vendorid, status, totalINR != null ? totalINR : 0L, totalUSD != null ? totalUSD : 0L,
+                orderCount != null ? orderCount : 0L);
+    }
+
+    private VendorSpendEntry(Integer vendorid, String status, long totalINR, long totalUSD, long orderCount) {
+        this.vendorid = vendorid;
+        this.status = status != null ? status : NO_STATUS;
+        this.totalINR = totalINR;
+        this.totalUSD = totalUSD;
+        this.orderCount = orderCount;
+    }
+
+    // Snapshot of a single order; take it before mutating the entity to know what to subtract
+    public static VendorSpendEntry of(PurchaseOrder po) {
+        Money inr = po.getOrderamountINR();
+        Money usd = po.getOrderamountdollar();
+        return new VendorSpendEntry(po.getVendorid(), po.getPO_status(), inr != null ? inr.getMinor() : 0L,
+                usd != null ? usd.getMinor() : 0L, 1L);
+    }
+
+    public VendorSpendEntry withStatus(String newStatus) {
+        return new VendorSpendEntry(vendorid, newStatus, totalINR, totalUSD, orderCount);
+    }
+
+    public VendorSpendEntry plus(VendorSpendEntry other) {
+        return new VendorSpendEntry(vendorid, status, Math.addExact(totalINR, other.totalINR),
+                Math.addExact(totalUSD, other.totalUSD), orderCount + other.orderCount);
+    }
+
+    public VendorSpendId key() {
+        return new VendorSpendId(vendorid, status);
+    }
+
+    public boolean sameAs(VendorSpendEntry other) {
+        return other != null && Objects.equals(vendorid, other.vendorid) && status.equals(other.status)
+                && totalINR == other.totalINR && totalUSD == other.totalUSD && orderCount == other.orderCount;
+    }
+
+    public Integer getVendorid() {
+        return vendorid;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public long getTotalINR() {
+        return totalINR;
+    }
+
+    public long getTotalUSD() {
+        return totalUSD;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+}
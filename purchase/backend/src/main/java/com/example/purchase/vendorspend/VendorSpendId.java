@@ -0,0 +1,33 @@
+package com.example.purchase.vendorspend;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+public class VendorSpendId implements Serializable {
+    private Integer vendorid;
+    private String status;
+
+    public VendorSpendId() {
+    }
+
+    public VendorSpendId(Integer vendorid, String status) {
+        this.vendorid = vendorid;
+        this.status = status;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof VendorSpendId other)) {
+            return false;
+        }
+        return Objects.equals(vendorid, other.vendorid) && Objects.equals(status, other.status);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(vendorid, status);
+    }
+}
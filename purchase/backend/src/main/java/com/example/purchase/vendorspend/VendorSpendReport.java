@@ -0,0 +1,97 @@
+package com.example.purchase.vendorspend;
+
+import com.example.purchase.common.Money;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+// Result of comparing the maintained aggregates against a recomputation from purchase_order
+public class VendorSpendReport {
+    private Date checkedAt = new Date();
+    private int buckets;
+    private boolean rebuilt;
+    private List<Drift> drifts = new ArrayList<>();
+
+    public static class Drift {
+        private Integer vendorid;
+        private String status;
+        private Money expectedINR;
+        private Money actualINR;
+        private Money expectedUSD;
+        private Money actualUSD;
+        private long expectedCount;
+        private long actualCount;
+
+        public Drift(VendorSpendEntry expected, VendorSpend actual) {
+            this.vendorid = expected != null ? expected.getVendorid() : actual.getVendorid();
+            this.status = expected != null ? expected.getStatus() : actual.getStatus();
+            this.expectedINR = expected != null ? Money.ofMinor(expected.getTotalINR()) : Money.ZERO;
+            this.expectedUSD = expected != null ? Money.ofMinor(expected.getTotalUSD()) : Money.ZERO;
+            this.expectedCount = expected != null ? expected.getOrderCount() : 0L;
+            this.actualINR = actual != null ? actual.getTotalINR() : Money.ZERO;
+            this.actualUSD = actual != null ? actual.getTotalUSD() : Money.ZERO;
+            this.actualCount = actual != null ? actual.getOrderCount() : 0L;
+        }
+
+        public Integer getVendorid() {
+            return vendorid;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public Money getExpectedINR() {
+            return expectedINR;
+        }
+
+        public Money getActualINR() {
+            return actualINR;
+        }
+
+        public Money getExpectedUSD() {
+            return expectedUSD;
+        }
+
+        public Money getActualUSD() {
+            return actualUSD;
+        }
+
+        public long getExpectedCount() {
+            return expectedCount;
+        }
+
+        public long getActualCount() {
+            return actualCount;
+        }
+    }
+
+    public Date getCheckedAt() {
+        return checkedAt;
+    }
+
+    public int getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(int buckets) {
+        this.buckets = buckets;
+    }
+
+    public boolean isRebuilt() {
+        return rebuilt;
+    }
+
+    public void setRebuilt(boolean rebuilt) {
+        this.rebuilt = rebuilt;
+    }
+
+    public int getDriftCount() {
+        return drifts.size();
+    }
+
+    public List<Drift> getDrifts() {
+        return drifts;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.purchase.vendorspend;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface VendorSpendRepository extends JpaRepository<VendorSpend, VendorSpendId> {
+
+    @Query("SELECT v FROM VendorSpend v WHERE v.vendorid = :vendorid ORDER BY v.status")
+    List<VendorSpend> findByVendorid(@Param("vendorid") Integer vendorid);
+
+    // Minor units; null when the vendor has no orders, matching SUM over purchase_order
+    @Query("SELECT SUM(v.totalINR) FROM VendorSpend v WHERE v.vendorid = :vendorid AND v.orderCount > 0")
+    Long getTotalINRByVendor(@Param("vendorid") Integer vendorid);
+
+    // Atomic in-place delta: no read-modify-write, so concurrent writers cannot lose updates
+    @Modifying
+    @Query(nativeQuery = true, value = "UPDATE vendor_spend SET TOTAL_INR_MINOR = TOTAL_INR_MINOR + :inr, "
+            + "TOTAL_USD_MINOR = TOTAL_USD_MINOR + :usd, ORDER_COUNT = ORDER_COUNT + :cnt "
+            + "WHERE VENDORID = :vendorid AND PO_STATUS = :status")
+    int addDelta(@Param("vendorid") Integer vendorid, @Param("status") String status, @Param("inr") long inr,
+            @Param("usd") long usd, @Param("cnt") long count);
+
+    // First delta for a bucket; a concurrent first insert for the same key fails on the primary key
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO vendor_spend "
+            + "(VENDORID, PO_STATUS, TOTAL_INR_MINOR, TOTAL_USD_MINOR, ORDER_COUNT) VALUES (:vendorid, :status, :inr, :usd, :cnt)")
+    int insertBucket(@Param("vendorid") Integer vendorid, @Param("status") String status, @Param("inr") long inr,
+            @Param("usd") long usd, @Param("cnt") long count);
+
+    // Current contribution of the given orders, grouped by bucket (read before a bulk status UPDATE)
+    @Query("SELECT new com.example.purchase.vendorspend.VendorSpendEntry(po.vendorid, po.PO_status, "
+            + "SUM(po.orderamountINR), SUM(po.orderamountdollar), COUNT(po)) FROM PurchaseOrder po "
+            + "WHERE po.PO_id IN :ids AND po.vendorid IS NOT NULL GROUP BY po.vendorid, po.PO_status")
+    List<VendorSpendEntry> sumPurchaseOrdersByIds(@Param("ids") Collection<Integer> ids);
+
+    // Ground truth for rebuild/verify
+    @Query("SELECT new com.example.purchase.vendorspend.VendorSpendEntry(po.vendorid, po.PO_status, "
+            + "SUM(po.orderamountINR), SUM(po.orderamountdollar), COUNT(po)) FROM PurchaseOrder po "
+            + "WHERE po.vendorid IS NOT NULL GROUP BY po.vendorid, po.PO_status")
+    List<VendorSpendEntry> sumAllPurchaseOrders();
+}
@@ -0,0 +1,171 @@
+package com.example.purchase.vendorspend;
+
+import com.example.purchase.common.Money;
+import com.example.purchase.purchaseorder.PurchaseOrder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+// Keeps vendor_spend in step with purchase_order. Every method joins the caller's transaction,
+// so an aggregate delta commits or rolls back together with the order write that caused it.
+@Service
+@Transactional
+public class VendorSpendService {
+
+    private static final Logger log = LoggerFactory.getLogger(VendorSpendService.class);
+
+    @Autowired
+    private VendorSpendRepository vendorSpendRepository;
+
+    // Total order amount (INR) for a vendor across all statuses: a lookup over a handful of rows
+    @Transactional(readOnly = true)
+    public Money getTotalOrderAmountByVendor(Integer vendorid) {
+        return Money.fromMinor(vendorSpendRepository.getTotalINRByVendor(vendorid));
+    }
+
+    // Per-status spend buckets for a vendor
+    @Transactional(readOnly = true)
+    public List<VendorSpend> getVendorSpend(Integer vendorid) {
+        return vendorSpendRepository.findByVendorid(vendorid);
+    }
+
+    // Move one order's contribution from its old bucket to its new one (null = no bucket)
+    public void recordChange(VendorSpendEntry before, VendorSpendEntry after) {
+        if (before != null && before.sameAs(after)) {
+            return;
+        }
+        if (before != null) {
+            apply(before, -1);
+        }
+        if (after != null) {
+            apply(after, 1);
+        }
+    }
+
+    // Add newly inserted orders, one delta per bucket
+    public void recordCreated(Collection<PurchaseOrder> orders) {
+        Map<VendorSpendId, VendorSpendEntry> buckets = new LinkedHashMap<>();
+        for (PurchaseOrder po : orders) {
+            VendorSpendEntry entry = VendorSpendEntry.of(po);
+            buckets.merge(entry.key(), entry, VendorSpendEntry::plus);
+        }
+        buckets.values().forEach(entry -> apply(entry, 1));
+    }
+
+    // Set-based status change: call before the orders' status UPDATE so current buckets are read
+    public void recordStatusChange(Collection<Integer> poIds, String newStatus) {
+        for (VendorSpendEntry entry : vendorSpendRepository.sumPurchaseOrdersByIds(poIds)) {
+            apply(entry, -1);
+            apply(entry.withStatus(newStatus), 1);
+        }
+    }
+
+    // Set-based amount change: re-read the orders' buckets around the UPDATE and apply the difference
+    public int recordAmountChange(Collection<Integer> poIds, IntSupplier update) {
+        List<VendorSpendEntry> before = vendorSpendRepository.sumPurchaseOrdersByIds(poIds);
+        int updated = update.getAsInt();
+        if (updated > 0) {
+            before.forEach(entry -> apply(entry, -1));
+            vendorSpendRepository.sumPurchaseOrdersByIds(poIds).forEach(entry -> apply(entry, 1));
+        }
+        return updated;
+    }
+
+    // Recompute from purchase_order and compare; nothing is changed
+    @Transactional(readOnly = true)
+    public VendorSpendReport verify() {
+        return compare(vendorSpendRepository.sumAllPurchaseOrders());
+    }
+
+    // Recompute from purchase_order and replace the aggregate table; the report lists what drifted
+    public VendorSpendReport rebuild() {
+        List<VendorSpendEntry> expected = vendorSpendRepository.sumAllPurchaseOrders();
+        VendorSpendReport report = compare(expected);
+        vendorSpendRepository.deleteAllInBatch();
+        List<VendorSpend> rows = new ArrayList<>(expected.size());
+        for (VendorSpendEntry entry : expected) {
+            rows.add(new VendorSpend(entry.getVendorid(), entry.getStatus(), entry.getTotalINR(),
+                    entry.getTotalUSD(), entry.getOrderCount()));
+        }
+        vendorSpendRepository.saveAll(rows);
+        report.setRebuilt(true);
+        log.info("Vendor spend rebuilt: {} buckets, {} drifted", report.getBuckets(), report.getDriftCount());
+        return report;
+    }
+
+    // Existing databases start with an empty aggregate table; seed it once
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedIfEmpty() {
+        if (vendorSpendRepository.count() == 0 && !vendorSpendRepository.sumAllPurchaseOrders().isEmpty()) {
+            rebuild();
+        }
+    }
+
+    // Periodic drift check, disabled unless vendor-spend.verify-cron is set
+    @Scheduled(cron = "${vendor-spend.verify-cron:-}")
+    @Transactional(readOnly = true)
+    public void scheduledVerify() {
+        VendorSpendReport report = verify();
+        if (report.getDriftCount() > 0) {
+            log.warn("Vendor spend drift detected in {} of {} buckets; run POST /api/vendor-spend/rebuild",
+                    report.getDriftCount(), report.getBuckets());
+        }
+    }
+
+    private void apply(VendorSpendEntry entry, int sign) {
+        if (entry.getVendorid() == null) {
+            return;
+        }
+        long inr = sign * entry.getTotalINR();
+        long usd = sign * entry.getTotalUSD();
+        long count = sign * entry.getOrderCount();
+        // A racing first insert for the same bucket fails the caller with a duplicate key, which
+        // OptimisticRetryTemplate treats as a conflict; the retry then finds the bucket and updates it
+        if (vendorSpendRepository.addDelta(entry.getVendorid(), entry.getStatus(), inr, usd, count) == 0) {
+            vendorSpendRepository.insertBucket(entry.getVendorid(), entry.getStatus(), inr, usd, count);
+        }
+    }
+
+    private VendorSpendReport compare(List<VendorSpendEntry> expected) {
+        Map<VendorSpendId, VendorSpend> actual = new HashMap<>();
+        for (VendorSpend row : vendorSpendRepository.findAll()) {
+            actual.put(new VendorSpendId(row.getVendorid(), row.getStatus()), row);
+        }
+        VendorSpendReport report = new VendorSpendReport();
+        report.setBuckets(expected.size());
+        for (VendorSpendEntry entry : expected) {
+            VendorSpend row = actual.remove(entry.key());
+            if (row == null || drifted(entry, row)) {
+                report.getDrifts().add(new VendorSpendReport.Drift(entry, row));
+            }
+        }
+        // Buckets left over must be empty; anything else has no orders behind it
+        for (VendorSpend row : actual.values()) {
+            if (row.getOrderCount() != 0 || !Money.ZERO.equals(row.getTotalINR())
+                    || !Money.ZERO.equals(row.getTotalUSD())) {
+                report.getDrifts().add(new VendorSpendReport.Drift(null, row));
+            }
+        }
+        return report;
+    }
+
+    // Totals are exact minor units, so any difference is drift
+    private static boolean drifted(VendorSpendEntry expected, VendorSpend row) {
+        return expected.getOrderCount() != row.getOrderCount()
+                || expected.getTotalINR() != row.getTotalINR().getMinor()
+                || expected.getTotalUSD() != row.getTotalUSD().getMinor();
+    }
+}
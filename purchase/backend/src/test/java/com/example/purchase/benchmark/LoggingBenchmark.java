@@ -0,0 +1,177 @@
+package com.example.purchase.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.JsonEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.slf4j.MDC;
+
+import java.io.BufferedReader;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+// Request-thread cost of the old System.out tracing vs. the structured logging that replaced it.
+// Each simulated request emits what NegotiationService.updateNegotiation logged on a "Completed"
+// transition: 12 concatenated println lines before, 4 parameterized events after. Output goes to
+// a file so the terminal does not skew the numbers.
+// Run with: ./gradlew loggingBenchmark [-Prequests=20000] [-Pthreads=16]
+public class LoggingBenchmark {
+
+    private static final int QUEUE_SIZE = 8192;
+
+    private interface RequestLogger {
+        void log(int request);
+    }
+
+    public static void main(String[] args) throws Exception {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        System.out.printf("%,d requests per thread, %d threads%n%n", requests, threads);
+        System.out.printf("%-30s %14s %12s %12s%n", "logging", "requests/s", "events", "written");
+
+        Path file = Files.createTempFile("logging-bench", ".log");
+        try {
+            try (PrintStream console = new PrintStream(new FileOutputStream(file.toFile(), true), true)) {
+                run("System.out x12 (before)", 12, requests, threads, file, i -> printlnTrace(console, i));
+            }
+
+            LoggerContext syncContext = context(file, false);
+            Logger syncLog = syncContext.getLogger(LoggingBenchmark.class);
+            run("logback sync JSON x4", 3, requests, threads, file, i -> structuredEvents(syncLog, i));
+            syncContext.stop();
+
+            LoggerContext asyncContext = context(file, true);
+            Logger asyncLog = asyncContext.getLogger(LoggingBenchmark.class);
+            long start = System.nanoTime();
+            run("logback async JSON x4 (after)", 3, requests, threads, file, i -> structuredEvents(asyncLog, i));
+            // Stopping drains the ring buffer; the written column then shows what overflow dropped
+            asyncContext.stop();
+            System.out.printf("%-30s %14s %12s %,12d  (after drain, %.0f ms total)%n", "", "", "",
+                    countLines(file), (System.nanoTime() - start) / 1_000_000.0);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    // What updateNegotiation printed for a Completed transition before this change
+    private static void printlnTrace(PrintStream out, int i) {
+        out.println("=== UPDATE NEGOTIATION STARTED ===");
+        out.println("Negotiation ID: " + i);
+        out.println("New Status: " + "Completed");
+        out.println("Old Status: " + "Pending");
+        out.println("Negotiation saved with new status: " + "Completed");
+        out.println("=== UPDATING PURCHASE REQUEST TO APPROVED ===");
+        out.println("Purchase Request ID: " + i);
+        out.println("Current PR Status: " + "PENDING");
+        out.println("Purchase Request " + i + " status updated to APPROVED");
+        out.println("=== AUTO-CREATING PURCHASE ORDER ===");
+        out.println("Purchase Order created with ID: " + i);
+        out.println("=== UPDATE NEGOTIATION ENDED ===");
+    }
+
+    // What it logs now
+    private static void structuredEvents(Logger log, int i) {
+        log.info("negotiation.updated negotiationId={} fromStatus={} toStatus={}", i, "Pending", "Completed");
+        log.info("purchaseRequest.statusChanged prid={} fromStatus={} toStatus={} negotiationId={}",
+                i, "PENDING", "APPROVED", i);
+        log.info("purchaseOrder.autoCreated poId={} negotiationId={} prid={}", i, i, i);
+        log.debug("purchaseOrder.autoCreateSkipped negotiationId={} reason=exists", i);
+    }
+
+    // eventsPerRequest counts what reaches the appender: the DEBUG call is filtered at INFO
+    private static void run(String label, int eventsPerRequest, int requests, int threads, Path file,
+            RequestLogger logger) throws Exception {
+        // Warm up on a single thread, let an async appender drain it, then truncate so the
+        // written column counts only the measured run (all writers open the file in append mode)
+        for (int i = 0; i < 2_000; i++) {
+            logger.log(i);
+        }
+        Thread.sleep(500);
+        Files.write(file, new byte[0]);
+
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                MDC.put("correlationId", UUID.randomUUID().toString());
+                ready.countDown();
+                try {
+                    go.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < requests; i++) {
+                    logger.log(i);
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        ready.await();
+        long start = System.nanoTime();
+        go.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        long total = (long) requests * threads;
+        long emitted = total * eventsPerRequest;
+        System.out.printf("%-30s %,14.0f %,12d %,12d%n", label, total / seconds, emitted, countLines(file));
+    }
+
+    // Same shape as the prod profile in logback-spring.xml, writing to the benchmark file
+    private static LoggerContext context(Path file, boolean async) throws IOException {
+        LoggerContext context = new LoggerContext();
+        // Share the MDC that the worker threads write their correlation ids into
+        context.setMDCAdapter(MDC.getMDCAdapter());
+        context.start();
+
+        JsonEncoder encoder = new JsonEncoder();
+        encoder.setContext(context);
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+        sink.setContext(context);
+        sink.setEncoder(encoder);
+        sink.setOutputStream(new FileOutputStream(file.toFile(), true));
+        sink.start();
+
+        Appender<ILoggingEvent> appender = sink;
+        if (async) {
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(context);
+            asyncAppender.setQueueSize(QUEUE_SIZE);
+            asyncAppender.setDiscardingThreshold(0);
+            asyncAppender.setNeverBlock(true);
+            asyncAppender.setIncludeCallerData(false);
+            // Drain everything on stop, so anything missing from the file was dropped on overflow
+            asyncAppender.setMaxFlushTime(0);
+            asyncAppender.addAppender(sink);
+            asyncAppender.start();
+            appender = asyncAppender;
+        }
+
+        Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(ch.qos.logback.classic.Level.INFO);
+        root.addAppender(appender);
+        return context;
+    }
+
+    private static long countLines(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            return reader.lines().count();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.purchase.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+// Compares the repository query shapes on an unindexed vs. indexed copy of purchase_order in embedded H2.
+// Run with: ./gradlew queryIndexBenchmark [-Prows=1000000]
+public class QueryIndexBenchmark {
+
+    private static final int VENDORS = 5_000;
+    private static final int CDSIDS = 2_000;
+    private static final String[] STATUSES = {"PENDING", "COMPLETED", "REJECTED", "CANCELLED"};
+    private static final int FIRST_YEAR = 2010;
+    private static final int YEARS = 15;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+
+    // Keeps result consumption observable so the JIT cannot drop it
+    private static volatile long blackhole;
+
+    public static void main(String[] args) throws SQLException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        try (Connection conn = DriverManager.getConnection("jdbc:h2:mem:indexbench;DB_CLOSE_DELAY=-1", "sa", "")) {
+            System.out.printf("Loading %,d rows...%n", rows);
+            createAndLoad(conn, rows);
+
+            System.out.printf("%n%-34s %14s %14s %9s%n", "query", "before (ms)", "after (ms)", "speedup");
+            // Parameters change every iteration so H2 cannot serve a cached result
+            compare(conn, "vendor", "SELECT * FROM %s WHERE vendorid = ?",
+                    "SELECT * FROM %s WHERE vendorid = ?",
+                    i -> new Object[] {i % VENDORS}, i -> new Object[] {i % VENDORS});
+            compare(conn, "vendor + status", "SELECT * FROM %s WHERE vendorid = ? AND po_status = ?",
+                    "SELECT * FROM %s WHERE vendorid = ? AND po_status = ?",
+                    i -> new Object[] {i % VENDORS, STATUSES[i % STATUSES.length]},
+                    i -> new Object[] {i % VENDORS, STATUSES[i % STATUSES.length]});
+            compare(conn, "event", "SELECT * FROM %s WHERE eventid = ?",
+                    "SELECT * FROM %s WHERE eventid = ?",
+                    i -> new Object[] {1 + i * 997 % rows}, i -> new Object[] {1 + i * 997 % rows});
+            compare(conn, "cdsid + date range",
+                    "SELECT * FROM %s WHERE cdsid = ? AND orderdate >= ? AND orderdate < ?",
+                    "SELECT * FROM %s WHERE cdsid = ? AND orderdate >= ? AND orderdate < ?",
+                    i -> new Object[] {"user" + i % CDSIDS, yearStart(yearOf(i)), yearStart(yearOf(i) + 1)},
+                    i -> new Object[] {"user" + i % CDSIDS, yearStart(yearOf(i)), yearStart(yearOf(i) + 1)});
+            // Both sides below run on the indexed table: YEAR(col) cannot use idx_po_orderdate, the range can
+            compare(conn, "year count: YEAR() vs range",
+                    "SELECT COUNT(*) FROM po_indexed WHERE YEAR(orderdate) = ?",
+                    "SELECT COUNT(*) FROM po_indexed WHERE orderdate >= ? AND orderdate < ?",
+                    i -> new Object[] {yearOf(i)},
+                    i -> new Object[] {yearStart(yearOf(i)), yearStart(yearOf(i) + 1)});
+            compare(conn, "year rows: YEAR() vs range",
+                    "SELECT * FROM po_indexed WHERE YEAR(orderdate) = ?",
+                    "SELECT * FROM po_indexed WHERE orderdate >= ? AND orderdate < ?",
+                    i -> new Object[] {yearOf(i)},
+                    i -> new Object[] {yearStart(yearOf(i)), yearStart(yearOf(i) + 1)});
+        }
+    }
+
+    private static void createAndLoad(Connection conn, int rows) throws SQLException {
+        String columns = "(po_id INT PRIMARY KEY, eventid INT, eventname VARCHAR(255), vendorid INT, "
+                + "vendorname VARCHAR(255), cdsid VARCHAR(50) NOT NULL, orderdate TIMESTAMP, "
+                + "orderamountinr_minor BIGINT, orderamountdollar_minor BIGINT, po_status VARCHAR(255))";
+        try (Statement st = conn.createStatement()) {
+            st.execute("CREATE TABLE po_plain " + columns);
+            st.execute("CREATE TABLE po_indexed " + columns);
+        }
+        Random random = new Random(7);
+        long firstMillis = yearStart(FIRST_YEAR).getTime();
+        long spanMillis = yearStart(FIRST_YEAR + YEARS).getTime() - firstMillis;
+        try (PreparedStatement ps = conn.prepareStatement("INSERT INTO po_plain VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int id = 1; id <= rows; id++) {
+                int vendor = random.nextInt(VENDORS);
+                long inr = 100_000L + random.nextInt(100_000_000);
+                ps.setInt(1, id);
+                ps.setInt(2, id);
+                ps.setString(3, "Event " + id);
+                ps.setInt(4, vendor);
+                ps.setString(5, "Vendor " + vendor);
+                ps.setString(6, "user" + random.nextInt(CDSIDS));
+                ps.setTimestamp(7, new Timestamp(firstMillis + (long) (random.nextDouble() * spanMillis)));
+                ps.setLong(8, inr);
+                ps.setLong(9, Math.round(inr / 83.0));
+                ps.setString(10, STATUSES[random.nextInt(STATUSES.length)]);
+                ps.addBatch();
+                if (id % 10_000 == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+        // Same indexes as the PurchaseOrder entity mapping
+        try (Statement st = conn.createStatement()) {
+            st.execute("INSERT INTO po_indexed SELECT * FROM po_plain");
+            st.execute("CREATE INDEX idx_po_vendor_status ON po_indexed (vendorid, po_status)");
+            st.execute("CREATE INDEX idx_po_eventid ON po_indexed (eventid)");
+            st.execute("CREATE INDEX idx_po_cdsid_orderdate ON po_indexed (cdsid, orderdate)");
+            st.execute("CREATE INDEX idx_po_status ON po_indexed (po_status)");
+            st.execute("CREATE INDEX idx_po_orderdate ON po_indexed (orderdate)");
+            st.execute("ANALYZE");
+        }
+    }
+
+    private static void compare(Connection conn, String label, String plainSql, String indexedSql,
+            IntFunction<Object[]> plainParams, IntFunction<Object[]> indexedParams) throws SQLException {
+        double plain = medianMillis(conn, plainSql.replace("%s", "po_plain"), plainParams);
+        double indexed = medianMillis(conn, indexedSql.replace("%s", "po_indexed"), indexedParams);
+        System.out.printf("%-34s %14.3f %14.3f %8.1fx%n", label, plain, indexed, plain / indexed);
+    }
+
+    private static double medianMillis(Connection conn, String sql, IntFunction<Object[]> paramsFor)
+            throws SQLException {
+        double[] samples = new double[ITERATIONS];
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            for (int i = 0; i < WARMUP + ITERATIONS; i++) {
+                Object[] params = paramsFor.apply(i);
+                for (int p = 0; p < params.length; p++) {
+                    ps.setObject(p + 1, params[p]);
+                }
+                long start = System.nanoTime();
+                long consumed = 0;
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        consumed += rs.getInt(1);
+                    }
+                }
+                long elapsed = System.nanoTime() - start;
+                blackhole += consumed;
+                if (i >= WARMUP) {
+                    samples[i - WARMUP] = elapsed / 1_000_000.0;
+                }
+            }
+        }
+        Arrays.sort(samples);
+        return samples[ITERATIONS / 2];
+    }
+
+    private static int yearOf(int iteration) {
+        return FIRST_YEAR + iteration % YEARS;
+    }
+
+    private static Timestamp yearStart(int year) {
+        return Timestamp.from(LocalDate.of(year, 1, 1).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.purchase.benchmark;
+
+import com.example.purchase.PurchaseApplication;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+// Platform threads (Tomcat worker pool, default Hikari pool) vs. the virtual profile
+// (application-virtual.properties) at high concurrency. Each mode boots the app in-process on a
+// random port with its own H2 database, warms up, then runs two closed-loop phases with
+// WorkflowLoadTest: list/filter reads only, and the full PR -> negotiation -> PO workflow.
+// Virtual threads need Java 21+; on older JVMs the second run falls back to platform threads.
+// Run with: ./gradlew threadModelBenchmark [-Pconcurrency=400] [-Pduration=30]
+public class ThreadModelBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = args.length > 0 ? Integer.parseInt(args[0]) : 400;
+        int durationSeconds = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        System.out.printf("Java %d, %d client threads, %ds per phase%n", Runtime.version().feature(),
+                concurrency, durationSeconds);
+        run("platform", false, concurrency, durationSeconds);
+        run("virtual", true, concurrency, durationSeconds);
+    }
+
+    private static void run(String mode, boolean virtual, int concurrency, int durationSeconds) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(PurchaseApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:threads-" + mode,
+                "--spring.profiles.active=" + (virtual ? "prod,virtual" : "prod"),
+                "--logging.level.root=WARN",
+                "--logging.level.com.example.purchase=WARN");
+        try {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            System.out.printf("%n===== %s threads (spring.threads.virtual.enabled=%s, hikari max %s) =====%n", mode,
+                    context.getEnvironment().getProperty("spring.threads.virtual.enabled", "false"),
+                    context.getEnvironment().getProperty("spring.datasource.hikari.maximum-pool-size", "10"));
+
+            // Warm-up also seeds the tables the read phase lists
+            WorkflowLoadTest warmup = new WorkflowLoadTest(baseUrl, 1, 10, true);
+            warmup.checkReachable();
+            warmup.runClosed(16, Math.max(5, durationSeconds / 3));
+
+            System.out.printf("%n--- %s: list/filter reads ---%n", mode);
+            WorkflowLoadTest reads = new WorkflowLoadTest(baseUrl, 4, 0, false);
+            reads.report(reads.runClosed(concurrency, durationSeconds));
+
+            System.out.printf("%n--- %s: workflow ---%n", mode);
+            WorkflowLoadTest workflow = new WorkflowLoadTest(baseUrl, 2, 10, true);
+            workflow.report(workflow.runClosed(concurrency, durationSeconds));
+
+            for (Timer pinned : context.getBean(MeterRegistry.class).find("purchase.virtualthreads.pinned").timers()) {
+                System.out.printf("pinned carrier (layer=%s): %,d times, %.1f ms total, %.1f ms max%n",
+                        pinned.getId().getTag("layer"), pinned.count(), pinned.totalTime(TimeUnit.MILLISECONDS),
+                        pinned.max(TimeUnit.MILLISECONDS));
+            }
+        } finally {
+            context.close();
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package com.example.purchase.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// Replays the PR -> negotiation -> PO lifecycle over HTTP against a running backend and reports
+// per-step latency percentiles and error rates plus completed workflows per second.
+//
+// One workflow: create PR, POST /api/negotiations/from-pr/{prid}, PUT the negotiation to Completed
+// (queues the auto-created PO), poll until the PO shows up for the event, optionally reject it
+// (queues the cascade to PR and negotiation), and a number of list/filter reads.
+//
+// rate > 0 is an open model: workflows arrive on a fixed schedule whether or not earlier ones have
+// finished, and the workflow latency is measured from the scheduled start, so queueing behind a slow
+// server is counted (arrivals that find the queue full are reported as shed). rate = 0 is a closed
+// model: each worker starts its next workflow as soon as the previous one ends.
+//
+// Start the app, then: ./gradlew loadTest [-PbaseUrl=http://localhost:8080] [-Pconcurrency=32]
+//     [-Prate=50] [-Pduration=60] [-Preads=2] [-PrejectPercent=10]
+public class WorkflowLoadTest {
+
+    private static final String[] STEPS = {
+            "create PR", "negotiation from PR", "complete negotiation", "find PO by event", "reject PO",
+            "read PO page", "read PRs by vendor", "read pending negotiations", "read vendor total"
+    };
+    private static final int READ_STEPS_FROM = 5;
+    private static final int VENDORS = 200;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final int reads;
+    private final int rejectPercent;
+    private final boolean writes;
+    private final Map<String, Recorder> steps = new LinkedHashMap<>();
+    private final Recorder workflows = new Recorder();
+    // PR event ids are unique; start each run in its own range
+    private final AtomicInteger nextEventId = new AtomicInteger(
+            100_000_000 + ThreadLocalRandom.current().nextInt(1_000_000_000));
+    private final AtomicLong shed = new AtomicLong();
+
+    // writes = false skips the lifecycle steps, leaving only the list/filter reads
+    WorkflowLoadTest(String baseUrl, int reads, int rejectPercent, boolean writes) {
+        this.baseUrl = baseUrl;
+        this.reads = reads;
+        this.rejectPercent = rejectPercent;
+        this.writes = writes;
+        for (String step : STEPS) {
+            steps.put(step, new Recorder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = arg(args, 0, "http://localhost:8080");
+        int concurrency = Integer.parseInt(arg(args, 1, "32"));
+        double rate = Double.parseDouble(arg(args, 2, "0"));
+        int durationSeconds = Integer.parseInt(arg(args, 3, "60"));
+        int reads = Integer.parseInt(arg(args, 4, "2"));
+        int rejectPercent = Integer.parseInt(arg(args, 5, "10"));
+
+        System.out.printf("Target %s, %d workers, %s, %ds, %d reads/workflow, %d%% rejected%n",
+                baseUrl, concurrency, rate > 0 ? String.format("%.1f workflows/s arrival", rate) : "closed loop",
+                durationSeconds, reads, rejectPercent);
+        WorkflowLoadTest test = new WorkflowLoadTest(baseUrl, reads, rejectPercent, true);
+        test.checkReachable();
+        long elapsedNanos = rate > 0
+                ? test.runOpen(concurrency, rate, durationSeconds)
+                : test.runClosed(concurrency, durationSeconds);
+        test.report(elapsedNanos);
+    }
+
+    private static String arg(String[] args, int index, String defaultValue) {
+        return args.length > index && !args[index].isBlank() ? args[index] : defaultValue;
+    }
+
+    void checkReachable() throws IOException, InterruptedException {
+        try {
+            client.send(get("/api/purchase-requests?size=1"), HttpResponse.BodyHandlers.discarding());
+        } catch (IOException e) {
+            throw new IOException("Backend not reachable at " + baseUrl + " (start it first)", e);
+        }
+    }
+
+    // Fixed arrival schedule; the bounded queue sheds arrivals instead of growing without limit
+    long runOpen(int concurrency, double rate, int durationSeconds) throws InterruptedException {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(concurrency, concurrency, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(concurrency * 4), new ThreadPoolExecutor.AbortPolicy());
+        long intervalNanos = (long) (1_000_000_000L / rate);
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(durationSeconds);
+        for (long intended = start; intended < end; intended += intervalNanos) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            long scheduledAt = intended;
+            try {
+                pool.execute(() -> workflow(scheduledAt));
+            } catch (RejectedExecutionException full) {
+                shed.incrementAndGet();
+            }
+        }
+        pool.shutdown();
+        pool.awaitTermination(2, TimeUnit.MINUTES);
+        return System.nanoTime() - start;
+    }
+
+    long runClosed(int concurrency, int durationSeconds) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(durationSeconds);
+        for (int i = 0; i < concurrency; i++) {
+            pool.execute(() -> {
+                while (System.nanoTime() < end) {
+                    workflow(System.nanoTime());
+                }
+            });
+        }
+        pool.shutdown();
+        pool.awaitTermination(durationSeconds + 120L, TimeUnit.SECONDS);
+        return System.nanoTime() - start;
+    }
+
+    private void workflow(long scheduledAt) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int eventid = nextEventId.getAndIncrement();
+        int vendorid = random.nextInt(VENDORS);
+        boolean ok = false;
+        try {
+            if (writes && !lifecycle(random, eventid, vendorid)) {
+                return;
+            }
+            for (int i = 0; i < reads; i++) {
+                String step = STEPS[READ_STEPS_FROM + random.nextInt(STEPS.length - READ_STEPS_FROM)];
+                if (call(step, get(readPath(step, random.nextInt(VENDORS)))) == null) {
+                    return;
+                }
+            }
+            ok = true;
+        } finally {
+            workflows.record(System.nanoTime() - scheduledAt, ok);
+        }
+    }
+
+    // Create PR -> negotiation -> Completed (auto PO) -> find PO -> maybe reject; false on the first failed step
+    private boolean lifecycle(ThreadLocalRandom random, int eventid, int vendorid) {
+        JsonNode pr = call("create PR", post("/api/purchase-requests", "{\"eventid\":" + eventid
+                + ",\"eventname\":\"Load " + eventid + "\",\"vendorid\":" + vendorid
+                + ",\"vendorname\":\"Vendor " + vendorid + "\",\"cdsid\":\"load" + random.nextInt(50)
+                + "\",\"allocatedamount\":" + (10_000 + random.nextInt(90_000)) + ",\"prstatus\":\"PENDING\"}"));
+        if (pr == null) {
+            return false;
+        }
+        JsonNode negotiation = call("negotiation from PR",
+                post("/api/negotiations/from-pr/" + pr.get("prid").asInt(), ""));
+        if (negotiation == null) {
+            return false;
+        }
+        double finalAmount = negotiation.get("initialquoteamount").asDouble() * (0.8 + random.nextDouble() * 0.2);
+        JsonNode completed = call("complete negotiation", put("/api/negotiations/"
+                + negotiation.get("negotiationid").asInt(), "{\"finalamount\":" + Math.round(finalAmount)
+                + ",\"negotiationstatus\":\"Completed\"}"));
+        if (completed == null) {
+            return false;
+        }
+        JsonNode orders = awaitPurchaseOrder(eventid);
+        if (orders == null) {
+            return false;
+        }
+        return random.nextInt(100) >= rejectPercent
+                || call("reject PO", put("/api/purchase-orders/" + orders.get(0).get("po_id").asInt()
+                        + "/reject", "")) != null;
+    }
+
+    private static String readPath(String step, int vendorid) {
+        switch (step) {
+            case "read PO page":
+                return "/api/purchase-orders?size=50";
+            case "read PRs by vendor":
+                return "/api/purchase-requests/vendor/" + vendorid + "?size=50";
+            case "read pending negotiations":
+                return "/api/negotiations/status/Pending?size=50";
+            default:
+                return "/api/purchase-orders/vendor/" + vendorid + "/total";
+        }
+    }
+
+    // The PO is created by the outbox dispatcher after the negotiation commits, so poll the event
+    // until it shows up; the recorded latency is the time until it became visible
+    private JsonNode awaitPurchaseOrder(int eventid) {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(10);
+        boolean ok = false;
+        try {
+            while (System.nanoTime() < deadline) {
+                HttpResponse<byte[]> response = client.send(get("/api/purchase-orders/event/" + eventid),
+                        HttpResponse.BodyHandlers.ofByteArray());
+                if (response.statusCode() / 100 != 2) {
+                    return null;
+                }
+                JsonNode orders = objectMapper.readTree(response.body());
+                if (orders != null && !orders.isEmpty()) {
+                    ok = true;
+                    return orders;
+                }
+                Thread.sleep(10);
+            }
+            return null;
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            steps.get("find PO by event").record(System.nanoTime() - start, ok);
+        }
+    }
+
+    // Returns the parsed body of a 2xx response, or null (recorded as an error) otherwise
+    private JsonNode call(String step, HttpRequest request) {
+        long start = System.nanoTime();
+        boolean ok = false;
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            ok = response.statusCode() / 100 == 2;
+            if (!ok) {
+                return null;
+            }
+            return response.body().length == 0 ? objectMapper.nullNode() : objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            ok = false;
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ok = false;
+            return null;
+        } finally {
+            steps.get(step).record(System.nanoTime() - start, ok);
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30)).GET().build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)).build();
+    }
+
+    private HttpRequest put(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(json)).build();
+    }
+
+    void report(long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.printf("%n%-27s %9s %8s %7s %9s %9s %9s %9s %9s %9s%n", "step", "count", "errors", "err %",
+                "per sec", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        steps.forEach((name, recorder) -> print(name, recorder, seconds));
+        System.out.println();
+        print("workflow (end to end)", workflows, seconds);
+        System.out.printf("%nCompleted workflows: %,d (%.1f/s over %.1fs)", workflows.count() - workflows.errors(),
+                (workflows.count() - workflows.errors()) / seconds, seconds);
+        if (shed.get() > 0) {
+            System.out.printf(", shed arrivals: %,d", shed.get());
+        }
+        System.out.println();
+    }
+
+    private static void print(String name, Recorder recorder, double seconds) {
+        long count = recorder.count();
+        if (count == 0) {
+            System.out.printf("%-27s %9d%n", name, 0);
+            return;
+        }
+        long[] sorted = recorder.sorted();
+        System.out.printf("%-27s %,9d %,8d %6.2f%% %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", name, count,
+                recorder.errors(), 100.0 * recorder.errors() / count, count / seconds,
+                percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99), percentile(sorted, 99.9),
+                sorted[sorted.length - 1] / 1_000_000.0);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+
+    // Latencies in nanoseconds; a run holds at most a few million samples
+    private static final class Recorder {
+        private long[] samples = new long[1024];
+        private int size;
+        private long errors;
+
+        synchronized void record(long nanos, boolean ok) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        synchronized long count() {
+            return size;
+        }
+
+        synchronized long errors() {
+            return errors;
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(samples, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
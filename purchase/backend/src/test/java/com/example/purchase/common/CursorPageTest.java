@@ -0,0 +1,74 @@
+package com.example.purchase.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CursorPageTest {
+
+	@Test
+	void cursorRoundTripsTheLastId() {
+		for (int id : new int[] {1, 42, Integer.MAX_VALUE}) {
+			assertEquals(id, CursorPage.decodeCursor(CursorPage.encodeCursor(id)));
+		}
+	}
+
+	@Test
+	void cursorIsUrlSafeWithoutPadding() {
+		String cursor = CursorPage.encodeCursor(1234567);
+		assertEquals(cursor, cursor.replaceAll("[^A-Za-z0-9_-]", ""));
+	}
+
+	@Test
+	void missingCursorStartsFromTheBeginning() {
+		assertEquals(0, CursorPage.decodeCursor(null));
+		assertEquals(0, CursorPage.decodeCursor(""));
+		assertEquals(0, CursorPage.decodeCursor("  "));
+	}
+
+	@Test
+	void invalidCursorsAreRejected() {
+		for (String cursor : new String[] {"not base64!", encode("7"), encode("id:"), encode("id:abc"),
+				encode("k:amount:asc:5:7")}) {
+			IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+					() -> CursorPage.decodeCursor(cursor));
+			assertEquals("Invalid cursor: " + cursor, e.getMessage());
+		}
+	}
+
+	@Test
+	void sizeIsClamped() {
+		assertEquals(CursorPage.DEFAULT_SIZE, CursorPage.clampSize(0));
+		assertEquals(CursorPage.DEFAULT_SIZE, CursorPage.clampSize(-3));
+		assertEquals(10, CursorPage.clampSize(10));
+		assertEquals(CursorPage.MAX_SIZE, CursorPage.clampSize(CursorPage.MAX_SIZE + 1));
+		assertEquals(11, CursorPage.limit(10).getPageSize());
+	}
+
+	@Test
+	void extraRowYieldsCursorToLastItemOnPage() {
+		CursorPage<Integer> page = CursorPage.of(List.of(3, 5, 8), 2, Function.identity(), Function.identity(), 9L);
+
+		assertEquals(List.of(3, 5), page.getItems());
+		assertEquals(5, CursorPage.decodeCursor(page.getNextCursor()));
+		assertEquals(2, page.getSize());
+		assertEquals(9L, page.getTotal());
+	}
+
+	@Test
+	void lastPageHasNoCursor() {
+		assertNull(CursorPage.of(List.of(3, 5), 2, Function.identity(), Function.identity(), null).getNextCursor());
+		assertNull(CursorPage.of(List.<Integer>of(), 2, Function.identity(), Function.identity(), null).getNextCursor());
+	}
+
+	private static String encode(String raw) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
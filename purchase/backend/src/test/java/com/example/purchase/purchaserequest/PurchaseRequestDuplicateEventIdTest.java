@@ -0,0 +1,91 @@
+package com.example.purchase.purchaserequest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Event IDs are unique per purchase request: a duplicate is a 409 whether it arrives alone or in a batch
+@SpringBootTest
+@AutoConfigureMockMvc
+class PurchaseRequestDuplicateEventIdTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void singleCreateWithExistingEventIdIsConflict() throws Exception {
+		int eventid = newEventId();
+		create(eventid).andExpect(status().isCreated());
+
+		create(eventid).andExpect(status().isConflict());
+	}
+
+	@Test
+	void bulkCreateOfOnlyExistingEventIdsIsConflict() throws Exception {
+		int eventid = newEventId();
+		create(eventid).andExpect(status().isCreated());
+
+		bulk(eventid).andExpect(status().isConflict())
+				.andExpect(jsonPath("$.succeeded").value(0))
+				.andExpect(jsonPath("$.results[0].status").value(409));
+	}
+
+	@Test
+	void bulkCreateWithDuplicateWithinBatchReportsRowConflict() throws Exception {
+		int eventid = newEventId();
+
+		bulk(eventid, eventid).andExpect(status().isOk())
+				.andExpect(jsonPath("$.succeeded").value(1))
+				.andExpect(jsonPath("$.failed").value(1))
+				.andExpect(jsonPath("$.results[0].status").value(201))
+				.andExpect(jsonPath("$.results[1].status").value(409));
+	}
+
+	@Test
+	void bulkCreateMixingNewAndExistingEventIdsCreatesTheNewRows() throws Exception {
+		int existing = newEventId();
+		int fresh = newEventId();
+		create(existing).andExpect(status().isCreated());
+
+		bulk(existing, fresh).andExpect(status().isOk())
+				.andExpect(jsonPath("$.succeeded").value(1))
+				.andExpect(jsonPath("$.results[0].status").value(409))
+				.andExpect(jsonPath("$.results[1].status").value(201));
+	}
+
+	private ResultActions create(int eventid) throws Exception {
+		return mockMvc.perform(post("/api/purchase-requests")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(json(eventid)));
+	}
+
+	private ResultActions bulk(int... eventids) throws Exception {
+		StringBuilder body = new StringBuilder("[");
+		for (int i = 0; i < eventids.length; i++) {
+			body.append(i > 0 ? "," : "").append(json(eventids[i]));
+		}
+		return mockMvc.perform(post("/api/purchase-requests/bulk")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(body.append("]").toString()));
+	}
+
+	private static String json(int eventid) {
+		return "{\"eventid\":" + eventid + ",\"eventname\":\"Event " + eventid + "\",\"vendorid\":42,"
+				+ "\"vendorname\":\"Vendor\",\"cdsid\":\"tester\",\"allocatedamount\":100.0,\"prstatus\":\"PENDING\"}";
+	}
+
+	// Random so the tests can share one context (and database) with the other test classes
+	private static int newEventId() {
+		return ThreadLocalRandom.current().nextInt(1_000_000, Integer.MAX_VALUE);
+	}
+}
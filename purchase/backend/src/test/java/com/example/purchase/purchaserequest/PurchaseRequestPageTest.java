@@ -0,0 +1,75 @@
+package com.example.purchase.purchaserequest;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Keyset pages (?size=) over the API: following nextCursor visits every row once, bad cursors are a 400
+@SpringBootTest
+@AutoConfigureMockMvc
+class PurchaseRequestPageTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void followingCursorsVisitsEveryRowOnceInIdOrder() throws Exception {
+		int vendorid = ThreadLocalRandom.current().nextInt(1_000_000, Integer.MAX_VALUE);
+		List<Integer> created = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			created.add(create(vendorid));
+		}
+
+		List<Integer> seen = new ArrayList<>();
+		String cursor = null;
+		int pages = 0;
+		do {
+			String body = mockMvc.perform(get("/api/purchase-requests/vendor/{vendorid}", vendorid)
+							.param("size", "2").param("withTotal", "true")
+							.param("cursor", cursor == null ? "" : cursor))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.total").value(5))
+					.andReturn().getResponse().getContentAsString();
+			seen.addAll(JsonPath.read(body, "$.items[*].prid"));
+			cursor = JsonPath.read(body, "$.nextCursor");
+			pages++;
+		} while (cursor != null);
+
+		assertEquals(created, seen);
+		assertEquals(3, pages);
+	}
+
+	@Test
+	void invalidCursorIsBadRequest() throws Exception {
+		mockMvc.perform(get("/api/purchase-requests").param("size", "2").param("cursor", "bad"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message", startsWith("Invalid cursor")));
+	}
+
+	private int create(int vendorid) throws Exception {
+		int eventid = ThreadLocalRandom.current().nextInt(1_000_000, Integer.MAX_VALUE);
+		String body = mockMvc.perform(post("/api/purchase-requests")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"eventid\":" + eventid + ",\"eventname\":\"Paging\",\"vendorid\":" + vendorid
+								+ ",\"vendorname\":\"Vendor\",\"cdsid\":\"tester\",\"allocatedamount\":10.0,"
+								+ "\"prstatus\":\"PENDING\"}"))
+				.andExpect(status().isCreated())
+				.andReturn().getResponse().getContentAsString();
+		return JsonPath.read(body, "$.prid");
+	}
+}
@@ -0,0 +1,26 @@
+// Criteria for the backend /search endpoints; unset fields are not sent
+export interface SearchCriteria {
+  status?: string;
+  vendorid?: number;
+  eventid?: number;
+  cdsid?: string;
+  eventname?: string;
+  vendorname?: string;
+  from?: string;       // yyyy-MM-dd
+  to?: string;         // yyyy-MM-dd, inclusive
+  minAmount?: number;
+  maxAmount?: number;
+  sort?: 'id' | 'date' | 'amount';
+  direction?: 'asc' | 'desc';
+  size?: number;
+  cursor?: string;
+  withTotal?: boolean;
+}
+
+// One keyset page; pass nextCursor back as cursor to get the following page
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor?: string;
+  size: number;
+  total?: number;
+}
@@ -1,8 +1,9 @@
 import { Injectable } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
+import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
 import { environment } from '../../../environments/environment';
 import { PurchaseOrderDTO } from '../models/purchase-order.model';
+import { CursorPage, SearchCriteria } from '../models/search.model';
 
 @Injectable({
   providedIn: 'root'
@@ -16,6 +17,17 @@ export class PurchaseOrderService {
     return this.http.get<PurchaseOrderDTO[]>(this.apiUrl);
   }
 
+  // Filtered, sorted and paginated on the server
+  searchPurchaseOrders(criteria: SearchCriteria): Observable<CursorPage<PurchaseOrderDTO>> {
+    let params = new HttpParams();
+    Object.entries(criteria).forEach(([key, value]) => {
+      if (value !== undefined && value !== null && value !== '') {
+        params = params.set(key, String(value));
+      }
+    });
+    return this.http.get<CursorPage<PurchaseOrderDTO>>(`${this.apiUrl}/search`, { params });
+  }
+
   getPurchaseOrderById(id: number): Observable<PurchaseOrderDTO> {
     return this.http.get<PurchaseOrderDTO>(`${this.apiUrl}/${id}`);
   }
@@ -31,4 +43,14 @@ export class PurchaseOrderService {
   deletePurchaseOrder(id: number): Observable<void> {
     return this.http.delete<void>(`${this.apiUrl}/${id}`);
   }
+
+  // USD to INR rate in force on a date (yyyy-MM-dd); the server applies the same rate on save
+  getUsdToInrRate(date?: string): Observable<{ date: string; usdToInr: number }> {
+    let params = new HttpParams();
+    if (date) {
+      params = params.set('date', date);
+    }
+    return this.http.get<{ date: string; usdToInr: number }>(
+      `${environment.apiUrl}/exchange-rates/usd-inr`, { params });
+  }
 }
@@ -33,7 +33,7 @@ export class PurchaseOrderFormComponent implements OnInit {
   purchaseOrderId: number | null = null;
   statusOptions = Object.values(PurchaseOrderStatus);
   submitted = false;
-  exchangeRate = 83.5; // INR to USD rate
+  exchangeRate = 83.0; // INR per USD on the order date, loaded from the server
 
   constructor(
     private purchaseOrderService: PurchaseOrderService,
@@ -59,9 +59,25 @@ export class PurchaseOrderFormComponent implements OnInit {
     if (!this.isEditMode && !this.isViewMode) {
       const today = new Date();
       this.purchaseOrder.orderdate = today.toISOString().split('T')[0];
+      this.loadExchangeRate();
     }
   }
 
+  loadExchangeRate(): void {
+    this.purchaseOrderService.getUsdToInrRate(this.purchaseOrder.orderdate || undefined).subscribe({
+      next: (rate) => {
+        this.exchangeRate = rate.usdToInr;
+      },
+      error: (error) => {
+        console.error('Error loading exchange rate:', error);
+      }
+    });
+  }
+
+  onOrderDateChange(): void {
+    this.loadExchangeRate();
+  }
+
   loadPurchaseOrder(id: number): void {
     this.purchaseOrderService.getPurchaseOrderById(id).subscribe({
       next: (data) => {
@@ -70,6 +86,7 @@ export class PurchaseOrderFormComponent implements OnInit {
           this.purchaseOrder.orderdate = new Date(this.purchaseOrder.orderdate)
             .toISOString().split('T')[0];
         }
+        this.loadExchangeRate();
       },
       error: (error) => {
         console.error('Error loading purchase order:', error);
@@ -1,10 +1,13 @@
-import { Component, OnInit } from '@angular/core';
+import { Component, OnDestroy, OnInit } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { FormsModule } from '@angular/forms';
 import { Router } from '@angular/router';
 import { ToastrService } from 'ngx-toastr';
 import { PurchaseOrderService } from '../../../core/services/purchase-order.service';
 import { PurchaseOrderDTO } from '../../../core/models/purchase-order.model';
+import { SearchCriteria } from '../../../core/models/search.model';
+import { Subject, Subscription, of } from 'rxjs';
+import { catchError, debounceTime, switchMap } from 'rxjs/operators';
 import jsPDF from 'jspdf';
 import autoTable from 'jspdf-autotable';
 
@@ -15,10 +18,12 @@ import autoTable from 'jspdf-autotable';
   templateUrl: './purchase-order-list.component.html',
   styleUrl: './purchase-order-list.component.css'
 })
-export class PurchaseOrderListComponent implements OnInit {
-  purchaseOrders: PurchaseOrderDTO[] = [];
+export class PurchaseOrderListComponent implements OnInit, OnDestroy {
   filteredOrders: PurchaseOrderDTO[] = [];
+  totalOrders = 0;
+  nextCursor?: string;
   loading = false;
+  loadingMore = false;
 
     // Filter properties
   filterStatus: string = '';
@@ -29,6 +34,12 @@ export class PurchaseOrderListComponent implements OnInit {
   // Sort properties
   sortOrder: 'asc' | 'desc' = 'desc'; // Default: newest first
 
+  // Rows fetched per request; further pages are loaded on demand
+  private readonly pageSize = 100;
+  // Filter changes (typing included) are debounced and superseded requests are dropped
+  private readonly filterChanges = new Subject<void>();
+  private readonly subscription = new Subscription();
+
   // Email configuration
   ldEmail: string = 'ak82@ford.com'; // L&D email
   vendorEmail: string = 'ka35@ford.com'; // Vendor email
@@ -41,36 +52,73 @@ export class PurchaseOrderListComponent implements OnInit {
   ) { }
 
   ngOnInit(): void {
+    this.subscription.add(this.filterChanges.pipe(
+      debounceTime(300),
+      switchMap(() => {
+        this.loading = true;
+        return this.purchaseOrderService.searchPurchaseOrders(this.criteria()).pipe(
+          catchError(error => {
+            console.error('Error loading purchase orders:', error);
+            this.toastr.error('Failed to load purchase orders', 'Error');
+            return of(null);
+          })
+        );
+      })
+    ).subscribe(page => {
+      if (page) {
+        this.filteredOrders = page.items;
+        this.totalOrders = page.total ?? page.items.length;
+        this.nextCursor = page.nextCursor;
+      }
+      this.loading = false;
+    }));
     this.loadPurchaseOrders();
   }
 
+  ngOnDestroy(): void {
+    this.subscription.unsubscribe();
+  }
+
+  // Filtering, sorting and paging happen on the server (GET /purchase-orders/search)
+  private criteria(cursor?: string): SearchCriteria {
+    return {
+      status: this.filterStatus,
+      eventname: this.filterEventName.trim(),
+      vendorname: this.filterVendorName.trim(),
+      sort: 'date',
+      direction: this.sortOrder,
+      size: this.pageSize,
+      cursor,
+      withTotal: !cursor
+    };
+  }
+
   loadPurchaseOrders(): void {
-    this.loading = true;
-    this.purchaseOrderService.getAllPurchaseOrders().subscribe({
-      next: (data) => {
-        this.purchaseOrders = data;
-        this.filteredOrders = data;
-        this.sortByDate(); // Apply default sort
-        this.loading = false;
+    this.filterChanges.next();
+  }
+
+  // Append the next page of the current search
+  loadMore(): void {
+    if (!this.nextCursor || this.loadingMore) {
+      return;
+    }
+    this.loadingMore = true;
+    this.purchaseOrderService.searchPurchaseOrders(this.criteria(this.nextCursor)).subscribe({
+      next: (page) => {
+        this.filteredOrders = this.filteredOrders.concat(page.items);
+        this.nextCursor = page.nextCursor;
+        this.loadingMore = false;
       },
       error: (error) => {
         console.error('Error loading purchase orders:', error);
         this.toastr.error('Failed to load purchase orders', 'Error');
-        this.loading = false;
+        this.loadingMore = false;
       }
     });
   }
 
     applyFilters(): void {
-    this.filteredOrders = this.purchaseOrders.filter(order => {
-      const matchesStatus = !this.filterStatus || order.po_status === this.filterStatus;
-      const matchesEventName = !this.filterEventName || 
-        order.eventname.toLowerCase().includes(this.filterEventName.toLowerCase());
-      const matchesVendorName = !this.filterVendorName || 
-        order.vendorname.toLowerCase().includes(this.filterVendorName.toLowerCase());
-      return matchesStatus && matchesEventName && matchesVendorName;
-    });
-    this.sortByDate(); // Re-apply sort after filtering
+    this.loadPurchaseOrders();
   }
 
 
@@ -78,28 +126,17 @@ export class PurchaseOrderListComponent implements OnInit {
     this.filterStatus = '';
     this.filterEventName = '';
     this.filterVendorName = '';
-    this.filteredOrders = this.purchaseOrders;
-    this.sortByDate(); // Re-apply sort
+    this.loadPurchaseOrders();
     this.toastr.info('Filters cleared', 'Info');
   }
 
-
-  sortByDate(): void {
-    this.filteredOrders.sort((a, b) => {
-      const dateA = new Date(a.orderdate).getTime();
-      const dateB = new Date(b.orderdate).getTime();
-
-      if (this.sortOrder === 'asc') {
-        return dateA - dateB; // Oldest first
-      } else {
-        return dateB - dateA; // Newest first
-      }
-    });
-  }
-
   toggleSortOrder(): void {
     this.sortOrder = this.sortOrder === 'asc' ? 'desc' : 'asc';
-    this.sortByDate();
+    this.loadPurchaseOrders();
+  }
+
+  hasFilters(): boolean {
+    return !!(this.filterStatus || this.filterEventName.trim() || this.filterVendorName.trim());
   }
 
   createNew(): void {